@@ -0,0 +1,133 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.cache.JdbiCache;
+import org.jdbi.v3.core.cache.JdbiCacheBuilder;
+import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheBuilder;
+import org.jdbi.v3.core.cache.internal.StripedJdbiCacheBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the default (LRU) cache with the striped cache. Hits use a key set that fits into the cache,
+ * misses use a key set that is ten times larger than the cache so that most lookups create and evict entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class JdbiCacheBenchmark {
+
+    private static final int CACHE_SIZE = 1_000;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(JdbiCacheBenchmark.class.getSimpleName())
+            .forks(1)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Param({"default", "striped"})
+    public String implementation;
+
+    private JdbiCache<String, String> cache;
+
+    private String[] hitKeys;
+    private String[] missKeys;
+
+    @Setup
+    public void setup() {
+        JdbiCacheBuilder builder = "striped".equals(implementation)
+            ? StripedJdbiCacheBuilder.builder()
+            : DefaultJdbiCacheBuilder.builder();
+
+        cache = builder.maxSize(CACHE_SIZE).buildWithLoader(key -> "select * from " + key);
+
+        hitKeys = new String[CACHE_SIZE / 2];
+        for (int i = 0; i < hitKeys.length; i++) {
+            hitKeys[i] = "hit_" + i;
+            cache.get(hitKeys[i]);
+        }
+
+        missKeys = new String[CACHE_SIZE * 10];
+        for (int i = 0; i < missKeys.length; i++) {
+            missKeys[i] = "miss_" + i;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String hit01() {
+        return hit();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String hit08() {
+        return hit();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String hit64() {
+        return hit();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String miss01() {
+        return miss();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String miss08() {
+        return miss();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String miss64() {
+        return miss();
+    }
+
+    private String hit() {
+        return cache.get(hitKeys[ThreadLocalRandom.current().nextInt(hitKeys.length)]);
+    }
+
+    private String miss() {
+        return cache.get(missKeys[ThreadLocalRandom.current().nextInt(missKeys.length)]);
+    }
+}
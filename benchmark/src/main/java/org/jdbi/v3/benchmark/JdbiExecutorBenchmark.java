@@ -0,0 +1,114 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.HandleScope;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.async.JdbiExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares a fixed thread pool executor with the virtual thread executor. Each operation submits a burst of requests
+ * that each run a query and then wait a bit (simulating network latency or other blocking work) while holding the handle.
+ * Both executors allow the same number of concurrent connections.
+ * <br>
+ * The virtual thread executor requires Java 21 or later.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class JdbiExecutorBenchmark {
+
+    private static final int CONNECTIONS = 8;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(JdbiExecutorBenchmark.class.getSimpleName())
+            .forks(1)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Param({"fixed", "virtual"})
+    public String executorType;
+
+    @Param({"100", "1000"})
+    public int requests;
+
+    private Handle keepAlive;
+    private ExecutorService threadPool;
+    private JdbiExecutor jdbiExecutor;
+
+    @Setup
+    public void setup() {
+        Jdbi jdbi = Jdbi.create("jdbc:h2:mem:" + UUID.randomUUID());
+        keepAlive = jdbi.open();
+        keepAlive.execute("create table something (id integer primary key, name varchar(50))");
+        keepAlive.execute("insert into something (id, name) values (1, 'one')");
+
+        if ("virtual".equals(executorType)) {
+            jdbi.setHandleScope(HandleScope.threadKeyed());
+            jdbiExecutor = JdbiExecutor.createVirtual(jdbi, CONNECTIONS);
+        } else {
+            threadPool = Executors.newFixedThreadPool(CONNECTIONS);
+            jdbiExecutor = JdbiExecutor.create(jdbi, threadPool);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (threadPool != null) {
+            threadPool.shutdown();
+        }
+        keepAlive.close();
+    }
+
+    @Benchmark
+    public void burst() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[requests];
+        for (int i = 0; i < requests; i++) {
+            futures[i] = jdbiExecutor.withHandle(handle -> {
+                String name = handle.createQuery("select name from something where id = 1").mapTo(String.class).one();
+                Thread.sleep(1);
+                return name;
+            }).toCompletableFuture();
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.mapper.reflect.BeanMapper;
+import org.jdbi.v3.core.mapper.reflect.ConstructorMapper;
+import org.jdbi.v3.core.mapper.reflect.FieldMapper;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Maps the same result set with a hand written row mapper and with the reflection based mappers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class ReflectionMapperBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final String QUERY = "select id, name, amount, created, active from rows";
+
+    private static final RowMapper<ImmutableRow> HANDWRITTEN = (rs, ctx) ->
+        new ImmutableRow(rs.getInt(1), rs.getString(2), rs.getDouble(3), rs.getLong(4), rs.getBoolean(5));
+    private static final RowMapper<ImmutableRow> CONSTRUCTOR_MAPPER = ConstructorMapper.of(ImmutableRow.class);
+    private static final RowMapper<FieldRow> FIELD_MAPPER = FieldMapper.of(FieldRow.class);
+    private static final RowMapper<BeanRow> BEAN_MAPPER = BeanMapper.of(BeanRow.class);
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(ReflectionMapperBenchmark.class.getSimpleName())
+            .forks(1)
+            .build();
+        new Runner(options).run();
+    }
+
+    private Handle handle;
+
+    @Setup
+    public void setup() {
+        handle = Jdbi.create("jdbc:h2:mem:" + UUID.randomUUID()).open();
+        handle.execute("create table rows (id integer primary key, name varchar(50), amount double, created bigint, active boolean)");
+
+        PreparedBatch batch = handle.prepareBatch("insert into rows (id, name, amount, created, active) values (?, ?, ?, ?, ?)");
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(i, "name" + i, i * 1.5d, System.currentTimeMillis(), i % 2 == 0);
+        }
+        batch.execute();
+    }
+
+    @TearDown
+    public void tearDown() {
+        handle.close();
+    }
+
+    @Benchmark
+    public List<ImmutableRow> handwritten() {
+        return handle.createQuery(QUERY).map(HANDWRITTEN).list();
+    }
+
+    @Benchmark
+    public List<ImmutableRow> constructorMapper() {
+        return handle.createQuery(QUERY).map(CONSTRUCTOR_MAPPER).list();
+    }
+
+    @Benchmark
+    public List<FieldRow> fieldMapper() {
+        return handle.createQuery(QUERY).map(FIELD_MAPPER).list();
+    }
+
+    @Benchmark
+    public List<BeanRow> beanMapper() {
+        return handle.createQuery(QUERY).map(BEAN_MAPPER).list();
+    }
+
+    public static class ImmutableRow {
+        private final int id;
+        private final String name;
+        private final double amount;
+        private final long created;
+        private final boolean active;
+
+        public ImmutableRow(int id, String name, double amount, long created, boolean active) {
+            this.id = id;
+            this.name = name;
+            this.amount = amount;
+            this.created = created;
+            this.active = active;
+        }
+
+        @Override
+        public String toString() {
+            return id + name + amount + created + active;
+        }
+    }
+
+    public static class FieldRow {
+        public int id;
+        public String name;
+        public double amount;
+        public long created;
+        public boolean active;
+    }
+
+    public static class BeanRow {
+        private int id;
+        private String name;
+        private double amount;
+        private long created;
+        private boolean active;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public double getAmount() {
+            return amount;
+        }
+
+        public void setAmount(double amount) {
+            this.amount = amount;
+        }
+
+        public long getCreated() {
+            return created;
+        }
+
+        public void setCreated(long created) {
+            this.created = created;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.cache.JdbiCache;
+import org.jdbi.v3.core.cache.JdbiCacheBuilder;
+import org.jdbi.v3.core.cache.JdbiCacheLoader;
+import org.jdbi.v3.core.statement.ColonPrefixSqlParser;
+import org.jdbi.v3.core.statement.HashPrefixSqlParser;
+import org.jdbi.v3.core.statement.ParsedSql;
+import org.jdbi.v3.core.statement.SqlParser;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Parses long statements, as created e.g. by bindList, without the parsed sql cache, so every call is a cache miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class SqlParserBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(SqlParserBenchmark.class.getSimpleName())
+            .forks(1)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Param({"10", "100", "1000"})
+    public int parameters;
+
+    private SqlParser colonParser;
+    private SqlParser hashParser;
+
+    private String colonSql;
+    private String hashSql;
+
+    private Handle handle;
+    private StatementContext ctx;
+
+    @Setup
+    public void setup() {
+        colonParser = new ColonPrefixSqlParser(new UncachedBuilder());
+        hashParser = new HashPrefixSqlParser(new UncachedBuilder());
+
+        colonSql = createStatement(':');
+        hashSql = createStatement('#');
+
+        handle = Jdbi.create("jdbc:h2:mem:sqlparser").open();
+        ctx = handle.createQuery("select 1").getContext();
+    }
+
+    @TearDown
+    public void tearDown() {
+        handle.close();
+    }
+
+    @Benchmark
+    public ParsedSql colonPrefix() {
+        return colonParser.parse(colonSql, ctx);
+    }
+
+    @Benchmark
+    public ParsedSql hashPrefix() {
+        return hashParser.parse(hashSql, ctx);
+    }
+
+    private String createStatement(char prefix) {
+        StringBuilder sql = new StringBuilder("/* generated statement */ select id, name, 'it''s a literal' as quoted, \"Mixed Case\" from something\n")
+            .append("where type::text = 'x' -- the type\n")
+            .append("and id in (");
+        for (int i = 0; i < parameters; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(prefix).append("__ids_").append(i);
+        }
+        return sql.append(')').toString();
+    }
+
+    /** Does not cache anything, so that the parser runs for every call. */
+    private static final class UncachedBuilder implements JdbiCacheBuilder {
+
+        @Override
+        public <K, V> JdbiCache<K, V> build() {
+            return buildWithLoader(null);
+        }
+
+        @Override
+        public <K, V> JdbiCache<K, V> buildWithLoader(JdbiCacheLoader<K, V> cacheLoader) {
+            return new JdbiCache<K, V>() {
+                @Override
+                public V get(K key) {
+                    return cacheLoader.create(key);
+                }
+
+                @Override
+                public V getWithLoader(K key, JdbiCacheLoader<K, V> loader) {
+                    return loader.create(key);
+                }
+
+                @Override
+                public <T> T getStats() {
+                    return null;
+                }
+            };
+        }
+
+        @Override
+        public JdbiCacheBuilder maxSize(int maxSize) {
+            return this;
+        }
+    }
+}
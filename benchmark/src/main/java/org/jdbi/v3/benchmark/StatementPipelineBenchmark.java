@@ -0,0 +1,272 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.DefinedAttributeTemplateEngine;
+import org.jdbi.v3.core.statement.ParsedSql;
+import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.core.statement.SqlParser;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.core.statement.StatementBuilder;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.TemplateEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the stages of executing a statement against an in-memory H2 database one at a time: rendering the template,
+ * parsing the named parameters, creating the JDBC statement, binding an argument, executing the statement and mapping
+ * the rows. The {@code jdbi*} benchmarks run the whole pipeline, the {@code jdbc*} benchmarks run the same statements
+ * with plain JDBC as a baseline.
+ * <br>
+ * The difference between a jdbi benchmark and its jdbc baseline is the overhead that Jdbi adds; the stage benchmarks
+ * show where it is spent. {@link #main(String[])} enables the GC profiler (the same as {@code -prof gc}), so
+ * {@code gc.alloc.rate.norm} reports the bytes allocated per operation for every stage.
+ * <br>
+ * Parsing uses the configured parser, so it is a cache hit. See {@link SqlParserBenchmark} for cache misses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class StatementPipelineBenchmark {
+
+    private static final String TEMPLATE = "select id, name, amount from <table> where id = :id";
+    private static final String SQL = "select id, name, amount from something where id = :id";
+    private static final String JDBC_SQL = "select id, name, amount from something where id = ?";
+    private static final String LIST_SQL = "select id, name, amount from something where id <= :max order by id";
+    private static final String JDBC_LIST_SQL = "select id, name, amount from something where id <= ? order by id";
+
+    private static final int ROWS = 100;
+
+    private static final RowMapper<Something> MAPPER =
+        (rs, ctx) -> new Something(rs.getInt("id"), rs.getString("name"), rs.getLong("amount"));
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(StatementPipelineBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+        new Runner(options).run();
+    }
+
+    private Handle handle;
+    private Connection connection;
+
+    private Query query;
+    private StatementContext ctx;
+    private TemplateEngine templateEngine;
+    private SqlParser sqlParser;
+    private StatementBuilder statementBuilder;
+    private String parsedSql;
+
+    private PreparedStatement preparedStatement;
+    private Argument argument;
+
+    @Setup
+    public void setup() throws SQLException {
+        Jdbi jdbi = Jdbi.create("jdbc:h2:mem:" + UUID.randomUUID());
+        jdbi.define("table", "something");
+
+        handle = jdbi.open();
+        handle.execute("create table something (id integer primary key, name varchar(50), amount bigint)");
+        for (int i = 1; i <= ROWS; i++) {
+            handle.execute("insert into something (id, name, amount) values (?, ?, ?)", i, "name" + i, i * 100L);
+        }
+
+        connection = handle.getConnection();
+        query = handle.createQuery(TEMPLATE);
+        ctx = query.getContext();
+        templateEngine = new DefinedAttributeTemplateEngine();
+        sqlParser = ctx.getConfig(SqlStatements.class).getSqlParser();
+        statementBuilder = handle.getStatementBuilder();
+        parsedSql = sqlParser.parse(SQL, ctx).getSql();
+
+        preparedStatement = connection.prepareStatement(JDBC_SQL);
+        argument = ctx.findArgumentFor(Integer.class, 1).orElseThrow(IllegalStateException::new);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        preparedStatement.close();
+        query.close();
+        handle.close();
+    }
+
+    @Benchmark
+    public String renderTemplate() {
+        return templateEngine.render(TEMPLATE, ctx);
+    }
+
+    @Benchmark
+    public ParsedSql parseSql() {
+        return sqlParser.parse(SQL, ctx);
+    }
+
+    @Benchmark
+    public void createStatement(Blackhole blackhole) throws SQLException {
+        PreparedStatement stmt = statementBuilder.create(connection, parsedSql, ctx);
+        blackhole.consume(stmt);
+        statementBuilder.close(connection, parsedSql, stmt);
+    }
+
+    @Benchmark
+    public void bindArgument() throws SQLException {
+        argument.apply(1, preparedStatement, ctx);
+    }
+
+    @Benchmark
+    public void jdbcBindArgument() throws SQLException {
+        preparedStatement.setInt(1, 1);
+    }
+
+    @Benchmark
+    public boolean executeStatement() {
+        return handle.createQuery(SQL)
+            .bind("id", 1)
+            .execute((supplier, context) -> {
+                // the supplier executes the statement; only the result set is read here
+                try (StatementContext unused = context;
+                    ResultSet rs = supplier.get().getResultSet()) {
+                    return rs.next();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+    }
+
+    @Benchmark
+    public boolean jdbcExecuteStatement() throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(JDBC_SQL)) {
+            stmt.setInt(1, 1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    @Benchmark
+    public Something jdbiPointQuery() {
+        return handle.createQuery(SQL)
+            .bind("id", 1)
+            .map(MAPPER)
+            .one();
+    }
+
+    @Benchmark
+    public Something jdbcPointQuery() throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(JDBC_SQL)) {
+            stmt.setInt(1, 1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                return new Something(rs.getInt("id"), rs.getString("name"), rs.getLong("amount"));
+            }
+        }
+    }
+
+    @Benchmark
+    public void jdbiMapRows(Blackhole blackhole) {
+        handle.createQuery(LIST_SQL)
+            .bind("max", ROWS)
+            .map(MAPPER)
+            .forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void jdbiMapBeans(Blackhole blackhole) {
+        handle.createQuery(LIST_SQL)
+            .bind("max", ROWS)
+            .mapToBean(Something.class)
+            .forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void jdbcMapRows(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(JDBC_LIST_SQL)) {
+            stmt.setInt(1, ROWS);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    blackhole.consume(new Something(rs.getInt("id"), rs.getString("name"), rs.getLong("amount")));
+                }
+            }
+        }
+    }
+
+    public static class Something {
+        private int id;
+        private String name;
+        private long amount;
+
+        public Something() {}
+
+        Something(int id, String name, long amount) {
+            this.id = id;
+            this.name = name;
+            this.amount = amount;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public long getAmount() {
+            return amount;
+        }
+
+        public void setAmount(long amount) {
+            this.amount = amount;
+        }
+    }
+}
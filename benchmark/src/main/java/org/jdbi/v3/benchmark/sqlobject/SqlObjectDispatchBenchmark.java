@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark.sqlobject;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of dispatching a call through a SQL Object proxy. The methods do not access the database, so
+ * the numbers only contain the proxy dispatch, the extension context switch and the handler invocation.
+ * {@link #direct()} calls the same default method on a plain implementation as a baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class SqlObjectDispatchBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(SqlObjectDispatchBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .build();
+        new Runner(options).run();
+    }
+
+    private Handle handle;
+    private Dao attached;
+    private Dao direct;
+    private int value;
+
+    @Setup
+    public void setUp() {
+        Jdbi jdbi = Jdbi.create("jdbc:h2:mem:" + UUID.randomUUID());
+        jdbi.installPlugin(new SqlObjectPlugin());
+
+        handle = jdbi.open();
+        attached = handle.attach(Dao.class);
+        direct = new Dao() {
+            @Override
+            public int select() {
+                return 1;
+            }
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        handle.close();
+    }
+
+    @Benchmark
+    public int direct() {
+        return direct.increment(value++);
+    }
+
+    @Benchmark
+    public int defaultMethod() {
+        return attached.increment(value++);
+    }
+
+    @Benchmark
+    public int objectMethod() {
+        return attached.hashCode();
+    }
+
+    @Benchmark
+    public Dao attach() {
+        return handle.attach(Dao.class);
+    }
+
+    public interface Dao {
+
+        @SqlQuery("select 1")
+        int select();
+
+        default int increment(int i) {
+            return i + 1;
+        }
+    }
+}
@@ -16,6 +16,7 @@ package org.jdbi.v3.core;
 import java.io.Closeable;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
@@ -40,12 +41,15 @@ import org.jdbi.v3.core.statement.MetaData;
 import org.jdbi.v3.core.statement.PreparedBatch;
 import org.jdbi.v3.core.statement.Query;
 import org.jdbi.v3.core.statement.Script;
+import org.jdbi.v3.core.statement.SqlStatements;
 import org.jdbi.v3.core.statement.StatementBuilder;
 import org.jdbi.v3.core.statement.Update;
+import org.jdbi.v3.core.statement.internal.OptionalEvent;
 import org.jdbi.v3.core.transaction.TransactionException;
 import org.jdbi.v3.core.transaction.TransactionHandler;
 import org.jdbi.v3.core.transaction.TransactionIsolationLevel;
 import org.jdbi.v3.core.transaction.UnableToManipulateTransactionIsolationLevelException;
+import org.jdbi.v3.meta.Alpha;
 import org.jdbi.v3.meta.Beta;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -70,6 +74,10 @@ public class Handle implements Closeable, Configurable<Handle> {
 
     private StatementBuilder statementBuilder;
 
+    private long connectionAcquisitionNanos;
+    private OptionalEvent handleEvent;
+    private boolean callbackHandle;
+
     // the fallback context. It is used when resetting the Handle state.
     private final ExtensionContext defaultExtensionContext;
 
@@ -109,7 +117,7 @@ public class Handle implements Closeable, Configurable<Handle> {
         this.currentExtensionContext = defaultExtensionContext;
 
         this.statementBuilder = statementBuilder;
-        this.handleListeners = getConfig().get(Handles.class).copyListeners();
+        this.handleListeners = getConfig().lookup(Handles.class).copyListeners();
 
         addCleanable(() -> statementBuilder.close(connection));
 
@@ -147,6 +155,48 @@ public class Handle implements Closeable, Configurable<Handle> {
         return connection;
     }
 
+    /**
+     * Returns the time it took to obtain the JDBC {@link Connection} for this handle from the {@link ConnectionFactory}.
+     * For a pooled data source this is the time spent waiting for a pooled connection. The value is set before any
+     * {@link org.jdbi.v3.core.spi.JdbiPlugin#customizeHandle(Handle)} method is called but is not yet available to
+     * {@link HandleListener#handleCreated(Handle)}.
+     *
+     * @return the connection acquisition time. Zero if the handle was not opened by {@link Jdbi#open()}.
+     * @since 3.50.0
+     */
+    @Beta
+    public Duration getConnectionAcquisitionTime() {
+        return Duration.ofNanos(connectionAcquisitionNanos);
+    }
+
+    void setConnectionAcquisitionNanos(long connectionAcquisitionNanos) {
+        this.connectionAcquisitionNanos = connectionAcquisitionNanos;
+    }
+
+    void setHandleEvent(OptionalEvent handleEvent) {
+        this.handleEvent = handleEvent;
+    }
+
+    void setCallbackHandle(boolean callbackHandle) {
+        this.callbackHandle = callbackHandle;
+    }
+
+    /**
+     * Returns true if statements created by this handle are attached to it for cleanup. A handle that Jdbi opened for a
+     * callback, e.g. {@link Jdbi#withHandle(HandleCallback)}, uses {@link SqlStatements#isAttachCallbackStatementsForCleanup()},
+     * all other handles use {@link SqlStatements#isAttachAllStatementsForCleanup()}.
+     *
+     * @return true if statements are attached to this handle for cleanup
+     * @since 3.50.0
+     */
+    @Alpha
+    public boolean isAttachStatementsForCleanup() {
+        final SqlStatements sqlStatements = getConfig().lookup(SqlStatements.class);
+        return callbackHandle
+            ? sqlStatements.isAttachCallbackStatementsForCleanup()
+            : sqlStatements.isAttachAllStatementsForCleanup();
+    }
+
     /**
      * Returns the current {@link StatementBuilder} which is used to create new JDBC {@link java.sql.Statement} objects.
      *
@@ -238,7 +288,7 @@ public class Handle implements Closeable, Configurable<Handle> {
         }
 
         // do this at call time, otherwise running the cleanables may affect the state of the other handle objects (e.g. the config)
-        final boolean doForceEndTransactions = this.forceEndTransactions && getConfig().get(Handles.class).isForceEndTransactions();
+        final boolean doForceEndTransactions = this.forceEndTransactions && getConfig().lookup(Handles.class).isForceEndTransactions();
 
         try {
             ThrowableSuppressor throwableSuppressor = new ThrowableSuppressor();
@@ -257,6 +307,10 @@ public class Handle implements Closeable, Configurable<Handle> {
             LOG.trace("Handle [{}] released", this);
 
             notifyHandleClosed();
+
+            if (handleEvent != null && handleEvent.shouldCommit()) {
+                JdbiHandleEvent.commit(handleEvent, connectionAcquisitionNanos);
+            }
         }
     }
 
@@ -863,7 +917,7 @@ public class Handle implements Closeable, Configurable<Handle> {
      * @return the new extension object bound to this handle
      */
     public <T> T attach(Class<T> extensionType) {
-        return getConfig(Extensions.class)
+        return getConfig().lookup(Extensions.class)
                 .findFor(extensionType, ConstantHandleSupplier.of(this))
                 .orElseThrow(() -> new NoSuchExtensionException(extensionType));
     }
@@ -14,7 +14,9 @@
 package org.jdbi.v3.core;
 
 import org.jdbi.v3.core.extension.HandleSupplier;
+import org.jdbi.v3.core.internal.ThreadKeyedHandleScope;
 import org.jdbi.v3.core.internal.ThreadLocalHandleScope;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Jdbi manages Handles to allow transaction nesting and extension
@@ -32,6 +34,18 @@ public interface HandleScope {
         return new ThreadLocalHandleScope();
     }
 
+    /**
+     * Returns a per-thread scope that does not use thread locals. This scope is recommended for
+     * short-lived virtual threads, as it does not allocate a thread local map on every thread.
+     *
+     * @return A {@link HandleScope} instance.
+     * @since 3.50.0
+     */
+    @Beta
+    static HandleScope threadKeyed() {
+        return new ThreadKeyedHandleScope();
+    }
+
     /**
      * Returns a {@link HandleSupplier} that provides a {@link org.jdbi.v3.core.Handle} in the given context.
      * @return A handle object or null.
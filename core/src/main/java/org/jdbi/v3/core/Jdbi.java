@@ -24,6 +24,7 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import javax.sql.DataSource;
 
+import org.jdbi.v3.core.async.BulkLoader;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.Configurable;
 import org.jdbi.v3.core.extension.ExtensionCallback;
@@ -34,15 +35,18 @@ import org.jdbi.v3.core.extension.HandleSupplier;
 import org.jdbi.v3.core.extension.NoSuchExtensionException;
 import org.jdbi.v3.core.internal.OnDemandExtensions;
 import org.jdbi.v3.core.internal.exceptions.Unchecked;
+import org.jdbi.v3.core.result.PartitionedQuery;
 import org.jdbi.v3.core.spi.JdbiPlugin;
 import org.jdbi.v3.core.statement.DefaultStatementBuilder;
-import org.jdbi.v3.core.statement.SqlStatements;
 import org.jdbi.v3.core.statement.StatementBuilder;
 import org.jdbi.v3.core.statement.StatementBuilderFactory;
+import org.jdbi.v3.core.statement.internal.JfrSupport;
+import org.jdbi.v3.core.statement.internal.OptionalEvent;
 import org.jdbi.v3.core.transaction.LocalTransactionHandler;
 import org.jdbi.v3.core.transaction.TransactionHandler;
 import org.jdbi.v3.core.transaction.TransactionIsolationLevel;
 import org.jdbi.v3.meta.Alpha;
+import org.jdbi.v3.meta.Beta;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -361,6 +365,8 @@ public class Jdbi implements Configurable<Jdbi> {
      */
     public Handle open() {
         try {
+            final OptionalEvent handleEvent = JfrSupport.newHandleEvent();
+            handleEvent.begin();
             final long start = System.nanoTime();
             @SuppressWarnings("PMD.CloseResource")
             Connection conn = Objects.requireNonNull(connectionFactory.openConnection(),
@@ -379,6 +385,8 @@ public class Jdbi implements Configurable<Jdbi> {
                         transactionhandler.get(),
                         cache,
                         conn);
+                h.setConnectionAcquisitionNanos(stop - start);
+                h.setHandleEvent(handleEvent);
 
                 for (JdbiPlugin p : plugins) {
                     h = p.customizeHandle(h);
@@ -415,8 +423,8 @@ public class Jdbi implements Configurable<Jdbi> {
         }
 
         try (Handle h = this.open()) {
-            SqlStatements sqlStatements = h.getConfig(SqlStatements.class);
-            sqlStatements.setAttachAllStatementsForCleanup(sqlStatements.isAttachCallbackStatementsForCleanup());
+            // kept on the handle, changing the configuration would fork it from the Jdbi configuration
+            h.setCallbackHandle(true);
 
             handleScope.set(ConstantHandleSupplier.of(h));
             return decoratedCallback.withHandle(h);
@@ -550,7 +558,7 @@ public class Jdbi implements Configurable<Jdbi> {
     private <R, E, X extends Exception> R callWithExtension(Class<E> extensionType,
                                                             ExtensionCallback<R, E, X> callback,
                                                             HandleSupplier handleSupplier) throws X {
-        E extension = getConfig(Extensions.class)
+        E extension = getConfig().lookup(Extensions.class)
             .findFor(extensionType, handleSupplier)
             .orElseThrow(() -> new NoSuchExtensionException(extensionType));
 
@@ -576,6 +584,32 @@ public class Jdbi implements Configurable<Jdbi> {
         });
     }
 
+    /**
+     * Creates a {@link BulkLoader} that loads rows with the given statement. The rows are split into chunks
+     * which are executed concurrently as prepared batches, each on its own handle.
+     *
+     * @param sql the statement to execute for each row
+     * @return a new {@link BulkLoader}
+     * @since 3.50.0
+     */
+    @Beta
+    public BulkLoader bulkLoader(String sql) {
+        return BulkLoader.create(this, sql);
+    }
+
+    /**
+     * Creates a {@link PartitionedQuery} that runs the given query once per partition, each on its own handle,
+     * and returns the union of all partitions as a parallel stream.
+     *
+     * @param sql the query, which must select a partition with named parameters
+     * @return a new {@link PartitionedQuery}
+     * @since 3.50.0
+     */
+    @Beta
+    public PartitionedQuery partitionedQuery(String sql) {
+        return PartitionedQuery.create(this, sql);
+    }
+
     /**
      * Creates an extension instance that uses the current {@link Jdbi} instance for database operations.
      *
@@ -589,10 +623,35 @@ public class Jdbi implements Configurable<Jdbi> {
         if (!extensionType.isInterface()) {
             throw new IllegalArgumentException("On-demand extensions are only supported for interfaces.");
         }
-        if (!getConfig(Extensions.class).hasExtensionFor(extensionType)) {
+        if (!getConfig().lookup(Extensions.class).hasExtensionFor(extensionType)) {
             throw new NoSuchExtensionException(extensionType);
         }
 
-        return getConfig(OnDemandExtensions.class).create(this, extensionType);
+        return getConfig().lookup(OnDemandExtensions.class).create(this, extensionType);
+    }
+
+    /**
+     * Prepares extension types ahead of their first use. For each type, the extension metadata is created, the
+     * configuration customizers are applied and the extension handlers are warmed, which locates and parses the SQL of
+     * SQL object methods and resolves their mappers.
+     * <br>
+     * The results are shared with handles that are created from this Jdbi as long as its configuration is not
+     * modified. Call this method after the Jdbi has been configured.
+     *
+     * @param extensionTypes the extension types to prepare
+     * @return this
+     * @throws NoSuchExtensionException if no {@link ExtensionFactory} is registered for one of the extension types
+     * @since 3.50.0
+     */
+    @Beta
+    public Jdbi warmUp(Class<?>... extensionTypes) {
+        // a copy of the configuration shares its config objects with all handles opened afterwards
+        final ConfigRegistry warmUpConfig = getConfig().createCopy();
+        final Extensions extensions = warmUpConfig.lookup(Extensions.class);
+
+        for (Class<?> extensionType : extensionTypes) {
+            extensions.warmUp(extensionType, warmUpConfig);
+        }
+        return this;
     }
 }
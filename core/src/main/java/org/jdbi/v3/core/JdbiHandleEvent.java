@@ -0,0 +1,35 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core;
+
+import jdk.jfr.Label;
+import org.jdbi.v3.core.statement.internal.OptionalEvent;
+
+@jdk.jfr.Category("jdbi")
+@jdk.jfr.Name(JdbiHandleEvent.NAME)
+@Label("Jdbi Handle")
+@jdk.jfr.Description("A handle from opening to close. The duration includes obtaining the connection.")
+public final class JdbiHandleEvent extends jdk.jfr.Event implements OptionalEvent {
+    public static final String NAME = "jdbi.handle";
+
+    @Label("Connection acquisition time")
+    @jdk.jfr.Timespan(jdk.jfr.Timespan.NANOSECONDS)
+    public long connectionAcquisitionTime;
+
+    static void commit(OptionalEvent handleEvent, long connectionAcquisitionNanos) {
+        final var evt = (JdbiHandleEvent) handleEvent;
+        evt.connectionAcquisitionTime = connectionAcquisitionNanos;
+        evt.commit();
+    }
+}
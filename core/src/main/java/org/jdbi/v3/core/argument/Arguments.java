@@ -28,6 +28,7 @@ import org.jdbi.v3.core.array.SqlArrayArgumentFactory;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.meta.Alpha;
 import org.jdbi.v3.meta.Beta;
 
 /**
@@ -47,6 +48,9 @@ public class Arguments implements JdbiConfig<Arguments> {
     private boolean bindingNullToPrimitivesPermitted = true;
     private boolean preparedArgumentsEnabled = true;
 
+    // identifies the registered factories and settings. Copies share it until they are modified.
+    private Object version = new Object();
+
     public Arguments(final ConfigRegistry registry) {
         factories = new CopyOnWriteArrayList<>();
         this.registry = registry;
@@ -77,6 +81,7 @@ public class Arguments implements JdbiConfig<Arguments> {
         untypedNullArgument = that.untypedNullArgument;
         bindingNullToPrimitivesPermitted = that.bindingNullToPrimitivesPermitted;
         preparedArgumentsEnabled = that.preparedArgumentsEnabled;
+        version = that.version;
     }
 
     @Override
@@ -102,6 +107,7 @@ public class Arguments implements JdbiConfig<Arguments> {
      */
     public Arguments register(final QualifiedArgumentFactory factory) {
         factories.add(0, factory);
+        version = new Object();
         return this;
     }
 
@@ -239,6 +245,19 @@ public class Arguments implements JdbiConfig<Arguments> {
      */
     public void setPreparedArgumentsEnabled(final boolean preparedArgumentsEnabled) {
         this.preparedArgumentsEnabled = preparedArgumentsEnabled;
+        version = new Object();
+    }
+
+    /**
+     * Returns an object that identifies the registered argument factories and settings of this configuration. Copies
+     * return the same object until they are modified, so it can be used to cache values that depend on the argument factories.
+     *
+     * @return an object that is compared by identity
+     * @since 3.50.0
+     */
+    @Alpha
+    public Object getVersion() {
+        return version;
     }
 
     @Override
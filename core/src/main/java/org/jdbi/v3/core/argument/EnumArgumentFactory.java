@@ -45,7 +45,7 @@ class EnumArgumentFactory implements QualifiedArgumentFactory {
     }
 
     private static <E extends Enum<E>> Optional<Argument> makeEnumArgument(QualifiedType<E> givenType, E value, ConfigRegistry config) {
-        boolean byName = EnumStrategy.BY_NAME == config.get(EnumStrategies.class).findStrategy(givenType);
+        boolean byName = EnumStrategy.BY_NAME == config.lookup(EnumStrategies.class).findStrategy(givenType);
 
         return byName
             ? byName(value, config)
@@ -77,6 +77,6 @@ class EnumArgumentFactory implements QualifiedArgumentFactory {
             return Optional.of(new NullArgument(nullType));
         }
 
-        return config.get(Arguments.class).findFor(attributeType, transform.apply(value));
+        return config.lookup(Arguments.class).findFor(attributeType, transform.apply(value));
     }
 }
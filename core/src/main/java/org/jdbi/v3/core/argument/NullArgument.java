@@ -43,7 +43,7 @@ public class NullArgument implements Argument {
     @Override
     public void apply(final int position, PreparedStatement statement, StatementContext ctx) throws SQLException {
         if (sqlType == null) {
-            ctx.getConfig(Arguments.class).getUntypedNullArgument().apply(position, statement, ctx);
+            ctx.getConfig().lookup(Arguments.class).getUntypedNullArgument().apply(position, statement, ctx);
         } else {
             statement.setNull(position, sqlType);
         }
@@ -28,7 +28,7 @@ class UntypedNullArgumentFactory implements ArgumentFactory.Preparable {
     @Override
     public Optional<Argument> build(Type expectedType, Object value, ConfigRegistry config) {
         return value == null
-                ? Optional.of(config.get(Arguments.class).getUntypedNullArgument())
+                ? Optional.of(config.lookup(Arguments.class).getUntypedNullArgument())
                 : Optional.empty();
     }
 }
@@ -78,7 +78,7 @@ public abstract class ObjectPropertyNamedArgumentFinder implements NamedArgument
             return getNestedArgumentFinder(typedValue);
         }
         if (parentName.endsWith("?")) {
-            return (n, c) -> Optional.of(c.getConfig(Arguments.class).getUntypedNullArgument());
+            return (n, c) -> Optional.of(c.getConfig().lookup(Arguments.class).getUntypedNullArgument());
         }
         throw new IllegalArgumentException(
             String.format("Trying to bind nested argument [%s], but found null value at [%s], may mark it as an optional with [%s]",
@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.array;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Renders the SQL expression that replaces the attribute of a list that is bound as a single SQL array with
+ * {@link org.jdbi.v3.core.statement.SqlStatement#bindListAsArray(String, java.lang.reflect.Type, java.util.List)}.
+ * The expression is used in place of the comma-separated list of parameters, so it must be valid inside an
+ * {@code in (...)} predicate unless the statement is written for a different expression.
+ *
+ * @see SqlArrayTypes#setListExpression(SqlArrayListExpression)
+ * @since 3.50.0
+ */
+@Beta
+@FunctionalInterface
+public interface SqlArrayListExpression {
+
+    /**
+     * Renders {@code select * from unnest(cast(:param as <type> array))}. Supported by e.g. PostgreSQL, H2 and HSQLDB.
+     * The cast lets the database resolve the element type when the statement is prepared. This is the default.
+     */
+    SqlArrayListExpression UNNEST = (parameter, typeName) -> typeName == null
+        ? "select * from unnest(" + parameter + ")"
+        : "select * from unnest(cast(" + parameter + " as " + typeName + " array))";
+
+    /**
+     * Renders {@code select column_value from table(:param)}. Supported by Oracle collection types.
+     */
+    SqlArrayListExpression TABLE = (parameter, typeName) -> "select column_value from table(" + parameter + ")";
+
+    /**
+     * Renders only the parameter. Use this with statements that are written for an array, e.g.
+     * {@code select * from things where id = any(<ids>)}.
+     */
+    SqlArrayListExpression PARAMETER = (parameter, typeName) -> parameter;
+
+    /**
+     * Renders the expression for an array parameter.
+     *
+     * @param parameter the parameter reference as rendered by the {@link org.jdbi.v3.core.statement.SqlParser}, e.g. {@code :__ids_array}
+     * @param typeName  the vendor-specific SQL type name of the array elements, or null if no {@link SqlArrayType} is registered for the element type
+     * @return the SQL expression that replaces the list attribute
+     */
+    String render(String parameter, String typeName);
+}
@@ -42,7 +42,7 @@ public class SqlArrayMapperFactory implements ColumnMapperFactory {
                     .map(elementMapper -> new ArrayColumnMapper(elementMapper, elementType));
         }
 
-        JdbiCollectors collectorRegistry = config.get(JdbiCollectors.class);
+        JdbiCollectors collectorRegistry = config.lookup(JdbiCollectors.class);
         return (Optional) collectorRegistry.findFor(type)
                 .flatMap(collector -> collectorRegistry.findElementTypeFor(type)
                         .flatMap(elementType -> elementTypeMapper(elementType, config))
@@ -50,7 +50,7 @@ public class SqlArrayMapperFactory implements ColumnMapperFactory {
     }
 
     private Optional<ColumnMapper<?>> elementTypeMapper(Type elementType, ConfigRegistry config) {
-        Optional<ColumnMapper<?>> mapper = config.get(ColumnMappers.class).findFor(elementType);
+        Optional<ColumnMapper<?>> mapper = config.lookup(ColumnMappers.class).findFor(elementType);
 
         if (!mapper.isPresent() && elementType == Object.class) {
             return Optional.of((rs, num, context) -> rs.getObject(num));
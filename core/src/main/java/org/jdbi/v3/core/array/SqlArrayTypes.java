@@ -15,6 +15,7 @@ package org.jdbi.v3.core.array;
 
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -25,6 +26,7 @@ import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.enums.internal.EnumSqlArrayTypeFactory;
 import org.jdbi.v3.core.interceptor.JdbiInterceptionChainHolder;
 import org.jdbi.v3.meta.Alpha;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Configuration class for SQL array binding and mapping.
@@ -35,6 +37,7 @@ public class SqlArrayTypes implements JdbiConfig<SqlArrayTypes> {
 
     private final List<SqlArrayTypeFactory> factories;
     private SqlArrayArgumentStrategy argumentStrategy;
+    private SqlArrayListExpression listExpression;
 
     private ConfigRegistry registry;
 
@@ -42,6 +45,7 @@ public class SqlArrayTypes implements JdbiConfig<SqlArrayTypes> {
         inferenceInterceptors = new JdbiInterceptionChainHolder<>(InferredSqlArrayTypeFactory::new);
         factories = new CopyOnWriteArrayList<>();
         argumentStrategy = SqlArrayArgumentStrategy.SQL_ARRAY;
+        listExpression = SqlArrayListExpression.UNNEST;
 
         register(boolean.class, "boolean");
         register(Boolean.class, "boolean");
@@ -63,6 +67,7 @@ public class SqlArrayTypes implements JdbiConfig<SqlArrayTypes> {
     private SqlArrayTypes(SqlArrayTypes that) {
         factories = new CopyOnWriteArrayList<>(that.factories);
         argumentStrategy = that.argumentStrategy;
+        listExpression = that.listExpression;
         inferenceInterceptors = new JdbiInterceptionChainHolder<>(that.inferenceInterceptors);
     }
 
@@ -86,6 +91,32 @@ public class SqlArrayTypes implements JdbiConfig<SqlArrayTypes> {
         return this;
     }
 
+    /**
+     * Returns the expression that is rendered for lists that are bound as a single SQL array.
+     *
+     * @return the expression for lists bound as SQL arrays
+     * @since 3.50.0
+     */
+    @Beta
+    public SqlArrayListExpression getListExpression() {
+        return listExpression;
+    }
+
+    /**
+     * Sets the expression that is rendered for lists that are bound as a single SQL array with
+     * {@link org.jdbi.v3.core.statement.SqlStatement#bindListAsArray(String, Type, List)}.
+     * The default is {@link SqlArrayListExpression#UNNEST}.
+     *
+     * @param listExpression the expression for lists bound as SQL arrays
+     * @return this
+     * @since 3.50.0
+     */
+    @Beta
+    public SqlArrayTypes setListExpression(SqlArrayListExpression listExpression) {
+        this.listExpression = Objects.requireNonNull(listExpression, "listExpression is null");
+        return this;
+    }
+
     /**
      * Register an array element type that is supported by the JDBC vendor.
      *
@@ -0,0 +1,176 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.async;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * The result of a {@link BulkLoader} operation. Contains one {@link ChunkResult} for each chunk that was submitted,
+ * in the order of the rows.
+ *
+ * @since 3.50.0
+ */
+@Beta
+public final class BulkLoadResult {
+
+    private final List<ChunkResult> chunks;
+
+    BulkLoadResult(List<ChunkResult> chunks) {
+        this.chunks = List.copyOf(chunks);
+    }
+
+    /**
+     * Returns the results of all chunks.
+     *
+     * @return the results of all chunks, ordered by chunk index
+     */
+    public List<ChunkResult> getChunks() {
+        return chunks;
+    }
+
+    /**
+     * Returns the results of all chunks that failed.
+     *
+     * @return the failed chunks, ordered by chunk index
+     */
+    public List<ChunkResult> getFailures() {
+        return chunks.stream().filter(ChunkResult::isFailed).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if all chunks were loaded successfully.
+     *
+     * @return true if no chunk failed
+     */
+    public boolean isSuccessful() {
+        return chunks.stream().noneMatch(ChunkResult::isFailed);
+    }
+
+    /**
+     * Returns the number of rows that were submitted to the database, including rows in failed chunks.
+     *
+     * @return the number of submitted rows
+     */
+    public long getRowCount() {
+        return chunks.stream().mapToLong(ChunkResult::getRowCount).sum();
+    }
+
+    /**
+     * Returns the sum of the modification counts of all successful chunks. Drivers may report
+     * {@link java.sql.Statement#SUCCESS_NO_INFO} for batch entries, those are not counted.
+     *
+     * @return the total number of modified rows
+     */
+    public long getTotalModCount() {
+        return chunks.stream().mapToLong(ChunkResult::getTotalModCount).sum();
+    }
+
+    @Override
+    public String toString() {
+        return "BulkLoadResult{chunks=" + chunks.size() + ", rows=" + getRowCount() + ", failures=" + getFailures().size() + "}";
+    }
+
+    /**
+     * The result of loading a single chunk.
+     */
+    public static final class ChunkResult {
+
+        private final int index;
+        private final long rowOffset;
+        private final int rowCount;
+        private final int[] modCounts;
+        private final Throwable failure;
+
+        ChunkResult(int index, long rowOffset, int rowCount, int[] modCounts, Throwable failure) {
+            this.index = index;
+            this.rowOffset = rowOffset;
+            this.rowCount = rowCount;
+            this.modCounts = modCounts == null ? new int[0] : Arrays.copyOf(modCounts, modCounts.length);
+            this.failure = failure;
+        }
+
+        /**
+         * Returns the index of this chunk.
+         *
+         * @return the chunk index, starting at 0
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Returns the position of the first row of this chunk in the input.
+         *
+         * @return the row offset, starting at 0
+         */
+        public long getRowOffset() {
+            return rowOffset;
+        }
+
+        /**
+         * Returns the number of rows in this chunk.
+         *
+         * @return the number of rows
+         */
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * Returns the modification counts of the batch. Empty if the chunk failed.
+         *
+         * @return the number of rows affected per row of the chunk
+         */
+        public int[] getModCounts() {
+            return Arrays.copyOf(modCounts, modCounts.length);
+        }
+
+        /**
+         * Returns the sum of all non-negative modification counts.
+         *
+         * @return the number of modified rows
+         */
+        public long getTotalModCount() {
+            return Arrays.stream(modCounts).filter(count -> count > 0).asLongStream().sum();
+        }
+
+        /**
+         * Returns true if this chunk failed.
+         *
+         * @return true if the chunk failed
+         */
+        public boolean isFailed() {
+            return failure != null;
+        }
+
+        /**
+         * Returns the exception that caused this chunk to fail.
+         *
+         * @return the failure or empty if the chunk was loaded successfully
+         */
+        public Optional<Throwable> getFailure() {
+            return Optional.ofNullable(failure);
+        }
+
+        @Override
+        public String toString() {
+            return "ChunkResult{index=" + index + ", rowOffset=" + rowOffset + ", rowCount=" + rowCount + ", failure=" + failure + "}";
+        }
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.async;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.HandleCallback;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.jdbi.v3.meta.Beta;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Loads large amounts of rows into the database by splitting them into chunks and executing each chunk as a
+ * {@link PreparedBatch} on its own handle. Chunks are executed concurrently through a {@link JdbiExecutor}, so multiple
+ * connections are used at the same time.
+ * <br>
+ * The number of chunks in flight is bounded by the parallelism. When all slots are taken, the thread that calls
+ * {@link #load(Iterator)} blocks until a chunk completes, so rows are never read much faster than they are written.
+ * <br>
+ * Each row is bound to the batch depending on its type:
+ * <ul>
+ *     <li>a {@link Map} is bound as named arguments</li>
+ *     <li>an {@code Object[]} is bound as positional arguments</li>
+ *     <li>any other object is bound as a bean</li>
+ * </ul>
+ *
+ * @since 3.50.0
+ */
+@Beta
+public final class BulkLoader {
+
+    /** The default number of rows in a chunk. */
+    public static final int DEFAULT_CHUNK_SIZE = 1_000;
+
+    /** The default number of chunks that are executed at the same time. */
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    private final Jdbi jdbi;
+    private final String sql;
+
+    private volatile int chunkSize = DEFAULT_CHUNK_SIZE;
+    private volatile int parallelism = DEFAULT_PARALLELISM;
+    private volatile boolean transactional = true;
+    private volatile boolean failFast = false;
+    private volatile Executor executor = null;
+
+    private BulkLoader(Jdbi jdbi, String sql) {
+        this.jdbi = requireNonNull(jdbi, "jdbi is null");
+        this.sql = requireNonNull(sql, "sql is null");
+    }
+
+    /**
+     * Creates a new bulk loader.
+     *
+     * @param jdbi the Jdbi instance to load the data with
+     * @param sql  the statement to execute for each row
+     * @return a new {@link BulkLoader}
+     * @see Jdbi#bulkLoader(String)
+     */
+    public static BulkLoader create(Jdbi jdbi, String sql) {
+        return new BulkLoader(jdbi, sql);
+    }
+
+    /**
+     * Sets the number of rows that are executed as a single batch.
+     *
+     * @param chunkSize the number of rows per chunk. Must be positive.
+     * @return this
+     */
+    public BulkLoader chunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be > 0");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of chunks that are executed at the same time. This is also the maximum number of connections
+     * used by the loader. When no executor is set, the loader creates a thread pool of this size for each load.
+     *
+     * @param parallelism the number of concurrent chunks. Must be positive.
+     * @return this
+     */
+    public BulkLoader parallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be > 0");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Controls whether each chunk is executed in its own transaction. Default is true.
+     * When disabled, each chunk runs with the default auto-commit behavior of the connection.
+     *
+     * @param transactional true to execute each chunk in a transaction
+     * @return this
+     */
+    public BulkLoader transactional(boolean transactional) {
+        this.transactional = transactional;
+        return this;
+    }
+
+    /**
+     * Controls whether the loader stops submitting new chunks after a chunk failed. Chunks that are already
+     * executing will still complete. Default is false, all chunks are attempted.
+     *
+     * @param failFast true to stop loading after the first failed chunk
+     * @return this
+     */
+    public BulkLoader failFast(boolean failFast) {
+        this.failFast = failFast;
+        return this;
+    }
+
+    /**
+     * Sets the executor that runs the chunks. The executor should provide at least as many threads as the parallelism
+     * of the loader. The loader does not shut down the executor.
+     *
+     * @param executor the executor for all database calls
+     * @return this
+     */
+    public BulkLoader executor(Executor executor) {
+        this.executor = requireNonNull(executor, "executor is null");
+        return this;
+    }
+
+    /**
+     * Loads all rows from a stream. The stream is closed when all rows were loaded.
+     *
+     * @param rows the rows to load
+     * @return the result of the load operation
+     */
+    public BulkLoadResult load(Stream<?> rows) {
+        try (Stream<?> stream = rows) {
+            return load(stream.iterator());
+        }
+    }
+
+    /**
+     * Loads all rows from an iterator. This method blocks until all chunks have completed.
+     *
+     * @param rows the rows to load
+     * @return the result of the load operation
+     */
+    public BulkLoadResult load(Iterator<?> rows) {
+        final Executor configuredExecutor = executor;
+        final int concurrentChunks = parallelism;
+
+        if (configuredExecutor != null) {
+            return load(rows, configuredExecutor, concurrentChunks);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(concurrentChunks);
+        try {
+            return load(rows, executorService, concurrentChunks);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private BulkLoadResult load(Iterator<?> rows, Executor chunkExecutor, int concurrentChunks) {
+        final int rowsPerChunk = chunkSize;
+        final boolean stopOnFailure = failFast;
+        final boolean inTransaction = transactional;
+
+        final JdbiExecutor jdbiExecutor = JdbiExecutor.create(jdbi, chunkExecutor);
+        final Semaphore permits = new Semaphore(concurrentChunks);
+        final AtomicBoolean failed = new AtomicBoolean();
+        final List<CompletableFuture<BulkLoadResult.ChunkResult>> futures = new ArrayList<>();
+
+        long offset = 0;
+        while (rows.hasNext() && !(stopOnFailure && failed.get())) {
+            final List<Object> chunk = new ArrayList<>(rowsPerChunk);
+            while (chunk.size() < rowsPerChunk && rows.hasNext()) {
+                chunk.add(rows.next());
+            }
+
+            acquire(permits);
+
+            final int index = futures.size();
+            final long chunkOffset = offset;
+            final HandleCallback<int[], RuntimeException> callback = handle -> executeChunk(handle, chunk);
+
+            futures.add((inTransaction ? jdbiExecutor.inTransaction(callback) : jdbiExecutor.withHandle(callback))
+                .toCompletableFuture()
+                .handle((modCounts, t) -> {
+                    permits.release();
+                    if (t != null) {
+                        failed.set(true);
+                    }
+                    return new BulkLoadResult.ChunkResult(index, chunkOffset, chunk.size(), modCounts, unwrap(t));
+                }));
+
+            offset += chunk.size();
+        }
+
+        final List<BulkLoadResult.ChunkResult> chunks = new ArrayList<>(futures.size());
+        for (CompletableFuture<BulkLoadResult.ChunkResult> future : futures) {
+            chunks.add(future.join());
+        }
+        return new BulkLoadResult(chunks);
+    }
+
+    private int[] executeChunk(Handle handle, List<Object> chunk) {
+        final PreparedBatch batch = handle.prepareBatch(sql);
+        for (Object row : chunk) {
+            if (row instanceof Map) {
+                @SuppressWarnings("unchecked")
+                Map<String, ?> map = (Map<String, ?>) row;
+                batch.add(map);
+            } else if (row instanceof Object[]) {
+                batch.add((Object[]) row);
+            } else {
+                batch.bindBean(row).add();
+            }
+        }
+        return batch.execute();
+    }
+
+    private static void acquire(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw Sneaky.throwAnyway(e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        if (t instanceof CompletionException && t.getCause() != null) {
+            return t.getCause();
+        }
+        return t;
+    }
+}
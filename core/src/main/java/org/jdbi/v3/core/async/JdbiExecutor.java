@@ -45,6 +45,24 @@ public interface JdbiExecutor {
         return new JdbiExecutorImpl(jdbi, executor);
     }
 
+    /**
+     * Create a {@link JdbiExecutor} that runs each callback on its own virtual thread.
+     *
+     * <p>
+     * Instead of sizing a thread pool, the number of callbacks that use a connection at the same time is limited by a fair semaphore. Callbacks that wait
+     * for a connection park their virtual thread, so a large number of requests can be queued cheaply. Set the limit to the maximum size of the connection
+     * pool. Consider using {@link org.jdbi.v3.core.HandleScope#threadKeyed()} as the handle scope of the Jdbi instance.
+     * </p>
+     *
+     * @param jdbi                     the initialized Jdbi class
+     * @param maxConcurrentConnections the maximum number of callbacks that run at the same time
+     * @throws UnsupportedOperationException if the JVM does not support virtual threads (Java 21 or later is required)
+     * @since 3.50.0
+     */
+    static JdbiExecutor createVirtual(Jdbi jdbi, int maxConcurrentConnections) {
+        return new VirtualThreadJdbiExecutor(jdbi, VirtualThreadJdbiExecutor.virtualThreadFactory(), maxConcurrentConnections);
+    }
+
     /**
      * A convenience function which manages the lifecycle of a handle and yields it to a callback for use by clients.
      *
@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.async;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.internal.exceptions.CheckedFunction;
+import org.jdbi.v3.meta.Beta;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs every callback on a new thread (a virtual thread unless a different thread factory is given) and limits
+ * the number of callbacks that use the database at the same time with a fair semaphore. Callbacks that wait for
+ * a permit park their thread, which is cheap for virtual threads and does not pin the carrier thread.
+ */
+@Beta
+class VirtualThreadJdbiExecutor extends AbstractJdbiExecutor {
+
+    private final Jdbi jdbi;
+    private final ThreadFactory threadFactory;
+    private final Semaphore permits;
+
+    VirtualThreadJdbiExecutor(Jdbi jdbi, ThreadFactory threadFactory, int maxConcurrentConnections) {
+        if (maxConcurrentConnections <= 0) {
+            throw new IllegalArgumentException("maxConcurrentConnections must be > 0");
+        }
+        this.jdbi = requireNonNull(jdbi, "jdbi is null");
+        this.threadFactory = requireNonNull(threadFactory, "threadFactory is null");
+        this.permits = new Semaphore(maxConcurrentConnections, true);
+    }
+
+    @Override
+    protected <T> CompletionStage<T> withExecute(final CheckedFunction<Jdbi, T> callback) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final Thread thread = threadFactory.newThread(() -> {
+            try {
+                permits.acquire();
+                try {
+                    future.complete(callback.apply(jdbi));
+                } finally {
+                    permits.release();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.completeExceptionally(new CompletionException(e));
+            } catch (Throwable t) {
+                future.completeExceptionally(new CompletionException(t));
+            }
+        });
+        thread.start();
+        return future;
+    }
+
+    /**
+     * Returns the number of callbacks that are currently waiting for a permit.
+     */
+    int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Returns a thread factory for virtual threads. Jdbi is compiled for Java 11, so the virtual thread builder
+     * is looked up at runtime.
+     *
+     * @throws UnsupportedOperationException if the current JVM does not support virtual threads
+     */
+    static ThreadFactory virtualThreadFactory() {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+
+            final MethodHandle ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass));
+            final MethodHandle name = lookup.findVirtual(ofVirtualClass, "name", MethodType.methodType(ofVirtualClass, String.class, long.class));
+            final MethodHandle factory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+
+            return (ThreadFactory) factory.invoke(name.invoke(ofVirtual.invoke(), "jdbi-virtual-", 0L));
+        } catch (Throwable t) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later", t);
+        }
+    }
+}
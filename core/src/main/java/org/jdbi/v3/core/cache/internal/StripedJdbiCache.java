@@ -0,0 +1,195 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.cache.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import org.jdbi.v3.core.cache.JdbiCache;
+import org.jdbi.v3.core.cache.JdbiCacheLoader;
+
+/**
+ * A cache that splits its keys across a number of independent stripes. Each stripe evicts
+ * using the CLOCK (second chance) algorithm, so a cache hit only reads the map and sets a
+ * reference flag. Locks are only taken when a new value is admitted to a stripe and never
+ * span more than one stripe.
+ */
+final class StripedJdbiCache<K, V> implements JdbiCache<K, V> {
+
+    private final Stripe<K, V>[] stripes;
+    private final int stripeMask;
+
+    private final JdbiCacheLoader<K, V> cacheLoader;
+
+    private final int maxSize;
+
+    @SuppressWarnings("unchecked")
+    StripedJdbiCache(StripedJdbiCacheBuilder builder, JdbiCacheLoader<K, V> cacheLoader) {
+        this.cacheLoader = cacheLoader;
+        this.maxSize = builder.getMaxSize();
+
+        int stripeCount = builder.getStripes();
+        if (maxSize > 0) {
+            // never use more stripes than there are entries in the cache.
+            while (stripeCount > 1 && stripeCount > maxSize) {
+                stripeCount >>>= 1;
+            }
+        }
+
+        this.stripes = new Stripe[stripeCount];
+        this.stripeMask = stripeCount - 1;
+
+        // distribute the maximum size across all stripes. The first stripes
+        // get one extra slot if the size is not a multiple of the stripe count.
+        for (int i = 0; i < stripeCount; i++) {
+            int stripeSize = maxSize <= 0 ? -1 : maxSize / stripeCount + (i < maxSize % stripeCount ? 1 : 0);
+            stripes[i] = new Stripe<>(stripeSize);
+        }
+    }
+
+    @Override
+    public V get(K key) {
+        if (cacheLoader == null) {
+            Node<K, V> node = stripeFor(key).map.get(key);
+            if (node == null) {
+                return null;
+            }
+            node.touch();
+            return node.value;
+        }
+        return getWithLoader(key, cacheLoader);
+    }
+
+    @Override
+    public V getWithLoader(K key, JdbiCacheLoader<K, V> loader) {
+        Stripe<K, V> stripe = stripeFor(key);
+
+        // hit path. No lock, only a flag write.
+        Node<K, V> node = stripe.map.get(key);
+        if (node != null) {
+            node.touch();
+            return node.value;
+        }
+
+        // miss path. The loader runs within the map bin lock, the stripe lock is
+        // only acquired after computeIfAbsent returned (see #2274 for why these must not nest).
+        node = stripe.map.computeIfAbsent(key, k -> new Node<>(k, loader.create(k)));
+        if (node.admit()) {
+            stripe.admit(node);
+        } else {
+            node.touch();
+        }
+        return node.value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public DefaultJdbiCacheStats getStats() {
+        int cacheSize = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            cacheSize += stripe.map.size();
+        }
+        return new DefaultJdbiCacheStats(cacheSize, maxSize);
+    }
+
+    private Stripe<K, V> stripeFor(K key) {
+        int h = key.hashCode();
+        // spread the higher bits, same as ConcurrentHashMap, but with a different mix so that
+        // stripe selection and bin selection within the stripe map do not correlate.
+        h ^= (h >>> 16) ^ (h >>> 7);
+        return stripes[h & stripeMask];
+    }
+
+    private static final class Stripe<K, V> {
+
+        private final ConcurrentMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+
+        @GuardedBy("this")
+        private final ArrayDeque<Node<K, V>> clock = new ArrayDeque<>();
+
+        private final int maxSize;
+
+        Stripe(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        void admit(Node<K, V> node) {
+            if (maxSize <= 0) {
+                // unbounded
+                return;
+            }
+
+            // collect the evicted entries under the stripe lock but remove them
+            // from the map outside of it. Same reasoning as in DefaultJdbiCache#expunge.
+            final List<Node<K, V>> purgeList = new ArrayList<>();
+
+            synchronized (this) {
+                clock.addLast(node);
+
+                while (clock.size() > maxSize) {
+                    Node<K, V> candidate = clock.pollFirst();
+                    if (candidate.clearReference()) {
+                        // recently used, give it a second chance
+                        clock.addLast(candidate);
+                    } else {
+                        purgeList.add(candidate);
+                    }
+                }
+            }
+
+            purgeList.forEach(evicted -> map.remove(evicted.key, evicted));
+        }
+    }
+
+    private static final class Node<K, V> {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<Node> ADMITTED = AtomicIntegerFieldUpdater.newUpdater(Node.class, "admitted");
+
+        private final K key;
+        private final V value;
+
+        private volatile int admitted = 0;
+        private volatile boolean referenced = false;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        boolean admit() {
+            return admitted == 0 && ADMITTED.compareAndSet(this, 0, 1);
+        }
+
+        void touch() {
+            // avoid writing the field (and invalidating the cache line on other cores) if the flag is already set.
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+
+        boolean clearReference() {
+            if (referenced) {
+                referenced = false;
+                return true;
+            }
+            return false;
+        }
+    }
+}
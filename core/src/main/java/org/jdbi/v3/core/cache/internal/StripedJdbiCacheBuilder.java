@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.cache.internal;
+
+import org.jdbi.v3.core.cache.JdbiCache;
+import org.jdbi.v3.core.cache.JdbiCacheBuilder;
+import org.jdbi.v3.core.cache.JdbiCacheLoader;
+
+/**
+ * Builder for a striped, concurrent Jdbi cache implementation. Cache hits do not acquire any lock,
+ * which makes this cache a good choice for applications that run the same statements from many threads.
+ * <br>
+ * The maximum size of the cache is distributed across all stripes, so eviction is approximate.
+ */
+public final class StripedJdbiCacheBuilder implements JdbiCacheBuilder {
+
+    private static final int MAX_STRIPES = 64;
+
+    private int maxSize = -1;
+    private int stripes = roundToPowerOfTwo(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Returns a new Builder.
+     * @return A new builder instance for a {@link StripedJdbiCache} instance.
+     */
+    public static StripedJdbiCacheBuilder builder() {
+        return new StripedJdbiCacheBuilder();
+    }
+
+    private StripedJdbiCacheBuilder() {}
+
+    @Override
+    public <K, V> JdbiCache<K, V> build() {
+        return new StripedJdbiCache<>(this, null);
+    }
+
+    @Override
+    public <K, V> JdbiCache<K, V> buildWithLoader(JdbiCacheLoader<K, V> loader) {
+        return new StripedJdbiCache<>(this, loader);
+    }
+
+    @Override
+    public StripedJdbiCacheBuilder maxSize(int maxSize) {
+        this.maxSize = maxSize;
+        return this;
+    }
+
+    /**
+     * Sets the number of stripes. The value is rounded up to the next power of two and capped at 64.
+     * The default is the number of available processors.
+     *
+     * @param stripes The number of stripes. Must be positive.
+     * @return The instance of the builder itself.
+     */
+    public StripedJdbiCacheBuilder stripes(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes must be > 0");
+        }
+        this.stripes = roundToPowerOfTwo(stripes);
+        return this;
+    }
+
+    int getMaxSize() {
+        return maxSize;
+    }
+
+    int getStripes() {
+        return stripes;
+    }
+
+    private static int roundToPowerOfTwo(int value) {
+        int result = Integer.highestOneBit(Math.min(Math.max(value, 1), MAX_STRIPES));
+        return result < value && result < MAX_STRIPES ? result << 1 : result;
+    }
+}
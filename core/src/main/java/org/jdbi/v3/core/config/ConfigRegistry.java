@@ -13,6 +13,7 @@
  */
 package org.jdbi.v3.core.config;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -26,9 +27,22 @@ import org.jdbi.v3.core.mapper.ColumnMappers;
 import org.jdbi.v3.core.mapper.Mappers;
 import org.jdbi.v3.core.mapper.RowMappers;
 import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.meta.Alpha;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * A registry of {@link JdbiConfig} instances by type.
+ * <br>
+ * Copies of a registry are made lazily. {@link #createCopy()} copies the config objects of this registry once into a
+ * snapshot that is shared by all copies, and a copy only gets its own config objects when it is modified. A registry
+ * is considered modified when {@link #get(Class)} is called, which includes {@link Configurable#getConfig(Class)} and
+ * {@link Configurable#configure(Class, java.util.function.Consumer)}. Code that only reads configuration should use
+ * {@link #lookup(Class)}, which never copies.
+ * <br>
+ * The snapshot never shares config objects with the registry it was taken from, so modifying a config object of this
+ * registry never changes its copies. Config objects should still be modified right after obtaining them from
+ * {@link #get(Class)}: a config object that is kept and modified later is not seen by copies made from the snapshot
+ * that was taken before the modification.
  *
  * @see Configurable
  */
@@ -36,14 +50,28 @@ public final class ConfigRegistry {
 
     private static final Class<?>[] JDBI_CONFIG_TYPES = {ConfigRegistry.class};
 
-    private final Map<Class<? extends JdbiConfig<?>>, JdbiConfig<?>> configs = new ConcurrentHashMap<>(32);
     private final Map<Class<? extends JdbiConfig<?>>, Function<ConfigRegistry, JdbiConfig<?>>> configFactories;
 
+    // the config objects owned by this registry. Not used while this registry shares the configs of a snapshot.
+    private volatile Map<Class<? extends JdbiConfig<?>>, JdbiConfig<?>> configs;
+
+    // if not null, this registry has not been modified since it was copied and shares the config objects of the
+    // snapshot. The snapshot is never modified.
+    private volatile ConfigRegistry snapshot;
+
+    // a snapshot of the config objects owned by this registry that is shared by its copies. Discarded when this
+    // registry is modified.
+    private volatile ConfigRegistry copySnapshot;
+
+    // the copies of the shared config objects while they are registered with this registry. Only used while holding the lock.
+    private Map<Class<? extends JdbiConfig<?>>, JdbiConfig<?>> pendingConfigs;
+
     /**
      * Creates a new config registry.
      */
     public ConfigRegistry() {
         configFactories = new ConcurrentHashMap<>();
+        configs = new ConcurrentHashMap<>(32);
         get(ConfigCaches.class);
         get(SqlStatements.class);
         get(Arguments.class);
@@ -53,31 +81,71 @@ public final class ConfigRegistry {
         get(JdbiCollectors.class);
     }
 
-    private ConfigRegistry(ConfigRegistry that) {
-        configFactories = that.configFactories;
-        that.configs.forEach((type, config) -> {
-            JdbiConfig<?> copy = config.createCopy();
-            configs.put(type, copy);
-        });
-        configs.values().forEach(c -> c.setRegistry(this));
+    private ConfigRegistry(Map<Class<? extends JdbiConfig<?>>, Function<ConfigRegistry, JdbiConfig<?>>> configFactories,
+        Map<Class<? extends JdbiConfig<?>>, JdbiConfig<?>> configs,
+        ConfigRegistry snapshot) {
+        this.configFactories = configFactories;
+        this.configs = configs;
+        this.snapshot = snapshot;
     }
 
     /**
      * Returns this registry's instance of the given config class. Creates an instance on-demand if this registry does
-     * not have one of the given type yet.
+     * not have one of the given type yet. The returned instance may be modified.
+     * <br>
+     * If this registry shares its config objects with other registries, all config objects are copied first.
      *
      * @param configClass the config class type.
      * @param <C>         the config class type.
      * @return the given config class instance that belongs to this registry.
      */
     public <C extends JdbiConfig<C>> C get(Class<C> configClass) {
+        if (snapshot != null) {
+            return copyConfigs(configClass);
+        }
+        copySnapshot = null;
+        return lookup(configClass);
+    }
+
+    /**
+     * Returns the instance of the given config class for reading. The instance may be shared with other registries
+     * and must not be modified. Use {@link #get(Class)} to modify configuration.
+     *
+     * @param configClass the config class type.
+     * @param <C>         the config class type.
+     * @return the given config class instance.
+     * @since 3.50.0
+     */
+    @Beta
+    public <C extends JdbiConfig<C>> C lookup(Class<C> configClass) {
+        final ConfigRegistry shared = snapshot;
+        if (shared != null) {
+            return shared.lookup(configClass);
+        }
+
+        final Map<Class<? extends JdbiConfig<?>>, JdbiConfig<?>> owned = configs;
         // we would computeIfAbsent if not for JDK-8062841 >:(
-        final JdbiConfig<?> lookup = configs.get(configClass);
+        final JdbiConfig<?> lookup = owned.get(configClass);
         if (lookup != null) {
             return configClass.cast(lookup);
         }
         C config = configClass.cast(configFactory(configClass).apply(this));
-        return Optional.ofNullable(configClass.cast(configs.putIfAbsent(configClass, config))).orElse(config);
+        return Optional.ofNullable(configClass.cast(owned.putIfAbsent(configClass, config))).orElse(config);
+    }
+
+    /**
+     * Returns true if this registry shares its config objects with other registries. A shared registry has not been
+     * modified since it was copied, and {@link #lookup(Class)} returns the config objects of a snapshot. The snapshot
+     * is never modified: it holds its own copies of the config objects, and {@link #get(Class)} never returns them, on
+     * this registry or on the registry the snapshot was taken from. Values that depend on the whole configuration may
+     * therefore be cached in the config objects of the snapshot.
+     *
+     * @return true if this registry shares its config objects with other registries
+     * @since 3.50.0
+     */
+    @Alpha
+    public boolean isShared() {
+        return snapshot != null;
     }
 
     private Function<ConfigRegistry, JdbiConfig<?>> configFactory(Class<? extends JdbiConfig<?>> configClass) {
@@ -92,13 +160,73 @@ public final class ConfigRegistry {
     }
 
     /**
-     * Returns a copy of this config registry.
+     * Returns a copy of this config registry. The copy shares a snapshot of the config objects of this registry
+     * with other copies until it is modified.
      *
      * @return a copy of this config registry
-     * @see JdbiConfig#createCopy() config objects in the returned registry are copies of the corresponding
-     * config objects from this registry.
+     * @see JdbiConfig#createCopy() config objects are copied into the snapshot, and again when the returned registry
+     * is modified.
      */
     public ConfigRegistry createCopy() {
-        return new ConfigRegistry(this);
+        ConfigRegistry shared = snapshot;
+        if (shared == null) {
+            shared = copySnapshot;
+            if (shared == null) {
+                shared = createSnapshot();
+            }
+        }
+        return new ConfigRegistry(configFactories, null, shared);
+    }
+
+    // copies the config objects of this registry into a snapshot that is shared with the copies. The snapshot is
+    // complete before it is published, and the config objects of this registry stay private to it.
+    private synchronized ConfigRegistry createSnapshot() {
+        final ConfigRegistry existing = copySnapshot;
+        if (existing != null) {
+            return existing;
+        }
+        final Map<Class<? extends JdbiConfig<?>>, JdbiConfig<?>> copies = new ConcurrentHashMap<>(32);
+        configs.forEach((type, config) -> copies.put(type, config.createCopy()));
+        final ConfigRegistry shared = new ConfigRegistry(configFactories, copies, null);
+        List.copyOf(copies.values()).forEach(c -> c.setRegistry(shared));
+        copySnapshot = shared;
+        return shared;
+    }
+
+    // a registry that is modified gets its own copies of the shared config objects. The copies are registered with this
+    // registry before they are published, so other threads never see a copy that does not know its registry.
+    private synchronized <C extends JdbiConfig<C>> C copyConfigs(Class<C> configClass) {
+        final ConfigRegistry shared = snapshot;
+        if (shared == null) {
+            return lookup(configClass);
+        }
+
+        if (pendingConfigs != null) {
+            // a copy calls get() from its setRegistry() method
+            return pendingConfig(configClass);
+        }
+
+        final Map<Class<? extends JdbiConfig<?>>, JdbiConfig<?>> copies = new ConcurrentHashMap<>(32);
+        shared.configs.forEach((type, config) -> copies.put(type, config.createCopy()));
+        pendingConfigs = copies;
+        try {
+            List.copyOf(copies.values()).forEach(c -> c.setRegistry(this));
+        } finally {
+            pendingConfigs = null;
+        }
+
+        configs = copies;
+        snapshot = null;
+        return lookup(configClass);
+    }
+
+    // must be called while holding the lock
+    private <C extends JdbiConfig<C>> C pendingConfig(Class<C> configClass) {
+        final JdbiConfig<?> pending = pendingConfigs.get(configClass);
+        if (pending != null) {
+            return configClass.cast(pending);
+        }
+        C config = configClass.cast(configFactory(configClass).apply(this));
+        return Optional.ofNullable(configClass.cast(pendingConfigs.putIfAbsent(configClass, config))).orElse(config);
     }
 }
@@ -59,7 +59,7 @@ public final class ConfigCaches implements JdbiConfig<ConfigCaches> {
             @SuppressWarnings("unchecked")
             @Override
             public V get(K key, ConfigRegistry config) {
-                return (V) config.get(ConfigCaches.class).caches
+                return (V) config.lookup(ConfigCaches.class).caches
                     .computeIfAbsent(this, x -> new ConcurrentHashMap<>())
                     .computeIfAbsent(keyNormalizer.apply(key), x -> computer.apply(config, key));
             }
@@ -13,17 +13,15 @@
  */
 package org.jdbi.v3.core.extension;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.extension.ExtensionMetadata.ExtensionHandlerInvoker;
-import org.jdbi.v3.core.internal.JdbiClassUtils.MethodKey;
 
 import static java.lang.String.format;
 
@@ -32,10 +30,6 @@ import static org.jdbi.v3.core.extension.ExtensionFactory.FactoryFlag.NON_VIRTUA
 import static org.jdbi.v3.core.extension.ExtensionHandler.EQUALS_HANDLER;
 import static org.jdbi.v3.core.extension.ExtensionHandler.HASHCODE_HANDLER;
 import static org.jdbi.v3.core.extension.ExtensionHandler.NULL_HANDLER;
-import static org.jdbi.v3.core.internal.JdbiClassUtils.EQUALS_METHOD;
-import static org.jdbi.v3.core.internal.JdbiClassUtils.HASHCODE_METHOD;
-import static org.jdbi.v3.core.internal.JdbiClassUtils.MethodKey.methodKey;
-import static org.jdbi.v3.core.internal.JdbiClassUtils.TOSTRING_METHOD;
 
 final class ExtensionFactoryDelegate implements ExtensionFactory {
 
@@ -104,42 +98,53 @@ final class ExtensionFactoryDelegate implements ExtensionFactory {
         }
 
         final ConfigRegistry config = handleSupplier.getConfig();
-        final Extensions extensions = config.get(Extensions.class);
+        final Extensions extensions = config.lookup(Extensions.class);
 
         extensions.onCreateProxy();
 
         final ExtensionMetadata extensionMetaData = extensions.findMetadata(extensionType, delegatedFactory);
         final ConfigRegistry instanceConfig = extensionMetaData.createInstanceConfiguration(config);
 
-        final Map<MethodKey, ExtensionHandlerInvoker> handlers = new HashMap<>();
+        final ProxyDispatchTable dispatchTable = extensionMetaData.getProxyDispatchTable();
+        final ExtensionHandlerInvoker[] invokers = new ExtensionHandlerInvoker[dispatchTable.size()];
         final Object proxy = Proxy.newProxyInstance(
                 extensionType.getClassLoader(),
                 new Class[] {extensionType},
-                (proxyInstance, method, args) -> handlers.get(methodKey(method)).invoke(args));
+                (proxyInstance, method, args) -> invokers[dispatchTable.slotFor(method)].invoke(args));
 
         // if the object created by the delegated factory has actual methods (it is not delegating), attach the
         // delegate and pass it to the handlers. Otherwise assume that there is no backing object and do not call
         // attach.
         final Object delegatedInstance = factoryFlags.contains(NON_VIRTUAL_FACTORY) ? delegatedFactory.attach(extensionType, handleSupplier) : proxy;
 
-        // add proxy specific methods (toString, equals, hashCode, finalize)
-        // those will only be added if they don't already exist in the method handler map.
-
-        // If these methods are added, they are special because they operate on the proxy object itself, not the underlying object
+        // proxy specific methods (toString, equals, hashCode) are only present if the extension type does not
+        // declare them. They are special because they operate on the proxy object itself, not the underlying object
         final ExtensionHandler toStringHandler = (h, target, args) ->
                 "Jdbi extension proxy for " + extensionType.getName() + "@" + Integer.toHexString(proxy.hashCode());
-        handlers.put(methodKey(TOSTRING_METHOD), extensionMetaData.new ExtensionHandlerInvoker(proxy, TOSTRING_METHOD, toStringHandler, handleSupplier, instanceConfig));
-
-        handlers.put(methodKey(EQUALS_METHOD), extensionMetaData.new ExtensionHandlerInvoker(proxy, EQUALS_METHOD, EQUALS_HANDLER, handleSupplier, instanceConfig));
-        handlers.put(methodKey(HASHCODE_METHOD), extensionMetaData.new ExtensionHandlerInvoker(proxy, HASHCODE_METHOD, HASHCODE_HANDLER, handleSupplier, instanceConfig));
 
-        // add all methods that are delegated to the underlying object / existing handlers
-        extensionMetaData.getExtensionMethods().forEach(method ->
-                handlers.put(methodKey(method), extensionMetaData.createExtensionHandlerInvoker(delegatedInstance, method, handleSupplier, instanceConfig)));
-
-        // finalize is double special. Add this unconditionally, even if subclasses try to override it.
-        extensionMetaData.getFinalizer().ifPresent(method -> handlers.put(methodKey(method),
-                extensionMetaData.new ExtensionHandlerInvoker(proxy, method, NULL_HANDLER, handleSupplier, instanceConfig)));
+        for (int slot = 0; slot < invokers.length; slot++) {
+            final Method method = dispatchTable.method(slot);
+            switch (dispatchTable.slotType(slot)) {
+                case TO_STRING:
+                    invokers[slot] = extensionMetaData.new ExtensionHandlerInvoker(proxy, method, toStringHandler, handleSupplier, instanceConfig);
+                    break;
+                case EQUALS:
+                    invokers[slot] = extensionMetaData.new ExtensionHandlerInvoker(proxy, method, EQUALS_HANDLER, handleSupplier, instanceConfig);
+                    break;
+                case HASHCODE:
+                    invokers[slot] = extensionMetaData.new ExtensionHandlerInvoker(proxy, method, HASHCODE_HANDLER, handleSupplier, instanceConfig);
+                    break;
+                // finalize is double special. It is added unconditionally, even if subclasses try to override it.
+                case FINALIZER:
+                    invokers[slot] = extensionMetaData.new ExtensionHandlerInvoker(proxy, method, NULL_HANDLER, handleSupplier, instanceConfig);
+                    break;
+                // all methods that are delegated to the underlying object / existing handlers
+                case EXTENSION_METHOD:
+                default:
+                    invokers[slot] = extensionMetaData.createExtensionHandlerInvoker(delegatedInstance, method, handleSupplier, instanceConfig);
+                    break;
+            }
+        }
 
         return extensionType.cast(proxy);
     }
@@ -15,10 +15,11 @@ package org.jdbi.v3.core.extension;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
-import org.jdbi.v3.core.internal.exceptions.Unchecked;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
 import org.jdbi.v3.meta.Alpha;
 import org.jdbi.v3.meta.Beta;
 
@@ -64,6 +65,17 @@ public interface ExtensionHandler {
     @Beta
     default void warm(ConfigRegistry config) {}
 
+    /**
+     * Called by {@link org.jdbi.v3.core.Jdbi#warmUp(Class[])} after {@link #warm(ConfigRegistry)} to do work that is
+     * worth doing ahead of the first call, but too expensive to repeat whenever an extension is attached, such as
+     * parsing SQL.
+     *
+     * @param config the method configuration to use for warming up
+     * @since 3.50.0
+     */
+    @Alpha
+    default void warmUp(ConfigRegistry config) {}
+
     /**
      * Returns a default handler for missing functionality. The handler will throw an exception when invoked.
      * @param method The method to which this specific handler instance is bound
@@ -110,11 +122,22 @@ public interface ExtensionHandler {
      * @return An {@link ExtensionHandler}
      */
     static ExtensionHandler createForMethodHandle(MethodHandle methodHandle) {
+        // adapt the handle once to (Object target, Object[] args)Object, so that every invocation is a single
+        // invokeExact call instead of binding the target and spreading the arguments through invokeWithArguments.
+        final int parameterCount = methodHandle.type().parameterCount() - 1;
+        final MethodHandle invoker = methodHandle.asFixedArity()
+                .asType(MethodType.genericMethodType(parameterCount + 1))
+                .asSpreader(Object[].class, parameterCount);
+
         return (handleSupplier, target, args) -> {
             if (target == null) {
                 throw new IllegalStateException("no target object present, called from a proxy factory?");
             }
-            return Unchecked.<Object[], Object>function(methodHandle.bindTo(target)::invokeWithArguments).apply(args);
+            try {
+                return (Object) invoker.invokeExact(target, args);
+            } catch (Throwable t) {
+                throw Sneaky.throwAnyway(t);
+            }
         };
     }
 }
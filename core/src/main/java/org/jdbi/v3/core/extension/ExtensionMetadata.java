@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.jdbi.v3.core.config.ConfigCustomizer;
@@ -33,6 +34,8 @@ import org.jdbi.v3.core.config.internal.ConfigCustomizerChain;
 import org.jdbi.v3.core.internal.JdbiClassUtils;
 import org.jdbi.v3.core.internal.JdbiClassUtils.MethodKey;
 import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.core.statement.internal.JfrSupport;
+import org.jdbi.v3.core.statement.internal.OptionalEvent;
 import org.jdbi.v3.meta.Alpha;
 
 /**
@@ -50,6 +53,8 @@ public final class ExtensionMetadata {
     private final Map<Method, ExtensionHandler> methodHandlers;
     private final Optional<Method> finalizer;
 
+    private volatile ProxyDispatchTable proxyDispatchTable;
+
     /**
      * Returns a new {@link ExtensionMetadata.Builder} instance.
      * @param extensionType The extension type for which metadata is collected
@@ -80,10 +85,23 @@ public final class ExtensionMetadata {
      * Create an instance specific configuration based on all instance customizers. The instance configuration holds all
      * custom configuration that was applied e.g. through instance annotations.
      *
+     * <br>
+     * If the configuration object is {@link ConfigRegistry#isShared() shared}, the customized configuration is
+     * cached and the returned object is a copy of the cached configuration.
+     *
      * @param config A configuration object. The object is not changed
      * @return A new configuration object with all changes applied
      */
     public ConfigRegistry createInstanceConfiguration(ConfigRegistry config) {
+        if (config.isShared()) {
+            return config.lookup(Extensions.class)
+                    .findExtensionConfiguration(extensionType, () -> customizeInstanceConfiguration(config))
+                    .createCopy();
+        }
+        return customizeInstanceConfiguration(config);
+    }
+
+    private ConfigRegistry customizeInstanceConfiguration(ConfigRegistry config) {
         ConfigRegistry instanceConfiguration = config.createCopy();
         instanceConfigCustomizer.customize(instanceConfiguration);
         return instanceConfiguration;
@@ -106,6 +124,23 @@ public final class ExtensionMetadata {
         return methodConfiguration;
     }
 
+    /**
+     * Creates the instance configuration and the method configurations for all extension methods, warms their
+     * extension handlers and calls {@link ExtensionHandler#warmUp(ConfigRegistry)}. If the configuration is shared
+     * (see {@link ConfigRegistry#isShared()}), the configurations are cached and used by all extensions that are
+     * created later with the same configuration.
+     *
+     * @param config The configuration that is used to create extension instances. The object is not changed
+     * @since 3.50.0
+     */
+    public void warm(ConfigRegistry config) {
+        final ConfigRegistry instanceConfig = createInstanceConfiguration(config);
+        methodHandlers.forEach((method, extensionHandler) -> {
+            final ConfigRegistry methodConfig = prepareMethodConfiguration(method, extensionHandler, instanceConfig);
+            warmHandler(method, methodConfig, extensionHandler::warmUp);
+        });
+    }
+
     /**
      * Returns a set of all Methods that have {@link ExtensionHandler} objects associated with them.
      */
@@ -121,6 +156,20 @@ public final class ExtensionMetadata {
         return finalizer;
     }
 
+    /**
+     * Returns the table that maps the methods of a proxy for the extension type to their invokers. The table is
+     * created on first use.
+     * @return A {@link ProxyDispatchTable} for the extension type
+     */
+    ProxyDispatchTable getProxyDispatchTable() {
+        ProxyDispatchTable table = proxyDispatchTable;
+        if (table == null) {
+            table = new ProxyDispatchTable(this);
+            proxyDispatchTable = table;
+        }
+        return table;
+    }
+
     /**
      * Creates an {@link ExtensionHandlerInvoker} instance for a specific method.
      * @param target The target object on which the invoker should work
@@ -135,6 +184,34 @@ public final class ExtensionMetadata {
         return new ExtensionHandlerInvoker(target, method, methodHandlers.get(method), handleSupplier, config);
     }
 
+    // returns the method configuration with a warmed extension handler. The configuration is cached if the base
+    // configuration is shared and the handler is the one registered for the method.
+    private ConfigRegistry prepareMethodConfiguration(Method method, ExtensionHandler extensionHandler, ConfigRegistry config) {
+        if (config.isShared() && methodHandlers.get(method) == extensionHandler) {
+            return config.lookup(Extensions.class)
+                    .findExtensionConfiguration(Arrays.asList(extensionType, method), () -> warmMethodConfiguration(method, extensionHandler, config))
+                    .createCopy();
+        }
+        return warmMethodConfiguration(method, extensionHandler, config);
+    }
+
+    private ConfigRegistry warmMethodConfiguration(Method method, ExtensionHandler extensionHandler, ConfigRegistry config) {
+        ConfigRegistry methodConfig = createMethodConfiguration(method, config);
+        warmHandler(method, methodConfig, extensionHandler::warm);
+        return methodConfig;
+    }
+
+    private void warmHandler(Method method, ConfigRegistry methodConfig, Consumer<ConfigRegistry> warmer) {
+        try {
+            warmer.accept(methodConfig);
+        } catch (Exception e) {
+            // if fail fast is requested, fail right at warmup time.
+            if (methodConfig.lookup(Extensions.class).isFailFast()) {
+                throw new UnableToCreateExtensionException(e, "While inspecting %s: %s", method, e.getMessage());
+            }
+        }
+    }
+
     /**
      * Builder class for the {@link ExtensionMetadata} object.
      * See {@link ExtensionMetadata#builder(Class)}.
@@ -316,19 +393,23 @@ public final class ExtensionMetadata {
         ExtensionHandlerInvoker(Object target, Method method, ExtensionHandler extensionHandler, HandleSupplier handleSupplier, ConfigRegistry config) {
             this.target = target;
             this.handleSupplier = handleSupplier;
-            ConfigRegistry methodConfig = createMethodConfiguration(method, config);
-            this.extensionContext = ExtensionContext.forExtensionMethod(methodConfig, extensionType, method);
-
             this.extensionHandler = extensionHandler;
 
-            try {
-                this.extensionHandler.warm(methodConfig);
-            } catch (Exception e) {
-                // if fail fast is requested, fail right at warmup time.
-                if (config.get(Extensions.class).isFailFast()) {
-                    throw new UnableToCreateExtensionException(e, "While inspecting %s: %s", method, e.getMessage());
-                }
-            }
+            ConfigRegistry methodConfig = prepareMethodConfiguration(method, extensionHandler, config);
+            this.extensionContext = ExtensionContext.forExtensionMethod(methodConfig, extensionType, method);
+        }
+
+        /**
+         * Returns the extension handler that is called by {@link #invoke(Object...)}. This is the handler that was
+         * registered for the method, including all customizations.
+         * <br>
+         * Generated classes use the handler type to decide whether they may execute a method without calling the handler.
+         *
+         * @return The {@link ExtensionHandler} for the method
+         * @since 3.50.0
+         */
+        public ExtensionHandler getExtensionHandler() {
+            return extensionHandler;
         }
 
         /**
@@ -360,10 +441,16 @@ public final class ExtensionMetadata {
          * @return The result of the extension handler invocation
          */
         public Object call(Callable<?> callable) {
+            final OptionalEvent evt = JfrSupport.newExtensionMethodEvent();
+            evt.begin();
             try {
                 return handleSupplier.invokeInContext(extensionContext, callable);
             } catch (Exception x) {
                 throw Sneaky.throwAnyway(x);
+            } finally {
+                if (evt.shouldCommit()) {
+                    JdbiExtensionMethodEvent.commit(evt, extensionContext.getExtensionMethod());
+                }
             }
         }
 
@@ -16,8 +16,10 @@ package org.jdbi.v3.core.extension;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
@@ -41,6 +43,11 @@ public class Extensions implements JdbiConfig<Extensions> {
     private final List<ExtensionHandlerFactory> extensionHandlerFactories;
     private final List<ConfigCustomizerFactory> configCustomizerFactories;
 
+    // customized extension type and method configurations. These depend on the whole configuration, so they are only
+    // used while the registry is shared and are never copied. A shared registry reads this object from its snapshot,
+    // which is never modified, so the snapshot is the version that the cached configurations belong to.
+    private final Map<Object, ConfigRegistry> extensionConfigurationCache = new ConcurrentHashMap<>();
+
     private boolean allowProxy;
     private boolean failFast;
 
@@ -177,8 +184,8 @@ public class Extensions implements JdbiConfig<Extensions> {
                 .map(factory -> factory.attach(extensionType, handleSupplier));
     }
 
-    private Optional<ExtensionFactory> findFactoryFor(Class<?> extensionType) {
-        for (ExtensionFactory factory : extensionFactories) {
+    private Optional<ExtensionFactoryDelegate> findFactoryFor(Class<?> extensionType) {
+        for (ExtensionFactoryDelegate factory : extensionFactories) {
             if (factory.accepts(extensionType)) {
                 return Optional.of(factory);
             }
@@ -218,6 +225,34 @@ public class Extensions implements JdbiConfig<Extensions> {
         return extensionMetadataCache.computeIfAbsent(extensionType, createMetadata(extensionFactory));
     }
 
+    /**
+     * Creates the metadata for an extension type and warms its configuration and extension handlers, so that
+     * attaching the extension with the given configuration, or a copy of it, does not need to do this work again.
+     *
+     * @param extensionType The extension type
+     * @param config        The configuration that is used to attach the extension
+     * @throws NoSuchExtensionException if no extension factory is registered for the extension type
+     * @see org.jdbi.v3.core.Jdbi#warmUp(Class[])
+     * @since 3.50.0
+     */
+    @Alpha
+    public void warmUp(Class<?> extensionType, ConfigRegistry config) {
+        final ExtensionFactoryDelegate extensionFactory = findFactoryFor(extensionType)
+                .orElseThrow(() -> new NoSuchExtensionException(extensionType));
+
+        findMetadata(extensionType, extensionFactory.getDelegatedFactory()).warm(config);
+    }
+
+    ConfigRegistry findExtensionConfiguration(Object key, Supplier<ConfigRegistry> configurationSupplier) {
+        // we would computeIfAbsent if not for JDK-8062841 >:(
+        final ConfigRegistry configuration = extensionConfigurationCache.get(key);
+        if (configuration != null) {
+            return configuration;
+        }
+        final ConfigRegistry newConfiguration = configurationSupplier.get();
+        return Optional.ofNullable(extensionConfigurationCache.putIfAbsent(key, newConfiguration)).orElse(newConfiguration);
+    }
+
     private Extensions internalRegisterHandlerFactory(ExtensionHandlerFactory extensionHandlerFactory) {
         extensionHandlerFactories.add(0, extensionHandlerFactory);
         return this;
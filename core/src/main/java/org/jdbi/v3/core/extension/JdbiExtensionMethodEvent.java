@@ -0,0 +1,38 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.extension;
+
+import jdk.jfr.Label;
+import org.jdbi.v3.core.statement.internal.OptionalEvent;
+
+@jdk.jfr.Category("jdbi")
+@jdk.jfr.Name(JdbiExtensionMethodEvent.NAME)
+@Label("Jdbi Extension Method")
+@jdk.jfr.Description("A call to an extension method, e.g. a SQL Object method.")
+public final class JdbiExtensionMethodEvent extends jdk.jfr.Event implements OptionalEvent {
+    public static final String NAME = "jdbi.extensionMethod";
+
+    @Label("Extension type")
+    public Class<?> extensionType;
+
+    @Label("Method")
+    public String method;
+
+    static void commit(OptionalEvent extensionEvent, ExtensionMethod extensionMethod) {
+        final var evt = (JdbiExtensionMethodEvent) extensionEvent;
+        evt.extensionType = extensionMethod.getType();
+        evt.method = extensionMethod.getMethod().getName();
+        evt.commit();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.extension;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jdbi.v3.core.internal.JdbiClassUtils.MethodKey;
+
+import static org.jdbi.v3.core.internal.JdbiClassUtils.EQUALS_METHOD;
+import static org.jdbi.v3.core.internal.JdbiClassUtils.HASHCODE_METHOD;
+import static org.jdbi.v3.core.internal.JdbiClassUtils.MethodKey.methodKey;
+import static org.jdbi.v3.core.internal.JdbiClassUtils.TOSTRING_METHOD;
+
+/**
+ * Maps the methods of an extension proxy to slots in an array of invokers. The table is created once per extension
+ * type, each attached proxy only creates the invoker array.
+ * <br>
+ * Methods are matched by their {@link MethodKey}, so an extension method that redeclares an {@link Object} method
+ * replaces the proxy specific implementation. The {@link Method} objects that a proxy passes to its invocation handler
+ * are the same for every call, so the slot for each of them is resolved by method key only once. Later calls find
+ * the slot with a lookup keyed by the {@link Method}, which does not allocate.
+ */
+final class ProxyDispatchTable {
+
+    enum SlotType {
+        TO_STRING, EQUALS, HASHCODE, EXTENSION_METHOD, FINALIZER
+    }
+
+    private final Method[] methods;
+    private final SlotType[] slotTypes;
+    private final Map<MethodKey, Integer> slotsByKey;
+    private final Map<Method, Integer> slotsByMethod = new ConcurrentHashMap<>();
+
+    ProxyDispatchTable(ExtensionMetadata extensionMetadata) {
+        // later entries replace earlier entries with the same method key
+        final Map<MethodKey, Method> slotMethods = new LinkedHashMap<>();
+        final Map<MethodKey, SlotType> types = new HashMap<>();
+
+        addSlot(slotMethods, types, TOSTRING_METHOD, SlotType.TO_STRING);
+        addSlot(slotMethods, types, EQUALS_METHOD, SlotType.EQUALS);
+        addSlot(slotMethods, types, HASHCODE_METHOD, SlotType.HASHCODE);
+        extensionMetadata.getExtensionMethods().forEach(method -> addSlot(slotMethods, types, method, SlotType.EXTENSION_METHOD));
+        extensionMetadata.getFinalizer().ifPresent(method -> addSlot(slotMethods, types, method, SlotType.FINALIZER));
+
+        final List<Method> methodList = new ArrayList<>(slotMethods.size());
+        final List<SlotType> typeList = new ArrayList<>(slotMethods.size());
+        this.slotsByKey = new HashMap<>();
+        slotMethods.forEach((key, method) -> {
+            slotsByKey.put(key, methodList.size());
+            methodList.add(method);
+            typeList.add(types.get(key));
+        });
+
+        this.methods = methodList.toArray(new Method[0]);
+        this.slotTypes = typeList.toArray(new SlotType[0]);
+    }
+
+    private static void addSlot(Map<MethodKey, Method> slotMethods, Map<MethodKey, SlotType> types, Method method, SlotType type) {
+        final MethodKey key = methodKey(method);
+        slotMethods.put(key, method);
+        types.put(key, type);
+    }
+
+    int size() {
+        return methods.length;
+    }
+
+    Method method(int slot) {
+        return methods[slot];
+    }
+
+    SlotType slotType(int slot) {
+        return slotTypes[slot];
+    }
+
+    int slotFor(Method method) {
+        final Integer slot = slotsByMethod.get(method);
+        if (slot != null) {
+            return slot;
+        }
+        return slotsByMethod.computeIfAbsent(method, m -> {
+            Integer keySlot = slotsByKey.get(methodKey(m));
+            if (keySlot == null) {
+                throw new IllegalStateException("No extension handler for " + m);
+            }
+            return keySlot;
+        });
+    }
+}
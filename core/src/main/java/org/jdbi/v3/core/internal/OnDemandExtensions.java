@@ -53,7 +53,7 @@ public class OnDemandExtensions implements JdbiConfig<OnDemandExtensions> {
     }
 
     private Object createProxy(Jdbi jdbi, Class<?> extensionType, Class<?>... extraTypes) {
-        jdbi.getConfig(Extensions.class).onCreateProxy();
+        jdbi.getConfig().lookup(Extensions.class).onCreateProxy();
 
         @SuppressWarnings("PMD.CompareObjectsWithEquals")
         InvocationHandler handler = (proxy, method, args) -> {
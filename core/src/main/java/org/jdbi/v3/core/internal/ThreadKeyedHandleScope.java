@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.internal;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.jdbi.v3.core.HandleScope;
+import org.jdbi.v3.core.extension.HandleSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A per-thread {@link HandleScope} that does not use thread locals. The handle suppliers are kept in a single map
+ * owned by the scope, so a thread that uses a handle only for a short time (e.g. one of many virtual threads) does
+ * not allocate a thread local map for it. The map holds its threads weakly: an entry that was never cleared is
+ * dropped once its thread has terminated and been garbage collected.
+ */
+public final class ThreadKeyedHandleScope implements HandleScope {
+
+    private final Map<Thread, HandleSupplier> handleSuppliers = Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public HandleSupplier get() {
+        return handleSuppliers.get(Thread.currentThread());
+    }
+
+    @Override
+    public void set(HandleSupplier handleSupplier) {
+        requireNonNull(handleSupplier, "handleSupplier is null");
+        handleSuppliers.put(Thread.currentThread(), handleSupplier);
+    }
+
+    @Override
+    public void clear() {
+        handleSuppliers.remove(Thread.currentThread());
+    }
+}
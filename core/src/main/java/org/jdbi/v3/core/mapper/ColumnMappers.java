@@ -43,6 +43,9 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
     private boolean coalesceNullPrimitivesToDefaults = true;
     private ConfigRegistry registry;
 
+    // identifies the registered factories and settings. Copies share it until they are modified.
+    private Object version = new Object();
+
     public ColumnMappers() {
         inferenceInterceptors = new JdbiInterceptionChainHolder<>(InferredColumnMapperFactory::new);
         factories = new CopyOnWriteArrayList<>();
@@ -64,6 +67,7 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
         cache = new CopyOnWriteHashMap<>(that.cache);
         inferenceInterceptors = new JdbiInterceptionChainHolder<>(that.inferenceInterceptors);
         coalesceNullPrimitivesToDefaults = that.coalesceNullPrimitivesToDefaults;
+        version = that.version;
     }
 
     @Override
@@ -157,6 +161,7 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
     public ColumnMappers register(QualifiedColumnMapperFactory factory) {
         factories.add(0, factory);
         cache.clear();
+        version = new Object();
         return this;
     }
 
@@ -246,6 +251,19 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
      */
     public void setCoalesceNullPrimitivesToDefaults(boolean coalesceNullPrimitivesToDefaults) {
         this.coalesceNullPrimitivesToDefaults = coalesceNullPrimitivesToDefaults;
+        version = new Object();
+    }
+
+    /**
+     * Returns an object that identifies the registered column mappers and settings of this configuration. Copies return
+     * the same object until they are modified, so it can be used to cache values that depend on the column mappers.
+     *
+     * @return an object that is compared by identity
+     * @since 3.50.0
+     */
+    @Alpha
+    public Object getVersion() {
+        return version;
     }
 
     @Override
@@ -61,7 +61,7 @@ public class GenericMapMapperFactory implements RowMapperFactory {
             .filter(map -> String.class.equals(GenericTypes.findGenericParameter(map, Map.class, 0).orElse(null)))
             .flatMap(map -> GenericTypes.findGenericParameter(map, Map.class, 1))
             .filter(value -> !Object.class.equals(value))
-            .flatMap(config.get(ColumnMappers.class)::findFor)
+            .flatMap(config.lookup(ColumnMappers.class)::findFor)
             .map(GenericMapMapper::new);
     }
 
@@ -74,7 +74,7 @@ public class GenericMapMapperFactory implements RowMapperFactory {
      * @return A {@link RowMapper} for a map from string to the given value type
      */
     public static <T> RowMapper<Map<String, T>> getMapperForValueType(Class<T> valueType, ConfigRegistry config) {
-        return config.get(ColumnMappers.class)
+        return config.lookup(ColumnMappers.class)
             .findFor(valueType)
             .map(GenericMapMapper::new)
             .orElseThrow(() -> new RuntimeException("no column mapper found for type " + valueType));
@@ -89,7 +89,7 @@ public class GenericMapMapperFactory implements RowMapperFactory {
      * @return A {@link RowMapper} for a map from string to the given value type
      */
     public static <T> RowMapper<Map<String, T>> getMapperForValueType(GenericType<T> valueType, ConfigRegistry config) {
-        return config.get(ColumnMappers.class)
+        return config.lookup(ColumnMappers.class)
             .findFor(valueType)
             .map(GenericMapMapper::new)
             .orElseThrow(() -> new RuntimeException("no column mapper found for type " + valueType));
@@ -110,7 +110,7 @@ public class GenericMapMapperFactory implements RowMapperFactory {
 
         @Override
         public RowMapper<Map<String, T>> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
-            List<String> keyNames = getMapKeys(rs.getMetaData(), ctx.getConfig(MapMappers.class).getCaseChange());
+            List<String> keyNames = getMapKeys(rs.getMetaData(), ctx.getConfig().lookup(MapMappers.class).getCaseChange());
 
             return (r, c) -> {
                 Map<String, T> row = new HashMap<>();
@@ -66,13 +66,13 @@ public class MapEntryMapper<K, V> implements RowMapper<Map.Entry<K, V>> {
     }
 
     private static RowMapper<?> getKeyMapper(Type keyType, ConfigRegistry config) {
-        String column = config.get(MapEntryMappers.class).getKeyColumn();
+        String column = config.lookup(MapEntryMappers.class).getKeyColumn();
         if (column == null) {
-            return config.get(RowMappers.class)
+            return config.lookup(RowMappers.class)
                     .findFor(keyType)
                     .orElseThrow(() -> new NoSuchMapperException(format("Map key column is not declared (missing @KeyColumn annotation?) and no row mapper for key type '%s' is registered!", keyType)));
         } else {
-            return config.get(ColumnMappers.class)
+            return config.lookup(ColumnMappers.class)
                     .findFor(keyType)
                     .map(mapper -> new SingleColumnMapper<>(mapper, column))
                     .orElseThrow(() -> new NoSuchMapperException(format("Type '%s' for map key column '%s' has no column mapper registered!", keyType, column)));
@@ -80,13 +80,13 @@ public class MapEntryMapper<K, V> implements RowMapper<Map.Entry<K, V>> {
     }
 
     private static RowMapper<?> getValueMapper(Type valueType, ConfigRegistry config) {
-        String column = config.get(MapEntryMappers.class).getValueColumn();
+        String column = config.lookup(MapEntryMappers.class).getValueColumn();
         if (column == null) {
-            return config.get(RowMappers.class)
+            return config.lookup(RowMappers.class)
                     .findFor(valueType)
                     .orElseThrow(() -> new NoSuchMapperException(format("Map value column is not declared (missing @ValueColumn annotation?) and no row mapper for value type '%s' is registered!", valueType)));
         } else {
-            return config.get(ColumnMappers.class)
+            return config.lookup(ColumnMappers.class)
                     .findFor(valueType)
                     .map(mapper -> new SingleColumnMapper<>(mapper, column))
                     .orElseThrow(() -> new NoSuchMapperException(format("Type '%s' for map value column '%s' has no column mapper registered!", valueType, column)));
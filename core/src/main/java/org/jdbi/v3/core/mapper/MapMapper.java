@@ -42,7 +42,7 @@ public class MapMapper implements RowMapper<Map<String, Object>> {
      * Constructs a new MapMapper and delegates case control to MapMappers.
      */
     public MapMapper() {
-        caseStrategy = ctx -> ctx.getConfig(MapMappers.class).getCaseChange();
+        caseStrategy = ctx -> ctx.getConfig().lookup(MapMappers.class).getCaseChange();
     }
 
     /**
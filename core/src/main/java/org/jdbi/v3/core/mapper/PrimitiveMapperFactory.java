@@ -21,6 +21,7 @@ import java.util.Optional;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
+import org.jdbi.v3.core.statement.StatementContext;
 
 import static org.jdbi.v3.core.generic.GenericTypes.getErasedType;
 
@@ -36,6 +37,8 @@ import static org.jdbi.v3.core.generic.GenericTypes.getErasedType;
  *     <li>{@code float}</li>
  *     <li>{@code double}</li>
  * </ul>
+ * The {@code int}, {@code long} and {@code double} mappers implement {@link IntColumnMapper}, {@link LongColumnMapper}
+ * and {@link DoubleColumnMapper}.
  */
 class PrimitiveMapperFactory implements ColumnMapperFactory {
     private final IdentityHashMap<Class<?>, ColumnMapper<?>> mappers = new IdentityHashMap<>();
@@ -45,10 +48,22 @@ class PrimitiveMapperFactory implements ColumnMapperFactory {
         mappers.put(byte.class, primitiveMapper(ResultSet::getByte));
         mappers.put(char.class, primitiveMapper(PrimitiveMapperFactory::getChar));
         mappers.put(short.class, primitiveMapper(ResultSet::getShort));
-        mappers.put(int.class, primitiveMapper(ResultSet::getInt));
-        mappers.put(long.class, primitiveMapper(ResultSet::getLong));
+        mappers.put(int.class, (IntColumnMapper) (r, i, ctx) -> {
+            int value = r.getInt(i);
+            checkNull(r, i, ctx);
+            return value;
+        });
+        mappers.put(long.class, (LongColumnMapper) (r, i, ctx) -> {
+            long value = r.getLong(i);
+            checkNull(r, i, ctx);
+            return value;
+        });
         mappers.put(float.class, primitiveMapper(ResultSet::getFloat));
-        mappers.put(double.class, primitiveMapper(ResultSet::getDouble));
+        mappers.put(double.class, (DoubleColumnMapper) (r, i, ctx) -> {
+            double value = r.getDouble(i);
+            checkNull(r, i, ctx);
+            return value;
+        });
     }
 
     @Override
@@ -61,17 +76,20 @@ class PrimitiveMapperFactory implements ColumnMapperFactory {
     private static <T> ColumnMapper<T> primitiveMapper(ColumnGetter<T> getter) {
         return (r, i, ctx) -> {
             T value = getter.get(r, i);
-            if (r.wasNull() && !ctx.getConfig(ColumnMappers.class).getCoalesceNullPrimitivesToDefaults()) {
-                String msg = String.format("Database null values are not allowed for Java primitives by the current configuration:"
-                    + " could not map column %s (%s)."
-                    + " Change your result type to a boxed primitive to resolve.", i, r.getMetaData().getColumnLabel(i));
-                throw new UnableToProduceResultException(msg);
-            } else {
-                return value;
-            }
+            checkNull(r, i, ctx);
+            return value;
         };
     }
 
+    private static void checkNull(ResultSet r, int i, StatementContext ctx) throws SQLException {
+        if (r.wasNull() && !ctx.getConfig().lookup(ColumnMappers.class).getCoalesceNullPrimitivesToDefaults()) {
+            String msg = String.format("Database null values are not allowed for Java primitives by the current configuration:"
+                + " could not map column %s (%s)."
+                + " Change your result type to a boxed primitive to resolve.", i, r.getMetaData().getColumnLabel(i));
+            throw new UnableToProduceResultException(msg);
+        }
+    }
+
     private static char getChar(ResultSet r, int i) throws SQLException {
         Character character = getCharacter(r, i);
         return character == null ? '\000' : character;
@@ -15,6 +15,7 @@ package org.jdbi.v3.core.mapper.reflect;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
@@ -58,7 +59,8 @@ class ConstructorInstanceFactory<T> extends InstanceFactory<T> {
     @Override
     T newInstance(Object... params) {
         try {
-            return (T) constructorHandle.invokeWithArguments(params);
+            Object instance = constructorHandle.invokeExact(params);
+            return (T) instance;
         } catch (Throwable e) {
             throw Sneaky.throwAnyway(e);
         }
@@ -109,12 +111,24 @@ class ConstructorInstanceFactory<T> extends InstanceFactory<T> {
 
     private static <T> MethodHandle getConstructorMethodHandle(Constructor<T> constructor) {
         try {
-            return LOOKUP.unreflectConstructor(constructor).asFixedArity();
+            return spreadArguments(LOOKUP.unreflectConstructor(constructor));
         } catch (IllegalAccessException e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Adapts a handle to take all of its arguments as a single {@code Object[]} and return an {@code Object}, so that it
+     * can be called with {@link MethodHandle#invokeExact(Object...)}. Unlike {@link MethodHandle#invokeWithArguments(Object...)},
+     * which looks up a new invoker for every call, the adapted handle is created once and gets compiled by the JVM.
+     */
+    static MethodHandle spreadArguments(MethodHandle handle) {
+        int parameterCount = handle.type().parameterCount();
+        return handle.asFixedArity()
+            .asType(MethodType.genericMethodType(parameterCount))
+            .asSpreader(Object[].class, parameterCount);
+    }
+
     private static <T> Stream<Field> getFields(Constructor<T> constructor) {
         return Arrays.stream(constructor.getDeclaringClass().getDeclaredFields())
             .filter(field -> !Modifier.isStatic(field.getModifiers()));
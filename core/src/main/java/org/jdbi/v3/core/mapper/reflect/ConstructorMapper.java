@@ -39,6 +39,7 @@ import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.mapper.RowMapperFactory;
 import org.jdbi.v3.core.mapper.SingleColumnMapper;
 import org.jdbi.v3.core.mapper.reflect.internal.NullDelegatingMapper;
+import org.jdbi.v3.core.mapper.reflect.internal.SpecializedRowMapperCache;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.qualifier.Qualifiers;
 import org.jdbi.v3.core.statement.StatementContext;
@@ -232,17 +233,22 @@ public final class ConstructorMapper<T> implements RowMapper<T> {
 
     @Override
     public RowMapper<T> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
-        final UnaryOperator<String> caseChange = ctx.getConfig(ReflectionMappers.class).getCaseChange();
+        return SpecializedRowMapperCache.specialize(List.of(ConstructorMapper.class, factory.getExecutable(), prefix), rs, ctx,
+            () -> createSpecializedRowMapper(rs, ctx));
+    }
+
+    private RowMapper<T> createSpecializedRowMapper(ResultSet rs, StatementContext ctx) throws SQLException {
+        final UnaryOperator<String> caseChange = ctx.getConfig().lookup(ReflectionMappers.class).getCaseChange();
         final List<String> columnNames = getColumnNames(rs, caseChange);
         final List<ColumnNameMatcher> columnNameMatchers =
-                ctx.getConfig(ReflectionMappers.class).getColumnNameMatchers();
+                ctx.getConfig().lookup(ReflectionMappers.class).getColumnNameMatchers();
         final List<String> unmatchedColumns = new ArrayList<>(columnNames);
 
         RowMapper<T> mapper = createSpecializedRowMapper(ctx, columnNames, columnNameMatchers, unmatchedColumns, Function.identity())
             .orElseGet(() -> new UnmatchedConstructorMapper<>(format(
                 UNMATCHED_CONSTRUCTOR_PARAMETERS, factory)));
 
-        if (ctx.getConfig(ReflectionMappers.class).isStrictMatching()
+        if (ctx.getConfig().lookup(ReflectionMappers.class).isStrictMatching()
             && anyColumnsStartWithPrefix(unmatchedColumns, prefix, columnNameMatchers)) {
 
             return new UnmatchedConstructorMapper<>(
@@ -278,7 +284,7 @@ public final class ConstructorMapper<T> implements RowMapper<T> {
                 if (columnIndex.isPresent()) {
                     int colIndex = columnIndex.getAsInt();
                     final QualifiedType<?> type = QualifiedType.of(parameterType)
-                        .withAnnotations(ctx.getConfig(Qualifiers.class).findFor(parameter));
+                        .withAnnotations(ctx.getConfig().lookup(Qualifiers.class).findFor(parameter));
                     paramData.add(new ParameterData(i, parameter, ctx.findColumnMapperFor(type)
                         .map(mapper -> new SingleColumnMapper<>(mapper, colIndex + 1))
                         .orElseThrow(() -> new IllegalArgumentException(
@@ -13,8 +13,12 @@
  */
 package org.jdbi.v3.core.mapper.reflect;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Modifier;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -31,13 +35,18 @@ import java.util.function.UnaryOperator;
 
 import org.jdbi.v3.core.annotation.internal.JdbiAnnotations;
 import org.jdbi.v3.core.generic.GenericTypes;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
 import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.DoubleColumnMapper;
+import org.jdbi.v3.core.mapper.IntColumnMapper;
+import org.jdbi.v3.core.mapper.LongColumnMapper;
 import org.jdbi.v3.core.mapper.Nested;
 import org.jdbi.v3.core.mapper.PropagateNull;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.mapper.RowMapperFactory;
 import org.jdbi.v3.core.mapper.SingleColumnMapper;
 import org.jdbi.v3.core.mapper.reflect.internal.NullDelegatingMapper;
+import org.jdbi.v3.core.mapper.reflect.internal.SpecializedRowMapperCache;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.qualifier.Qualifiers;
 import org.jdbi.v3.core.statement.StatementContext;
@@ -59,6 +68,7 @@ import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.getColumnName
  */
 public final class FieldMapper<T> implements RowMapper<T> {
     private static final String DEFAULT_PREFIX = "";
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
 
     /**
      * Returns a mapper factory that maps to the given bean class
@@ -107,6 +117,8 @@ public final class FieldMapper<T> implements RowMapper<T> {
     private final Class<T> type;
     private final String prefix;
     private final Map<Field, FieldMapper<?>> nestedMappers = new ConcurrentHashMap<>();
+    // shared by all specialized mappers, so that the JVM only needs to compile each handle once.
+    private final Map<Member, Optional<MethodHandle>> methodHandles = new ConcurrentHashMap<>();
 
     private FieldMapper(Class<T> type, String prefix) {
         this.type = type;
@@ -120,15 +132,20 @@ public final class FieldMapper<T> implements RowMapper<T> {
 
     @Override
     public RowMapper<T> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
-        final UnaryOperator<String> caseChange = ctx.getConfig(ReflectionMappers.class).getCaseChange();
+        return SpecializedRowMapperCache.specialize(List.of(FieldMapper.class, type, prefix), rs, ctx,
+            () -> createSpecializedRowMapper(rs, ctx));
+    }
+
+    private RowMapper<T> createSpecializedRowMapper(ResultSet rs, StatementContext ctx) throws SQLException {
+        final UnaryOperator<String> caseChange = ctx.getConfig().lookup(ReflectionMappers.class).getCaseChange();
         final List<String> columnNames = getColumnNames(rs, caseChange);
-        final List<ColumnNameMatcher> columnNameMatchers = ctx.getConfig(ReflectionMappers.class).getColumnNameMatchers();
+        final List<ColumnNameMatcher> columnNameMatchers = ctx.getConfig().lookup(ReflectionMappers.class).getColumnNameMatchers();
         final List<String> unmatchedColumns = new ArrayList<>(columnNames);
 
         RowMapper<T> mapper = createSpecializedRowMapper(ctx, columnNames, columnNameMatchers, unmatchedColumns, Function.identity())
             .orElseThrow(() -> new IllegalArgumentException(format("Mapping fields for type %s didn't find any matching columns in result set", type)));
 
-        if (ctx.getConfig(ReflectionMappers.class).isStrictMatching()
+        if (ctx.getConfig().lookup(ReflectionMappers.class).isStrictMatching()
             && anyColumnsStartWithPrefix(unmatchedColumns, prefix, columnNameMatchers)) {
             throw new IllegalArgumentException(
                 format("Mapping type %s could not match fields for columns: %s", type.getSimpleName(), unmatchedColumns));
@@ -156,10 +173,10 @@ public final class FieldMapper<T> implements RowMapper<T> {
                     findColumnIndex(paramName, columnNames, columnNameMatchers, () -> debugName(field))
                         .ifPresent(index -> {
                             QualifiedType<?> fieldType = QualifiedType.of(field.getGenericType())
-                                .withAnnotations(ctx.getConfig(Qualifiers.class).findFor(field));
+                                .withAnnotations(ctx.getConfig().lookup(Qualifiers.class).findFor(field));
                             ColumnMapper<?> mapper = ctx.findColumnMapperFor(fieldType)
                                 .orElse(getDefaultColumnMapper());
-                            fields.add(new FieldData(field, new SingleColumnMapper<>(mapper, index + 1)));
+                            fields.add(new FieldData(field, mapper, index + 1));
                             unmatchedColumns.remove(columnNames.get(index));
                         });
                 } else {
@@ -194,7 +211,7 @@ public final class FieldMapper<T> implements RowMapper<T> {
 
         fields.sort(Comparator.comparing(f -> f.propagateNull ? 1 : 0));
 
-        final ReflectionMappers reflectionConfig = ctx.getConfig(ReflectionMappers.class);
+        final ReflectionMappers reflectionConfig = ctx.getConfig().lookup(ReflectionMappers.class);
         fields.forEach(fieldData ->
                 reflectionConfig.makeAccessible(fieldData.field));
 
@@ -248,29 +265,140 @@ public final class FieldMapper<T> implements RowMapper<T> {
         return propagateNullValue.isPresent();
     }
 
+    // Method handles are only used if they can be created. Otherwise (e.g. final fields
+    // or a no-op accessibility strategy), the mapper falls back to plain reflection.
+    private static Optional<MethodHandle> unreflectConstructor(Constructor<?> constructor) {
+        try {
+            return Optional.of(LOOKUP.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class)));
+        } catch (IllegalAccessException | SecurityException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<MethodHandle> unreflectSetter(Field field) {
+        try {
+            return Optional.of(LOOKUP.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, field.getType())));
+        } catch (IllegalAccessException | SecurityException e) {
+            return Optional.empty();
+        }
+    }
+
+    // Maps a column directly into a primitive field if the column mapper supports it. Returns null otherwise.
+    private static PrimitiveWriter primitiveWriter(FieldData f, MethodHandle setter) {
+        if (setter == null || f.columnMapper == null) {
+            return null;
+        }
+
+        final int columnNumber = f.columnNumber;
+        final boolean propagateNull = f.propagateNull;
+        final Class<?> fieldType = f.field.getType();
+
+        if (fieldType == int.class && f.columnMapper instanceof IntColumnMapper) {
+            final IntColumnMapper mapper = (IntColumnMapper) f.columnMapper;
+            return (obj, rs, ctx) -> {
+                int value = mapper.mapInt(rs, columnNumber, ctx);
+                if (propagateNull && rs.wasNull()) {
+                    return false;
+                }
+                try {
+                    setter.invokeExact(obj, value);
+                } catch (Throwable e) {
+                    throw Sneaky.throwAnyway(e);
+                }
+                return true;
+            };
+        } else if (fieldType == long.class && f.columnMapper instanceof LongColumnMapper) {
+            final LongColumnMapper mapper = (LongColumnMapper) f.columnMapper;
+            return (obj, rs, ctx) -> {
+                long value = mapper.mapLong(rs, columnNumber, ctx);
+                if (propagateNull && rs.wasNull()) {
+                    return false;
+                }
+                try {
+                    setter.invokeExact(obj, value);
+                } catch (Throwable e) {
+                    throw Sneaky.throwAnyway(e);
+                }
+                return true;
+            };
+        } else if (fieldType == double.class && f.columnMapper instanceof DoubleColumnMapper) {
+            final DoubleColumnMapper mapper = (DoubleColumnMapper) f.columnMapper;
+            return (obj, rs, ctx) -> {
+                double value = mapper.mapDouble(rs, columnNumber, ctx);
+                if (propagateNull && rs.wasNull()) {
+                    return false;
+                }
+                try {
+                    setter.invokeExact(obj, value);
+                } catch (Throwable e) {
+                    throw Sneaky.throwAnyway(e);
+                }
+                return true;
+            };
+        }
+
+        return null;
+    }
+
+    @FunctionalInterface
+    private interface PrimitiveWriter {
+        /**
+         * Maps the column and writes the field.
+         *
+         * @return false if the column was null and the field propagates null.
+         */
+        boolean write(Object obj, ResultSet rs, StatementContext ctx) throws SQLException;
+    }
+
     private static class FieldData {
 
         FieldData(Field field, RowMapper<?> mapper) {
+            this(field, mapper, null, 0);
+        }
+
+        FieldData(Field field, ColumnMapper<?> columnMapper, int columnNumber) {
+            this(field, new SingleColumnMapper<>(columnMapper, columnNumber), columnMapper, columnNumber);
+        }
+
+        private FieldData(Field field, RowMapper<?> mapper, ColumnMapper<?> columnMapper, int columnNumber) {
             this.field = field;
             this.mapper = mapper;
+            this.columnMapper = columnMapper;
+            this.columnNumber = columnNumber;
             propagateNull = checkPropagateNullAnnotation(field);
             isPrimitive = field.getType().isPrimitive();
         }
 
         final Field field;
         final RowMapper<?> mapper;
+        final ColumnMapper<?> columnMapper;
+        final int columnNumber;
         final boolean propagateNull;
         final boolean isPrimitive;
     }
 
     class BoundFieldMapper<R> implements RowMapper<R> {
         private final Constructor<T> constructor;
+        private final MethodHandle constructorHandle;
         private final List<FieldData> fields;
+        private final MethodHandle[] setters;
+        private final PrimitiveWriter[] primitiveWriters;
         private final Function<T, R> postProcessor;
 
         BoundFieldMapper(Constructor<T> constructor, List<FieldData> fields, Function<T, R> postProcessor) {
             this.constructor = constructor;
+            this.constructorHandle = methodHandles.computeIfAbsent(constructor, c -> unreflectConstructor(constructor)).orElse(null);
             this.fields = fields;
+            this.setters = new MethodHandle[fields.size()];
+            this.primitiveWriters = new PrimitiveWriter[fields.size()];
+            for (int i = 0; i < fields.size(); i++) {
+                FieldData f = fields.get(i);
+                MethodHandle setter = methodHandles.computeIfAbsent(f.field, c -> unreflectSetter(f.field)).orElse(null);
+                if (setter != null) {
+                    primitiveWriters[i] = primitiveWriter(f, setter);
+                    setters[i] = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+                }
+            }
             this.postProcessor = postProcessor;
         }
 
@@ -278,31 +406,62 @@ public final class FieldMapper<T> implements RowMapper<T> {
         public R map(ResultSet rs, StatementContext ctx) throws SQLException {
             T obj = construct();
 
-            for (FieldData f : fields) {
+            for (int i = 0; i < setters.length; i++) {
+                PrimitiveWriter primitiveWriter = primitiveWriters[i];
+                if (primitiveWriter != null) {
+                    if (!primitiveWriter.write(obj, rs, ctx)) {
+                        return postProcessor.apply(null);
+                    }
+                    continue;
+                }
+
+                FieldData f = fields.get(i);
                 Object value = f.mapper.map(rs, ctx);
                 boolean wasNull = (value == null || (f.isPrimitive && rs.wasNull()));
                 if (f.propagateNull && wasNull) {
                     return postProcessor.apply(null);
                 }
-                writeField(obj, f.field, value);
+                writeField(obj, f, setters[i], value);
             }
 
             return postProcessor.apply(obj);
         }
 
+        @SuppressWarnings("unchecked")
         private T construct() {
+            if (constructorHandle == null) {
+                try {
+                    return constructor.newInstance();
+                } catch (ReflectiveOperationException | SecurityException e) {
+                    throw new IllegalArgumentException(format("A type, %s, was mapped which was not instantiable", type.getName()), e);
+                }
+            }
+
             try {
-                return constructor.newInstance();
-            } catch (ReflectiveOperationException | SecurityException e) {
+                Object instance = constructorHandle.invokeExact();
+                return (T) instance;
+            } catch (Throwable e) {
                 throw new IllegalArgumentException(format("A type, %s, was mapped which was not instantiable", type.getName()), e);
             }
         }
 
-        private void writeField(T obj, Field field, Object value) {
+        private void writeField(Object obj, FieldData f, MethodHandle setter, Object value) {
+            // a null value can not be unboxed into a primitive field, let reflection report that.
+            if (setter != null && !(value == null && f.isPrimitive)) {
+                try {
+                    setter.invokeExact(obj, value);
+                    return;
+                } catch (ClassCastException ignored) {
+                    // the value does not fit the field. Fall through to reflection, which reports this the same way as before.
+                } catch (Throwable e) {
+                    throw Sneaky.throwAnyway(e);
+                }
+            }
+
             try {
-                field.set(obj, value);
+                f.field.set(obj, value);
             } catch (IllegalAccessException e) {
-                throw new IllegalArgumentException(format("Unable to access property, %s", field.getName()), e);
+                throw new IllegalArgumentException(format("Unable to access property, %s", f.field.getName()), e);
             }
         }
 
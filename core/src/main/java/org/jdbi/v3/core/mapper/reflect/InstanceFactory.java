@@ -34,6 +34,10 @@ abstract class InstanceFactory<T> {
         this.executable = requireNonNull(executable, "executable is null");
     }
 
+    Executable getExecutable() {
+        return executable;
+    }
+
     Class<?> getDeclaringClass() {
         return executable.getDeclaringClass();
     }
@@ -21,9 +21,13 @@ import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 
+import org.jdbi.v3.core.cache.JdbiCache;
+import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheBuilder;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.mapper.CaseStrategy;
+import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.meta.Alpha;
+import org.jdbi.v3.meta.Beta;
 
 import static org.jdbi.v3.core.mapper.reflect.AccessibleObjectStrategy.DO_NOT_MAKE_ACCESSIBLE;
 import static org.jdbi.v3.core.mapper.reflect.AccessibleObjectStrategy.FORCE_MAKE_ACCESSIBLE;
@@ -33,10 +37,15 @@ import static org.jdbi.v3.core.mapper.reflect.AccessibleObjectStrategy.FORCE_MAK
  */
 public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
 
+    /** The size of the specialized mapper cache. */
+    public static final int SPECIALIZED_MAPPER_CACHE_SIZE = 1_000;
+
     private List<ColumnNameMatcher> columnNameMatchers;
     private boolean strictMatching;
     private UnaryOperator<String> caseChange;
     private Consumer<AccessibleObject> makeAccessible;
+    private boolean specializedMapperCacheEnabled;
+    private final JdbiCache<Object, RowMapper<?>> specializedMapperCache;
 
     /**
      * Create a default configuration that attempts case insensitive and
@@ -49,6 +58,8 @@ public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
         strictMatching = false;
         caseChange = CaseStrategy.LOCALE_LOWER;
         makeAccessible = FORCE_MAKE_ACCESSIBLE;
+        specializedMapperCacheEnabled = false;
+        specializedMapperCache = DefaultJdbiCacheBuilder.builder().maxSize(SPECIALIZED_MAPPER_CACHE_SIZE).build();
     }
 
     private ReflectionMappers(ReflectionMappers that) {
@@ -56,6 +67,8 @@ public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
         strictMatching = that.strictMatching;
         caseChange = that.caseChange;
         makeAccessible = that.makeAccessible;
+        specializedMapperCacheEnabled = that.specializedMapperCacheEnabled;
+        specializedMapperCache = that.specializedMapperCache;
     }
 
     /**
@@ -122,6 +135,49 @@ public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
         return this;
     }
 
+    /**
+     * Returns whether specialized reflection mappers are cached.
+     *
+     * @return True if specialized mappers are cached.
+     * @since 3.50.0
+     */
+    @Beta
+    public boolean isSpecializedMapperCacheEnabled() {
+        return specializedMapperCacheEnabled;
+    }
+
+    /**
+     * Enables caching of specialized bean, field and constructor mappers. Before mapping a result set, these mappers match
+     * the result set columns to properties and look up a column mapper for each property. With this cache enabled, the result
+     * of this work is kept per mapped type and result set shape (column labels and types) and reused when the same
+     * query is executed again.
+     * <br>
+     * Specialized mappers are only reused with the same column mapper and pojo type configuration, which is compared by
+     * content, so statements that copy their configuration share them. Column name matching, case change and strict
+     * matching settings are taken into account. The cache holds at most {@link #SPECIALIZED_MAPPER_CACHE_SIZE}
+     * mappers and is shared by all copies of this configuration.
+     *
+     * @param specializedMapperCacheEnabled whether to cache specialized mappers
+     * @return this
+     * @since 3.50.0
+     */
+    @Beta
+    public ReflectionMappers setSpecializedMapperCacheEnabled(boolean specializedMapperCacheEnabled) {
+        this.specializedMapperCacheEnabled = specializedMapperCacheEnabled;
+        return this;
+    }
+
+    /**
+     * Returns the cache for specialized mappers. Used by the reflection mappers, not intended for user code.
+     *
+     * @return the specialized mapper cache
+     * @since 3.50.0
+     */
+    @Alpha
+    public JdbiCache<Object, RowMapper<?>> getSpecializedMapperCache() {
+        return specializedMapperCache;
+    }
+
     /**
      * Set the strategy Jdbi uses for Java accessibility rules.
      * The legacy default is to call {@code setAccessible(true)} in certain cases when we try to use a Constructor, Method, or Field.
@@ -13,11 +13,12 @@
  */
 package org.jdbi.v3.core.mapper.reflect;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.function.Function;
 
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
 import org.jdbi.v3.core.internal.exceptions.Unchecked;
 
 import static java.lang.String.format;
@@ -25,19 +26,18 @@ import static java.util.Objects.requireNonNull;
 
 class StaticMethodInstanceFactory<T> extends InstanceFactory<T> {
     private final Class<T> type;
-    private final Function<Object[], Object> method;
+    private final Method method;
+    private final MethodHandle methodHandle;
 
     StaticMethodInstanceFactory(Class<T> type, Method method) {
         super(method);
         this.type = requireNonNull(type, "type is null");
-        requireNonNull(method, "method is null");
+        this.method = requireNonNull(method, "method is null");
         if (!isStaticFactoryMethodFor(method, type)) {
             throw new IllegalArgumentException(format("Given method \"%s\" is not a valid factory method for %s", method, type));
         }
-        this.method = Unchecked.function(
-                Unchecked.function(MethodHandles.lookup()::unreflect)
-                    .apply(method)
-                ::invokeWithArguments);
+        this.methodHandle = ConstructorInstanceFactory.spreadArguments(
+                Unchecked.function(MethodHandles.lookup()::unreflect).apply(method));
     }
 
     private static boolean isStaticFactoryMethodFor(Method method, Class<?> type) {
@@ -47,7 +47,12 @@ class StaticMethodInstanceFactory<T> extends InstanceFactory<T> {
 
     @Override
     T newInstance(Object... params) {
-        return type.cast(method.apply(params));
+        try {
+            Object instance = methodHandle.invokeExact(params);
+            return type.cast(instance);
+        } catch (Throwable e) {
+            throw Sneaky.throwAnyway(e);
+        }
     }
 
     @Override
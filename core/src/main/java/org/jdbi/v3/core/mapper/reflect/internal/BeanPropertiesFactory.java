@@ -69,7 +69,8 @@ public class BeanPropertiesFactory {
 
     static class BeanPojoProperties<T> extends PojoProperties<T> {
 
-        private final ConfigRegistry config;
+        private ConfigRegistry config;
+        private volatile PropertiesHolder<T> holder;
 
         BeanPojoProperties(Type type, ConfigRegistry config) {
             super(type);
@@ -79,22 +80,31 @@ public class BeanPropertiesFactory {
         @SuppressWarnings({"unchecked", "rawtypes"})
         @Override
         public Map<String, BeanPojoProperty<T>> getProperties() {
-            return (Map) PROPERTY_CACHE.get(getType(), config).properties;
+            return (Map) holder().properties;
         }
 
         @Override
         public PojoBuilder<T> create() {
-            @SuppressWarnings("unchecked")
-            final PropertiesHolder<T> holder = (PropertiesHolder<T>) PROPERTY_CACHE.get(getType(), config);
-            final T instance = holder.getInstance();
+            final PropertiesHolder<T> propertiesHolder = holder();
+            final T instance = propertiesHolder.getInstance();
             return new PojoBuilder<>() {
                 @Override
                 public void set(String property, Object value) {
-                    holder.properties.get(property)
+                    propertiesHolder.properties.get(property)
                             .setter()
                             .accept(instance, value);
                 }
 
+                @Override
+                public void set(PojoProperty<T> property, Object value) {
+                    // bean properties carry their setter, so the property name lookup can be skipped
+                    if (property instanceof BeanPojoProperty) {
+                        ((BeanPojoProperty<T>) property).setter().accept(instance, value);
+                    } else {
+                        set(property.getName(), value);
+                    }
+                }
+
                 @Override
                 public T build() {
                     return instance;
@@ -102,6 +112,24 @@ public class BeanPropertiesFactory {
             };
         }
 
+        // mappers keep their properties for all rows, so the property cache lookup is done only once. The
+        // configuration is released afterwards, so cached mappers do not keep it alive.
+        @SuppressWarnings("unchecked")
+        private PropertiesHolder<T> holder() {
+            PropertiesHolder<T> result = holder;
+            if (result == null) {
+                synchronized (this) {
+                    result = holder;
+                    if (result == null) {
+                        result = (PropertiesHolder<T>) PROPERTY_CACHE.get(getType(), config);
+                        holder = result;
+                        config = null;
+                    }
+                }
+            }
+            return result;
+        }
+
         static class BeanPojoProperty<T> implements PojoProperty<T> {
 
             final PropertyDescriptor descriptor;
@@ -72,16 +72,21 @@ public class PojoMapper<T> implements RowMapper<T> {
 
     @Override
     public RowMapper<T> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
-        final UnaryOperator<String> caseChange = ctx.getConfig(ReflectionMappers.class).getCaseChange();
+        return SpecializedRowMapperCache.specialize(List.of(getClass(), type, prefix, strictColumnTypeMapping), rs, ctx,
+            () -> createSpecializedRowMapper(rs, ctx));
+    }
+
+    private RowMapper<T> createSpecializedRowMapper(ResultSet rs, StatementContext ctx) throws SQLException {
+        final UnaryOperator<String> caseChange = ctx.getConfig().lookup(ReflectionMappers.class).getCaseChange();
         final List<String> columnNames = getColumnNames(rs, caseChange);
         final List<ColumnNameMatcher> columnNameMatchers =
-            ctx.getConfig(ReflectionMappers.class).getColumnNameMatchers();
+            ctx.getConfig().lookup(ReflectionMappers.class).getColumnNameMatchers();
         final List<String> unmatchedColumns = new ArrayList<>(columnNames);
 
         RowMapper<T> result = createSpecializedRowMapper(ctx, columnNames, columnNameMatchers, unmatchedColumns, Function.identity())
             .orElseThrow(() -> new IllegalArgumentException(format("Mapping bean %s didn't find any matching columns in result set", type)));
 
-        if (ctx.getConfig(ReflectionMappers.class).isStrictMatching()
+        if (ctx.getConfig().lookup(ReflectionMappers.class).isStrictMatching()
             && anyColumnsStartWithPrefix(unmatchedColumns, prefix, columnNameMatchers)) {
 
             throw new IllegalArgumentException(
@@ -97,8 +102,9 @@ public class PojoMapper<T> implements RowMapper<T> {
                                                                   List<String> unmatchedColumns,
                                                                   Function<T, R> postProcessor) {
         final List<PropertyData<T>> propList = new ArrayList<>();
+        final PojoProperties<T> properties = getProperties(ctx.getConfig());
 
-        for (PojoProperty<T> property : getProperties(ctx.getConfig()).getProperties().values()) {
+        for (PojoProperty<T> property : properties.getProperties().values()) {
             Nested nested = property.getAnnotation(Nested.class).orElse(null);
             if (!JdbiAnnotations.isMapped(property)) {
                 continue;
@@ -154,7 +160,7 @@ public class PojoMapper<T> implements RowMapper<T> {
 
         propList.sort(Comparator.comparing(p -> p.propagateNull ? 1 : 0));
 
-        RowMapper<R> boundMapper = new BoundPojoMapper<>(propList, postProcessor);
+        RowMapper<R> boundMapper = new BoundPojoMapper<>(type, prefix, properties, propList, postProcessor);
         OptionalInt propagateNullColumnIndex = locatePropagateNullColumnIndex(columnNames, columnNameMatchers);
 
         if (propagateNullColumnIndex.isPresent()) {
@@ -179,7 +185,7 @@ public class PojoMapper<T> implements RowMapper<T> {
 
     @SuppressWarnings("unchecked")
     protected PojoProperties<T> getProperties(ConfigRegistry config) {
-        return (PojoProperties<T>) config.get(PojoTypes.class).findFor(type)
+        return (PojoProperties<T>) config.lookup(PojoTypes.class).findFor(type)
             .orElseThrow(() -> new UnableToProduceResultException("Couldn't find properties for " + type));
     }
 
@@ -224,19 +230,26 @@ public class PojoMapper<T> implements RowMapper<T> {
         final boolean isPrimitive;
     }
 
-    class BoundPojoMapper<R> implements RowMapper<R> {
+    // does not reference the pojo mapper, so specialized mappers can be cached without it
+    static final class BoundPojoMapper<T, R> implements RowMapper<R> {
 
+        private final Type type;
+        private final String prefix;
+        private final PojoProperties<T> properties;
         private final List<PropertyData<T>> propList;
         private final Function<T, R> postProcessor;
 
-        BoundPojoMapper(List<PropertyData<T>> propList, Function<T, R> postProcessor) {
+        BoundPojoMapper(Type type, String prefix, PojoProperties<T> properties, List<PropertyData<T>> propList, Function<T, R> postProcessor) {
+            this.type = type;
+            this.prefix = prefix;
+            this.properties = properties;
             this.propList = propList;
             this.postProcessor = postProcessor;
         }
 
         @Override
         public R map(ResultSet rs, StatementContext ctx) throws SQLException {
-            final PojoBuilder<T> pojo = getProperties(ctx.getConfig()).create();
+            final PojoBuilder<T> pojo = properties.create();
             for (PropertyData<T> p : propList) {
                 Object value = p.mapper.map(rs, ctx);
                 boolean wasNull = (value == null || (p.isPrimitive && rs.wasNull()));
@@ -26,12 +26,16 @@ public class PojoTypes implements JdbiConfig<PojoTypes> {
     private final Map<Class<?>, PojoPropertiesFactory> factories;
     private ConfigRegistry registry;
 
+    // identifies the registered factories. Copies share it until they are modified.
+    private Object version = new Object();
+
     public PojoTypes() {
         factories = new CopyOnWriteHashMap<>();
     }
 
     private PojoTypes(PojoTypes other) {
         factories = new CopyOnWriteHashMap<>(other.factories);
+        version = other.version;
     }
 
     @Override
@@ -41,9 +45,19 @@ public class PojoTypes implements JdbiConfig<PojoTypes> {
 
     public PojoTypes register(Class<?> key, PojoPropertiesFactory factory) {
         factories.put(key, factory);
+        version = new Object();
         return this;
     }
 
+    /**
+     * Returns an object that identifies the registered factories. Copies return the same object until they are modified.
+     *
+     * @return an object that is compared by identity
+     */
+    public Object getVersion() {
+        return version;
+    }
+
     public Optional<PojoProperties<?>> findFor(Type type) {
         return Optional.ofNullable(factories.get(GenericTypes.getErasedType(type)))
                 .map(ppf -> ppf.create(type, registry));
@@ -0,0 +1,139 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect.internal;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+import org.jdbi.v3.core.internal.UtilityClassException;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.core.mapper.ColumnMappers;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.mapper.reflect.ColumnNameMatcher;
+import org.jdbi.v3.core.mapper.reflect.ReflectionMappers;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * Caches specialized reflection row mappers by mapper and result set shape. A mapper that is specialized for a result set
+ * with the same column labels and types and the same column mapper, pojo type and reflection mapper configuration as a
+ * previous one returns the previously specialized mapper. The configurations are compared by their content (see
+ * {@link ColumnMappers#getVersion()}), so statements that copy their configuration share the specialized mappers. The
+ * mappers are kept in the {@link ReflectionMappers#getSpecializedMapperCache() cache} of the reflection mapper
+ * configuration.
+ *
+ * @see ReflectionMappers#setSpecializedMapperCacheEnabled(boolean)
+ */
+public final class SpecializedRowMapperCache {
+
+    private SpecializedRowMapperCache() {
+        throw new UtilityClassException();
+    }
+
+    /**
+     * Specializes a mapper for a result set.
+     *
+     * @param mapperKey   identifies the mapper. Mappers with equal keys must produce equivalent specialized mappers for the same result set
+     * @param rs          the result set
+     * @param ctx         the statement context
+     * @param specializer creates the specialized mapper if it is not cached
+     * @return a specialized mapper
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RowMapper<T> specialize(Object mapperKey, ResultSet rs, StatementContext ctx, Specializer<T> specializer) throws SQLException {
+        final ReflectionMappers reflectionMappers = ctx.getConfig().lookup(ReflectionMappers.class);
+        if (!reflectionMappers.isSpecializedMapperCacheEnabled()) {
+            return specializer.specialize();
+        }
+
+        final Key key = new Key(mapperKey, rs.getMetaData(), reflectionMappers,
+            ctx.getConfig().lookup(ColumnMappers.class).getVersion(), ctx.getConfig().lookup(PojoTypes.class).getVersion());
+        return (RowMapper<T>) reflectionMappers.getSpecializedMapperCache().getWithLoader(key, k -> specialize(specializer));
+    }
+
+    private static RowMapper<?> specialize(Specializer<?> specializer) {
+        try {
+            return specializer.specialize();
+        } catch (SQLException e) {
+            throw Sneaky.throwAnyway(e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Specializer<T> {
+        RowMapper<T> specialize() throws SQLException;
+    }
+
+    private static final class Key {
+        private final Object mapperKey;
+        private final String[] columnLabels;
+        private final int[] columnTypes;
+        private final UnaryOperator<String> caseChange;
+        private final List<ColumnNameMatcher> columnNameMatchers;
+        private final boolean strictMatching;
+        // compared by identity; a statement or handle that registers its own mappers gets its own specialized mappers
+        private final Object columnMappersVersion;
+        private final Object pojoTypesVersion;
+        private final int hashCode;
+
+        Key(Object mapperKey, ResultSetMetaData metaData, ReflectionMappers reflectionMappers, Object columnMappersVersion, Object pojoTypesVersion) throws SQLException {
+            this.mapperKey = mapperKey;
+            this.columnMappersVersion = columnMappersVersion;
+            this.pojoTypesVersion = pojoTypesVersion;
+
+            final int columnCount = metaData.getColumnCount();
+            this.columnLabels = new String[columnCount];
+            this.columnTypes = new int[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                columnLabels[i] = metaData.getColumnLabel(i + 1);
+                columnTypes[i] = metaData.getColumnType(i + 1);
+            }
+
+            this.caseChange = reflectionMappers.getCaseChange();
+            this.columnNameMatchers = List.copyOf(reflectionMappers.getColumnNameMatchers());
+            this.strictMatching = reflectionMappers.isStrictMatching();
+
+            this.hashCode = Objects.hash(mapperKey, Arrays.hashCode(columnLabels), Arrays.hashCode(columnTypes), caseChange, columnNameMatchers, strictMatching, System.identityHashCode(columnMappersVersion), System.identityHashCode(pojoTypesVersion));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key that = (Key) o;
+            return hashCode == that.hashCode
+                && strictMatching == that.strictMatching
+                && columnMappersVersion == that.columnMappersVersion
+                && pojoTypesVersion == that.pojoTypesVersion
+                && mapperKey.equals(that.mapperKey)
+                && Arrays.equals(columnLabels, that.columnLabels)
+                && Arrays.equals(columnTypes, that.columnTypes)
+                && caseChange == that.caseChange
+                && columnNameMatchers.equals(that.columnNameMatchers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,481 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.DoubleColumnMapper;
+import org.jdbi.v3.core.mapper.IntColumnMapper;
+import org.jdbi.v3.core.mapper.LongColumnMapper;
+import org.jdbi.v3.core.mapper.NoSuchMapperException;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Beta;
+
+import static java.lang.String.format;
+
+/**
+ * A result set that was read column by column into arrays, without creating an object per row.
+ * <br>
+ * {@code int}, {@code long} and {@code double} columns are stored in primitive arrays, {@link String} columns are
+ * dictionary encoded (each distinct value is stored once, every row holds an index into the dictionary) and all other
+ * columns are stored as an {@code Object[]}. Database {@code null} values are tracked separately, see {@link #isNull(int, int)}.
+ * <br>
+ * Column indexes are zero based. Arrays returned by this class are not copied and must not be modified.
+ *
+ * @see ResultBearing#mapToColumns(Class[])
+ * @since 3.50.0
+ */
+@Beta
+public final class ColumnarResult {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final List<String> columnNames;
+    private final Column[] columns;
+    private final int rowCount;
+
+    private ColumnarResult(List<String> columnNames, Column[] columns, int rowCount) {
+        this.columnNames = columnNames;
+        this.columns = columns;
+        this.rowCount = rowCount;
+    }
+
+    static ColumnarResult read(ResultSet resultSet, StatementContext ctx, Class<?>[] columnTypes) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+
+        if (columnTypes.length > 0 && columnTypes.length != columnCount) {
+            throw new IllegalArgumentException(format("Result has %d columns but %d column types were given", columnCount, columnTypes.length));
+        }
+
+        List<String> columnNames = new ArrayList<>(columnCount);
+        Column[] columns = new Column[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnNames.add(metaData.getColumnLabel(i + 1));
+            Class<?> columnType = columnTypes.length > 0 ? columnTypes[i] : inferColumnType(metaData.getColumnType(i + 1));
+            columns[i] = createColumn(columnType, i + 1, ctx);
+        }
+
+        int capacity = INITIAL_CAPACITY;
+        int rows = 0;
+        while (resultSet.next()) {
+            if (rows == capacity) {
+                capacity = Math.multiplyExact(capacity, 2);
+                for (Column column : columns) {
+                    column.grow(capacity);
+                }
+            }
+            for (Column column : columns) {
+                column.read(resultSet, rows, ctx);
+            }
+            rows++;
+        }
+
+        for (Column column : columns) {
+            column.trim(rows);
+        }
+
+        return new ColumnarResult(Collections.unmodifiableList(columnNames), columns, rows);
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return the number of columns
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Returns the column labels, in result set order.
+     *
+     * @return the column labels
+     */
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    /**
+     * Returns the index of the column with the given label. The label is matched case insensitive.
+     *
+     * @param columnName the column label
+     * @return the zero based column index
+     * @throws IllegalArgumentException if there is no column with this label
+     */
+    public int findColumn(String columnName) {
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (columnNames.get(i).equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(format("No column '%s' in %s", columnName, columnNames));
+    }
+
+    /**
+     * Returns the type that was used to store a column. This is one of {@code int.class}, {@code long.class},
+     * {@code double.class}, {@code String.class} or the type that was requested for the column.
+     *
+     * @param column the zero based column index
+     * @return the column type
+     */
+    public Class<?> getColumnType(int column) {
+        return columns[column].type;
+    }
+
+    /**
+     * Returns true if the value of a column in a row was a database {@code null}.
+     *
+     * @param column the zero based column index
+     * @param row    the zero based row index
+     * @return true if the value was null
+     */
+    public boolean isNull(int column, int row) {
+        return columns[column].nulls.get(row);
+    }
+
+    /**
+     * Returns the values of an {@code int} column. Null values are stored as {@code 0}.
+     *
+     * @param column the zero based column index
+     * @return the column values
+     */
+    public int[] getIntColumn(int column) {
+        return column(column, IntColumn.class).values;
+    }
+
+    /**
+     * Returns the values of a {@code long} column. Null values are stored as {@code 0}.
+     *
+     * @param column the zero based column index
+     * @return the column values
+     */
+    public long[] getLongColumn(int column) {
+        return column(column, LongColumn.class).values;
+    }
+
+    /**
+     * Returns the values of a {@code double} column. Null values are stored as {@code 0}.
+     *
+     * @param column the zero based column index
+     * @return the column values
+     */
+    public double[] getDoubleColumn(int column) {
+        return column(column, DoubleColumn.class).values;
+    }
+
+    /**
+     * Returns the dictionary codes of a {@link String} column. Each code is an index into {@link #getDictionary(int)}, or
+     * {@code -1} for a null value.
+     *
+     * @param column the zero based column index
+     * @return the dictionary codes
+     */
+    public int[] getDictionaryCodes(int column) {
+        return column(column, StringColumn.class).codes;
+    }
+
+    /**
+     * Returns the distinct values of a {@link String} column in the order they were first read.
+     *
+     * @param column the zero based column index
+     * @return the dictionary for the column
+     */
+    public List<String> getDictionary(int column) {
+        return Collections.unmodifiableList(column(column, StringColumn.class).dictionary);
+    }
+
+    /**
+     * Returns the decoded values of a {@link String} column. This creates a new array on every call.
+     *
+     * @param column the zero based column index
+     * @return the column values
+     */
+    public String[] getStringColumn(int column) {
+        StringColumn stringColumn = column(column, StringColumn.class);
+        String[] values = new String[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            int code = stringColumn.codes[i];
+            values[i] = code < 0 ? null : stringColumn.dictionary.get(code);
+        }
+        return values;
+    }
+
+    /**
+     * Returns the values of a column that is neither stored as a primitive nor as a {@link String} column.
+     *
+     * @param column the zero based column index
+     * @return the column values
+     */
+    public Object[] getObjectColumn(int column) {
+        return column(column, ObjectColumn.class).values;
+    }
+
+    @Override
+    public String toString() {
+        return format("ColumnarResult[columns=%s, rows=%d]", columnNames, rowCount);
+    }
+
+    private <C extends Column> C column(int column, Class<C> columnClass) {
+        Column c = columns[column];
+        if (!columnClass.isInstance(c)) {
+            throw new IllegalArgumentException(format("Column %d (%s) is stored as %s", column, columnNames.get(column), c.type.getSimpleName()));
+        }
+        return columnClass.cast(c);
+    }
+
+    private static Class<?> inferColumnType(int sqlType) {
+        switch (sqlType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return int.class;
+            case Types.BIGINT:
+                return long.class;
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return double.class;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return String.class;
+            default:
+                return Object.class;
+        }
+    }
+
+    private static Column createColumn(Class<?> type, int columnNumber, StatementContext ctx) {
+        ColumnMapper<?> mapper = Object.class.equals(type)
+            ? ColumnMapper.getDefaultColumnMapper()
+            : ctx.findColumnMapperFor(type)
+                .orElseThrow(() -> new NoSuchMapperException(format("No column mapper registered for %s", type)));
+
+        if (int.class.equals(type)) {
+            return new IntColumn(mapper, columnNumber);
+        } else if (long.class.equals(type)) {
+            return new LongColumn(mapper, columnNumber);
+        } else if (double.class.equals(type)) {
+            return new DoubleColumn(mapper, columnNumber);
+        } else if (String.class.equals(type)) {
+            return new StringColumn(mapper, columnNumber);
+        }
+        return new ObjectColumn(type, mapper, columnNumber);
+    }
+
+    private abstract static class Column {
+        final Class<?> type;
+        final int columnNumber;
+        final BitSet nulls = new BitSet();
+
+        Column(Class<?> type, int columnNumber) {
+            this.type = type;
+            this.columnNumber = columnNumber;
+        }
+
+        abstract void read(ResultSet rs, int row, StatementContext ctx) throws SQLException;
+
+        abstract void grow(int capacity);
+
+        abstract void trim(int rows);
+    }
+
+    private static final class IntColumn extends Column {
+        private final IntColumnMapper mapper;
+        private int[] values = new int[INITIAL_CAPACITY];
+
+        IntColumn(ColumnMapper<?> mapper, int columnNumber) {
+            super(int.class, columnNumber);
+            this.mapper = mapper instanceof IntColumnMapper
+                ? (IntColumnMapper) mapper
+                : (r, i, ctx) -> {
+                    Object value = mapper.map(r, i, ctx);
+                    return value == null ? 0 : ((Number) value).intValue();
+                };
+        }
+
+        @Override
+        void read(ResultSet rs, int row, StatementContext ctx) throws SQLException {
+            values[row] = mapper.mapInt(rs, columnNumber, ctx);
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void trim(int rows) {
+            values = Arrays.copyOf(values, rows);
+        }
+    }
+
+    private static final class LongColumn extends Column {
+        private final LongColumnMapper mapper;
+        private long[] values = new long[INITIAL_CAPACITY];
+
+        LongColumn(ColumnMapper<?> mapper, int columnNumber) {
+            super(long.class, columnNumber);
+            this.mapper = mapper instanceof LongColumnMapper
+                ? (LongColumnMapper) mapper
+                : (r, i, ctx) -> {
+                    Object value = mapper.map(r, i, ctx);
+                    return value == null ? 0L : ((Number) value).longValue();
+                };
+        }
+
+        @Override
+        void read(ResultSet rs, int row, StatementContext ctx) throws SQLException {
+            values[row] = mapper.mapLong(rs, columnNumber, ctx);
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void trim(int rows) {
+            values = Arrays.copyOf(values, rows);
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+        private final DoubleColumnMapper mapper;
+        private double[] values = new double[INITIAL_CAPACITY];
+
+        DoubleColumn(ColumnMapper<?> mapper, int columnNumber) {
+            super(double.class, columnNumber);
+            this.mapper = mapper instanceof DoubleColumnMapper
+                ? (DoubleColumnMapper) mapper
+                : (r, i, ctx) -> {
+                    Object value = mapper.map(r, i, ctx);
+                    return value == null ? 0.0d : ((Number) value).doubleValue();
+                };
+        }
+
+        @Override
+        void read(ResultSet rs, int row, StatementContext ctx) throws SQLException {
+            values[row] = mapper.mapDouble(rs, columnNumber, ctx);
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void trim(int rows) {
+            values = Arrays.copyOf(values, rows);
+        }
+    }
+
+    private static final class StringColumn extends Column {
+        private final ColumnMapper<?> mapper;
+        private final Map<String, Integer> codesByValue = new HashMap<>();
+        private final List<String> dictionary = new ArrayList<>();
+        private int[] codes = new int[INITIAL_CAPACITY];
+
+        StringColumn(ColumnMapper<?> mapper, int columnNumber) {
+            super(String.class, columnNumber);
+            this.mapper = mapper;
+        }
+
+        @Override
+        void read(ResultSet rs, int row, StatementContext ctx) throws SQLException {
+            String value = (String) mapper.map(rs, columnNumber, ctx);
+            if (value == null) {
+                codes[row] = -1;
+                nulls.set(row);
+            } else {
+                codes[row] = codesByValue.computeIfAbsent(value, v -> {
+                    dictionary.add(v);
+                    return dictionary.size() - 1;
+                });
+            }
+        }
+
+        @Override
+        void grow(int capacity) {
+            codes = Arrays.copyOf(codes, capacity);
+        }
+
+        @Override
+        void trim(int rows) {
+            codes = Arrays.copyOf(codes, rows);
+            codesByValue.clear();
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+        private final ColumnMapper<?> mapper;
+        private Object[] values = new Object[INITIAL_CAPACITY];
+
+        ObjectColumn(Class<?> type, ColumnMapper<?> mapper, int columnNumber) {
+            super(type, columnNumber);
+            this.mapper = mapper;
+        }
+
+        @Override
+        void read(ResultSet rs, int row, StatementContext ctx) throws SQLException {
+            Object value = mapper.map(rs, columnNumber, ctx);
+            values[row] = value;
+            if (value == null) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void trim(int rows) {
+            values = Arrays.copyOf(values, rows);
+        }
+    }
+}
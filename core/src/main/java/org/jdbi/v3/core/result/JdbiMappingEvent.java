@@ -0,0 +1,39 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import jdk.jfr.Label;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.internal.OptionalEvent;
+
+@jdk.jfr.Category("jdbi")
+@jdk.jfr.Name(JdbiMappingEvent.NAME)
+@Label("Jdbi Result Mapping")
+@jdk.jfr.Description("Iteration over a result set, from the first row until the result is closed.")
+public final class JdbiMappingEvent extends jdk.jfr.Event implements OptionalEvent {
+    public static final String NAME = "jdbi.mapping";
+
+    @Label("Result rows mapped")
+    public long rowsMapped;
+
+    @Label("Trace ID")
+    public String traceId;
+
+    public static void commit(OptionalEvent mappingEvent, StatementContext ctx, long rowsMapped) {
+        final var evt = (JdbiMappingEvent) mappingEvent;
+        evt.rowsMapped = rowsMapped;
+        evt.traceId = ctx.getTraceId();
+        evt.commit();
+    }
+}
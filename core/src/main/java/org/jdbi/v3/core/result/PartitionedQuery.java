@@ -0,0 +1,301 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.meta.Beta;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs a query as a number of partitions and streams the union of all partitions. Each partition runs on its own
+ * handle, so a parallel stream reads from multiple connections at the same time.
+ * <br>
+ * The query selects a partition through named parameters:
+ * <ul>
+ *     <li>{@link #partitions(int)} binds {@value #PARTITION} (zero based) and {@value #PARTITIONS}, e.g.
+ *     {@code WHERE MOD(id, :partitions) = :partition}</li>
+ *     <li>{@link #ranges(long, long, int)} binds {@value #RANGE_START} (inclusive) and {@value #RANGE_END} (exclusive), e.g.
+ *     {@code WHERE id >= :rangeStart AND id < :rangeEnd}</li>
+ * </ul>
+ * The stream returned by {@link #stream(Function)} is parallel. Its spliterator splits on partition boundaries, so at most
+ * one handle per partition is open at any time, and the number of concurrently open handles is bounded by the parallelism
+ * of the fork join pool that runs the stream. The stream is not ordered. Each handle is closed when its partition has been
+ * read; closing the stream closes all handles that are still open.
+ *
+ * @since 3.50.0
+ */
+@Beta
+public final class PartitionedQuery {
+
+    /** Name of the parameter that holds the partition number. */
+    public static final String PARTITION = "partition";
+
+    /** Name of the parameter that holds the number of partitions. */
+    public static final String PARTITIONS = "partitions";
+
+    /** Name of the parameter that holds the (inclusive) start of a range partition. */
+    public static final String RANGE_START = "rangeStart";
+
+    /** Name of the parameter that holds the (exclusive) end of a range partition. */
+    public static final String RANGE_END = "rangeEnd";
+
+    private final Jdbi jdbi;
+    private final String sql;
+
+    private int partitionCount = Runtime.getRuntime().availableProcessors();
+    private long[] rangeBoundaries = null;
+    private Consumer<Query> customizer = query -> {};
+
+    private PartitionedQuery(Jdbi jdbi, String sql) {
+        this.jdbi = requireNonNull(jdbi, "jdbi is null");
+        this.sql = requireNonNull(sql, "sql is null");
+    }
+
+    /**
+     * Creates a new partitioned query.
+     *
+     * @param jdbi the Jdbi instance to run the query with
+     * @param sql  the query, which must select a partition with named parameters
+     * @return a new {@link PartitionedQuery}
+     * @see Jdbi#partitionedQuery(String)
+     */
+    public static PartitionedQuery create(Jdbi jdbi, String sql) {
+        return new PartitionedQuery(jdbi, sql);
+    }
+
+    /**
+     * Runs the query as the given number of partitions and binds {@value #PARTITION} and {@value #PARTITIONS}
+     * for each partition. The default is the number of available processors.
+     *
+     * @param partitions the number of partitions. Must be positive.
+     * @return this
+     */
+    public PartitionedQuery partitions(int partitions) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("partitions must be > 0");
+        }
+        this.partitionCount = partitions;
+        this.rangeBoundaries = null;
+        return this;
+    }
+
+    /**
+     * Splits the key range from {@code start} (inclusive) to {@code end} (exclusive) into the given number of partitions
+     * of (almost) equal size and binds {@value #RANGE_START} and {@value #RANGE_END} for each partition.
+     *
+     * @param start      the start of the key range, inclusive
+     * @param end        the end of the key range, exclusive
+     * @param partitions the number of partitions. Must be positive and not larger than the key range.
+     * @return this
+     */
+    public PartitionedQuery ranges(long start, long end, int partitions) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("partitions must be > 0");
+        }
+        long span = Math.subtractExact(end, start);
+        if (span < partitions) {
+            throw new IllegalArgumentException("the range must contain at least one key per partition");
+        }
+
+        long[] boundaries = new long[partitions + 1];
+        long size = span / partitions;
+        long remainder = span % partitions;
+        boundaries[0] = start;
+        for (int i = 0; i < partitions; i++) {
+            boundaries[i + 1] = boundaries[i] + size + (i < remainder ? 1 : 0);
+        }
+
+        this.partitionCount = partitions;
+        this.rangeBoundaries = boundaries;
+        return this;
+    }
+
+    /**
+     * Sets a customizer that is applied to the query of every partition, e.g. to bind additional arguments.
+     *
+     * @param customizer the query customizer
+     * @return this
+     */
+    public PartitionedQuery customize(Consumer<Query> customizer) {
+        this.customizer = requireNonNull(customizer, "customizer is null");
+        return this;
+    }
+
+    /**
+     * Returns a parallel stream of all rows of all partitions, mapped with the given row mapper.
+     * The stream must be closed to release any handle that has not been read to the end.
+     *
+     * @param mapper the row mapper
+     * @param <T>    the mapped type
+     * @return a parallel stream of all rows
+     */
+    public <T> Stream<T> map(RowMapper<T> mapper) {
+        return stream(query -> query.map(mapper));
+    }
+
+    /**
+     * Returns a parallel stream of all rows of all partitions, mapped to the given type.
+     * The stream must be closed to release any handle that has not been read to the end.
+     *
+     * @param type the mapped type
+     * @param <T>  the mapped type
+     * @return a parallel stream of all rows
+     */
+    public <T> Stream<T> mapTo(Class<T> type) {
+        return stream(query -> query.mapTo(type));
+    }
+
+    /**
+     * Returns a parallel stream of all rows of all partitions. The mapping function is called once per partition and
+     * maps the partition query to a result iterable. The stream must be closed to release any handle that has not been
+     * read to the end.
+     *
+     * @param mapping maps the query of a partition to a result
+     * @param <T>     the mapped type
+     * @return a parallel stream of all rows
+     */
+    public <T> Stream<T> stream(Function<Query, ResultIterable<T>> mapping) {
+        requireNonNull(mapping, "mapping is null");
+
+        Partitions<T> partitions = new Partitions<>(mapping);
+        return StreamSupport.stream(new PartitionSpliterator<>(partitions, 0, partitions.count), true)
+            .onClose(partitions::close);
+    }
+
+    /** State shared by all spliterators of a stream. */
+    private final class Partitions<T> {
+        private final int count;
+        private final long[] boundaries;
+        private final Consumer<Query> customizer;
+        private final Function<Query, ResultIterable<T>> mapping;
+        private final Set<ResultIterator<T>> openIterators = ConcurrentHashMap.newKeySet();
+
+        private volatile boolean closed = false;
+
+        Partitions(Function<Query, ResultIterable<T>> mapping) {
+            // snapshot the configuration, the query may be reconfigured while the stream is read.
+            this.count = partitionCount;
+            this.boundaries = rangeBoundaries;
+            this.customizer = PartitionedQuery.this.customizer;
+            this.mapping = mapping;
+        }
+
+        ResultIterator<T> open(int partition) {
+            if (closed) {
+                throw new IllegalStateException("stream has been closed");
+            }
+
+            Handle handle = jdbi.open();
+            try {
+                Query query = handle.createQuery(sql);
+                // the handle belongs to this partition only, close it together with the result.
+                query.getContext().addCleanable(handle::close);
+
+                if (boundaries == null) {
+                    query.bind(PARTITION, partition).bind(PARTITIONS, count);
+                } else {
+                    query.bind(RANGE_START, boundaries[partition]).bind(RANGE_END, boundaries[partition + 1]);
+                }
+                customizer.accept(query);
+
+                ResultIterator<T> iterator = mapping.apply(query).iterator();
+                openIterators.add(iterator);
+                return iterator;
+            } catch (RuntimeException | Error e) {
+                handle.close();
+                throw e;
+            }
+        }
+
+        void release(ResultIterator<T> iterator) {
+            openIterators.remove(iterator);
+            iterator.close();
+        }
+
+        void close() {
+            closed = true;
+            openIterators.forEach(this::release);
+        }
+    }
+
+    /** Iterates over the partitions {@code [next, end)}, splits on partition boundaries. */
+    private static final class PartitionSpliterator<T> implements Spliterator<T> {
+        private final Partitions<T> partitions;
+        private int next;
+        private int end;
+        private ResultIterator<T> current = null;
+
+        PartitionSpliterator(Partitions<T> partitions, int next, int end) {
+            this.partitions = partitions;
+            this.next = next;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (true) {
+                if (current == null) {
+                    if (next >= end) {
+                        return false;
+                    }
+                    current = partitions.open(next++);
+                }
+
+                if (current.hasNext()) {
+                    action.accept(current.next());
+                    return true;
+                }
+
+                partitions.release(current);
+                current = null;
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            // the partition that is currently read always stays with this spliterator.
+            int remaining = end - next;
+            if (remaining == 0 || (current == null && remaining == 1)) {
+                return null;
+            }
+
+            int mid = next + remaining / 2;
+            Spliterator<T> split = new PartitionSpliterator<>(partitions, mid, end);
+            end = mid;
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return current == null && next >= end ? 0 : Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return 0;
+        }
+    }
+}
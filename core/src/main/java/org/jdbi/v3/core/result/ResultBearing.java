@@ -38,6 +38,7 @@ import org.jdbi.v3.core.mapper.reflect.BeanMapper;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.result.internal.RowViewImpl;
 import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Provides access to the contents of a {@link ResultSet} by mapping to Java types.
@@ -307,6 +308,30 @@ public interface ResultBearing {
         });
     }
 
+    /**
+     * Reads the whole result set column by column into a {@link ColumnarResult}. No object is created per row:
+     * {@code int}, {@code long} and {@code double} columns are stored in primitive arrays and {@link String} columns
+     * are dictionary encoded. Values are read with the column mappers registered for each column type.
+     * <br>
+     * If no column types are given, they are derived from the result set metadata: integer types up to
+     * {@code INTEGER} are read as {@code int}, {@code BIGINT} as {@code long}, floating point types as {@code double}
+     * and character types as {@code String}. All other columns are read with {@link ResultSet#getObject(int)}.
+     *
+     * @param columnTypes the type of each column, in result set order. May be empty.
+     * @return the columnar result
+     * @since 3.50.0
+     */
+    @Beta
+    default ColumnarResult mapToColumns(Class<?>... columnTypes) {
+        return scanResultSet((resultSetSupplier, context) -> {
+            try (StatementContext ctx = context) {
+                return ColumnarResult.read(resultSetSupplier.get(), ctx, columnTypes);
+            } catch (SQLException e) {
+                throw new UnableToProduceResultException(e, context);
+            }
+        });
+    }
+
     /**
      * Collect the results using the given collector. Do not attempt to accumulate the
      * {@link RowView} objects into the result--they are only valid within the
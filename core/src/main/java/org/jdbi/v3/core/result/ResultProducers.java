@@ -110,7 +110,7 @@ public class ResultProducers implements JdbiConfig<ResultProducers> {
                 ResultSet resultSet = resultSetCreator.createResultSet(preparedStatementSupplier.get());
 
                 if (resultSet == null) {
-                    if (ctx.getConfig(ResultProducers.class).allowNoResults) {
+                    if (ctx.getConfig().lookup(ResultProducers.class).allowNoResults) {
                         return new EmptyResultSet();
                     }
                     throw new NoResultsException("Statement returned no results", ctx);
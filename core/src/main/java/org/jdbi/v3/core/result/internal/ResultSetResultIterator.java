@@ -21,9 +21,12 @@ import java.util.function.Supplier;
 
 import org.jdbi.v3.core.internal.exceptions.Sneaky;
 import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.result.JdbiMappingEvent;
 import org.jdbi.v3.core.result.ResultIterator;
 import org.jdbi.v3.core.result.ResultSetException;
 import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.internal.JfrSupport;
+import org.jdbi.v3.core.statement.internal.OptionalEvent;
 
 class ResultSetResultIterator<T> implements ResultIterator<T> {
     private final ResultSet resultSet;
@@ -33,6 +36,7 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
     private final StatementContext context;
 
     private final AtomicLong mappedRows = new AtomicLong();
+    private final OptionalEvent mappingEvent = JfrSupport.newMappingEvent();
 
     private volatile boolean alreadyAdvanced = false;
     private volatile boolean hasNext = false;
@@ -43,6 +47,7 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
         StatementContext context) throws SQLException {
 
         this.context = context;
+        mappingEvent.begin();
 
         if (resultSetSupplier instanceof ResultSetSupplier) {
             this.resultSetSupplier = (ResultSetSupplier) resultSetSupplier;
@@ -63,8 +68,12 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
 
     @Override
     public void close() {
+        final boolean wasClosed = closed;
         closed = true;
         context.setMappedRows(mappedRows.get());
+        if (!wasClosed && mappingEvent.shouldCommit()) {
+            JdbiMappingEvent.commit(mappingEvent, context, mappedRows.get());
+        }
         try {
             resultSetSupplier.close();
         } catch (SQLException e) {
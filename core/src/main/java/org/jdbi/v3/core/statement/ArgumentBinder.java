@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -58,7 +59,7 @@ class ArgumentBinder {
         this.ctx = ctx;
         this.params = params;
 
-        this.nullArgument = ctx.getConfig(Arguments.class).getUntypedNullArgument();
+        this.nullArgument = ctx.getConfig().lookup(Arguments.class).getUntypedNullArgument();
     }
 
     void bind(Binding binding) {
@@ -70,21 +71,25 @@ class ArgumentBinder {
     }
 
     void bindPositional(Binding binding) {
+        final BindingPlan plan = bindingPlan(binding);
         for (int index = 0; index < params.getParameterCount(); index++) {
-            if (!binding.positionals.containsKey(index)) {
+            final Object value = binding.positionals.get(index);
+            if (value == null && !binding.positionals.containsKey(index)) {
                 throw new UnableToCreateStatementException(format("Missing positional parameter %d in binding:%s", index, binding), ctx);
             }
-            QualifiedType<?> type = typeOf(binding.positionals.get(index));
             try {
-                argumentFactoryForType(type)
-                    .apply(unwrap(binding.positionals.get(index)))
+                if (plan != null && plan.bind(index, value, this)) {
+                    continue;
+                }
+                argumentFactoryForType(typeOf(value))
+                    .apply(unwrap(value))
                     .apply(index + 1, stmt, ctx);
             } catch (SQLException e) {
                 throw new UnableToCreateStatementException("Exception while binding positional param at (0 based) position " + index, e, ctx);
             }
         }
         boolean moreArgumentsProvidedThanDeclared = binding.positionals.size() != params.getParameterCount();
-        if (moreArgumentsProvidedThanDeclared && !ctx.getConfig(SqlStatements.class).isUnusedBindingAllowed()) {
+        if (moreArgumentsProvidedThanDeclared && !ctx.getConfig().lookup(SqlStatements.class).isUnusedBindingAllowed()) {
             throw new UnableToCreateStatementException("Superfluous positional param at (0 based) position " + params.getParameterCount(), ctx);
         }
     }
@@ -93,11 +98,16 @@ class ArgumentBinder {
         final List<String> paramNames = params.getParameterNames();
         bindNamedCheck(binding, paramNames);
 
+        final BindingPlan plan = bindingPlan(binding);
+
         assignNames:
         for (int i = 0; i < paramNames.size(); i++) {
             final String name = paramNames.get(i);
             try {
                 final Object value = binding.named.get(name);
+                if (plan != null && plan.bind(i, value, this)) {
+                    continue;
+                }
                 if (value == null) {
                     if (binding.named.containsKey(name)) {
                         // bind a null for the given name
@@ -132,7 +142,7 @@ class ArgumentBinder {
     void bindNamedCheck(Binding binding, List<String> paramNames) {
         // best effort: compare empty to non-empty because we can't list the individual binding names (unless we expose a method to do so)
         boolean argumentsProvidedButNoneDeclared = paramNames.isEmpty() && !binding.isEmpty();
-        if (argumentsProvidedButNoneDeclared && !ctx.getConfig(SqlStatements.class).isUnusedBindingAllowed()) {
+        if (argumentsProvidedButNoneDeclared && !ctx.getConfig().lookup(SqlStatements.class).isUnusedBindingAllowed()) {
             throw new UnableToCreateStatementException(format(
                     "Superfluous named parameters provided while the query "
                             + "declares none: '%s'. This check may be disabled by calling "
@@ -141,11 +151,34 @@ class ArgumentBinder {
         }
     }
 
+    /**
+     * Returns a cached binding plan for the current statement and value types if binding plans are enabled.
+     * The plan is created from the given binding if none exists yet.
+     */
+    @Nullable
+    BindingPlan bindingPlan(Binding binding) {
+        final SqlStatements statements = ctx.getConfig().lookup(SqlStatements.class);
+        if (!statements.isBindingPlanCacheEnabled() || params.getParameterCount() == 0) {
+            return null;
+        }
+        final Object[] values = new Object[params.getParameterCount()];
+        final Object[] valueTypes = new Object[values.length];
+        final List<String> paramNames = params.getParameterNames();
+        for (int i = 0; i < values.length; i++) {
+            final Object value = params.isPositional() ? binding.positionals.get(i) : binding.named.get(paramNames.get(i));
+            values[i] = value;
+            valueTypes[i] = value instanceof TypedValue ? ((TypedValue) value).getType() : value == null ? null : value.getClass();
+        }
+        final BindingPlanKey key = new BindingPlanKey(ctx.getParsedSql().getSql(), params, valueTypes,
+            ctx.getConfig().lookup(Arguments.class).getVersion());
+        return statements.getBindingPlanCache().getWithLoader(key, k -> new BindingPlan(this, values));
+    }
+
     @Nonnull
     QualifiedType<?> typeOf(@Nullable Object value) {
         return value instanceof TypedValue
                 ? ((TypedValue) value).getType()
-                : ctx.getConfig(Qualifiers.class).qualifiedTypeOf(
+                : ctx.getConfig().lookup(Qualifiers.class).qualifiedTypeOf(
                         Optional.ofNullable(value).<Class<?>>map(Object::getClass).orElse(Object.class));
     }
 
@@ -160,7 +193,7 @@ class ArgumentBinder {
 
     Function<Object, Argument> argumentFactoryForType(QualifiedType<?> type) {
         return argumentFactoryByType.computeIfAbsent(type, qt -> {
-            Arguments args = ctx.getConfig(Arguments.class);
+            Arguments args = ctx.getConfig().lookup(Arguments.class);
             Function<Object, Argument> factory =
                 args.prepareFor(type)
                     .orElse(v -> args.findFor(type, v)
@@ -205,6 +238,87 @@ class ArgumentBinder {
         return maybeTypedValue instanceof TypedValue ? ((TypedValue) maybeTypedValue).getValue() : maybeTypedValue;
     }
 
+    /**
+     * Identifies a binding plan: the statement, the value type bound to each parameter slot (the qualified type for
+     * typed values, the value class otherwise, null for unset or null values) and the argument factory configuration.
+     */
+    static final class BindingPlanKey {
+        private final String sql;
+        private final ParsedParameters params;
+        private final Object[] valueTypes;
+        // compared by identity
+        private final Object argumentsVersion;
+        private final int hashCode;
+
+        BindingPlanKey(String sql, ParsedParameters params, Object[] valueTypes, Object argumentsVersion) {
+            this.sql = sql;
+            this.params = params;
+            this.valueTypes = valueTypes;
+            this.argumentsVersion = argumentsVersion;
+            this.hashCode = Objects.hash(sql, params, Arrays.hashCode(valueTypes), System.identityHashCode(argumentsVersion));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BindingPlanKey)) {
+                return false;
+            }
+            BindingPlanKey that = (BindingPlanKey) o;
+            return hashCode == that.hashCode
+                && argumentsVersion == that.argumentsVersion
+                && sql.equals(that.sql)
+                && params.equals(that.params)
+                && Arrays.equals(valueTypes, that.valueTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Holds a prepared argument factory for each parameter slot of a statement. A plan is only used for bindings with
+     * the value types of its {@link BindingPlanKey}. Slots that are bound to nulls, {@link Argument} instances, named
+     * argument finders or values without a prepared argument factory fall back to regular binding.
+     */
+    static final class BindingPlan {
+        private final Function<Object, Argument>[] factories;
+
+        @SuppressWarnings("unchecked")
+        BindingPlan(ArgumentBinder binder, Object[] values) {
+            final Arguments arguments = binder.ctx.getConfig().lookup(Arguments.class);
+
+            this.factories = new Function[values.length];
+
+            for (int i = 0; i < values.length; i++) {
+                final Object value = values[i];
+                if (value == null || value instanceof Argument) {
+                    continue;
+                }
+                factories[i] = arguments.prepareFor(binder.typeOf(value)).orElse(null);
+            }
+        }
+
+        /**
+         * Binds a value through the planned argument factory for its slot.
+         *
+         * @return True if the value was bound, false if it must be bound through the regular path
+         */
+        boolean bind(int index, Object value, ArgumentBinder binder) throws SQLException {
+            final Function<Object, Argument> factory = factories[index];
+            if (factory == null) {
+                return false;
+            }
+            // the argument is applied right away, so it does not need a description
+            factory.apply(unwrap(value)).apply(index + 1, binder.stmt, binder.ctx);
+            return true;
+        }
+    }
+
     static class Prepared extends ArgumentBinder {
         private final PreparedBatch batch;
         private final Consumer<PreparedBinding> preparedBinder;
@@ -36,7 +36,7 @@ abstract class BaseStatement<This> implements Closeable, Configurable<This> {
         final ConfigRegistry config = handle.getConfig().createCopy();
         this.ctx = StatementContext.create(config, handle.getExtensionMethod(), getClass());
 
-        if (config.get(SqlStatements.class).isAttachAllStatementsForCleanup()) {
+        if (handle.isAttachStatementsForCleanup()) {
             attachToHandleForCleanup(this.handle, this.ctx);
         }
     }
@@ -108,7 +108,7 @@ abstract class BaseStatement<This> implements Closeable, Configurable<This> {
     }
 
     private Collection<StatementCustomizer> getCustomizers() {
-        return this.getConfig(SqlStatements.class).getCustomizers();
+        return getConfig().lookup(SqlStatements.class).getCustomizers();
     }
 
     @Override
@@ -65,7 +65,7 @@ public class Batch extends BaseStatement<Batch> {
             try {
                 stmt = createStatement();
                 getContext().addCleanable(() -> cleanupStatement(stmt));
-                getConfig(SqlStatements.class).customize(stmt);
+                getConfig().lookup(SqlStatements.class).customize(stmt);
             } catch (SQLException e) {
                 throw new UnableToCreateStatementException(e, getContext());
             }
@@ -74,7 +74,7 @@ public class Batch extends BaseStatement<Batch> {
 
             try {
                 for (String part : parts) {
-                    final String sql = getConfig(SqlStatements.class).getTemplateEngine().render(part, getContext());
+                    final String sql = getConfig().lookup(SqlStatements.class).getTemplateEngine().render(part, getContext());
                     LOG.trace(" {}", sql);
                     stmt.addBatch(sql);
                 }
@@ -83,7 +83,7 @@ public class Batch extends BaseStatement<Batch> {
             }
 
             try {
-                return SqlLoggerUtil.wrap(stmt::executeBatch, getContext(), getConfig(SqlStatements.class).getSqlLogger());
+                return SqlLoggerUtil.wrap(stmt::executeBatch, getContext(), getConfig().lookup(SqlStatements.class).getSqlLogger());
             } catch (SQLException e) {
                 throw new UnableToExecuteStatementException(mungeBatchException(e), getContext());
             }
@@ -15,6 +15,7 @@ package org.jdbi.v3.core.statement;
 
 import org.jdbi.v3.core.cache.JdbiCache;
 import org.jdbi.v3.core.cache.JdbiCacheBuilder;
+import org.jdbi.v3.core.cache.JdbiCacheLoader;
 import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheBuilder;
 import org.jdbi.v3.meta.Beta;
 
@@ -24,19 +25,21 @@ public abstract class CachingSqlParser implements SqlParser {
     public static final int PARSED_SQL_CACHE_SIZE = 1_000;
 
     private final JdbiCache<String, ParsedSql> parsedSqlCache;
+    private final JdbiCacheLoader<String, ParsedSql> parsedSqlLoader;
 
     CachingSqlParser() {
         this(DefaultJdbiCacheBuilder.builder().maxSize(PARSED_SQL_CACHE_SIZE));
     }
 
     CachingSqlParser(JdbiCacheBuilder cacheBuilder) {
-        parsedSqlCache = cacheBuilder.buildWithLoader(this::internalParse);
+        parsedSqlLoader = this::internalParse;
+        parsedSqlCache = cacheBuilder.buildWithLoader(parsedSqlLoader);
     }
 
     @Override
     public ParsedSql parse(String sql, StatementContext ctx) {
         try {
-            return parsedSqlCache.get(sql);
+            return JfrCacheLookup.get(parsedSqlCache, JfrCacheLookup.SQL_PARSER_CACHE, sql, parsedSqlLoader);
         } catch (IllegalArgumentException e) {
             throw new UnableToCreateStatementException("Exception parsing for named parameter replacement", e, ctx);
         }
@@ -0,0 +1,330 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jdbi.v3.core.CloseException;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * A StatementBuilder which keeps prepared statements open after use and reuses them when the same SQL is
+ * prepared again on the same handle. This avoids the prepare round trip for drivers that do not cache statements
+ * themselves, e.g. when a handle runs the same query in a loop.
+ * <br>
+ * Statements are keyed by their translated SQL, the result set concurrency and the generated keys settings. Each
+ * handle has its own builder and keeps at most {@code maxSize} idle statements; the least recently used statement
+ * is closed when the cache is full. A statement is never shared between two statements that are open at the same
+ * time. All idle statements are closed when the handle is closed.
+ * <br>
+ * The max rows, fetch size, fetch direction, query timeout, max field size and poolable settings of a statement are
+ * recorded when it is prepared. If a {@link StatementCustomizer} changed any of them, they are restored before the
+ * statement is returned to the cache.
+ *
+ * <pre>
+ * jdbi.setStatementBuilderFactory(CachingStatementBuilder.factory(64));
+ * </pre>
+ *
+ * @since 3.50.0
+ */
+@Beta
+public final class CachingStatementBuilder extends DefaultStatementBuilder {
+
+    private final Object lock = new Object();
+    private final int maxSize;
+    private final Map<StatementKey, CachedStatement> idleStatements;
+    private final Map<Statement, CachedStatement> usedStatements = new IdentityHashMap<>();
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private boolean closed;
+
+    /**
+     * Creates a new builder that keeps up to {@code maxSize} idle prepared statements.
+     *
+     * @param maxSize the maximum number of idle statements. Must be positive.
+     */
+    public CachingStatementBuilder(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be > 0");
+        }
+        this.maxSize = maxSize;
+        this.idleStatements = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns a factory that creates a new caching statement builder for every handle.
+     *
+     * @param maxSize the maximum number of idle statements per handle. Must be positive.
+     * @return a {@link StatementBuilderFactory} to use with {@link org.jdbi.v3.core.Jdbi#setStatementBuilderFactory(StatementBuilderFactory)}
+     */
+    public static StatementBuilderFactory factory(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be > 0");
+        }
+        return conn -> new CachingStatementBuilder(maxSize);
+    }
+
+    @Override
+    public PreparedStatement create(Connection conn, String sql, StatementContext ctx) throws SQLException {
+        StatementKey key = new StatementKey(sql, ctx);
+        CachedStatement cached;
+        synchronized (lock) {
+            cached = idleStatements.remove(key);
+        }
+
+        // an idle statement that was closed in the meantime (e.g. by the driver) is prepared again
+        final boolean hit = cached != null && !cached.stmt.isClosed();
+        if (!hit) {
+            cached = new CachedStatement(key, super.create(conn, sql, ctx));
+        }
+
+        synchronized (lock) {
+            if (hit) {
+                hits++;
+            } else {
+                misses++;
+            }
+            if (!closed) {
+                usedStatements.put(cached.stmt, cached);
+            }
+        }
+        return cached.stmt;
+    }
+
+    /**
+     * Returns a statement that was created by this builder to the cache. Statements that were not created by
+     * {@link #create(Connection, String, StatementContext)} are closed.
+     */
+    @Override
+    public void close(Connection conn, String sql, Statement stmt) throws SQLException {
+        if (stmt == null) {
+            return;
+        }
+
+        CachedStatement cached;
+        synchronized (lock) {
+            cached = usedStatements.remove(stmt);
+        }
+
+        if (cached == null || stmt.isClosed() || !cached.reset()) {
+            super.close(conn, sql, stmt);
+            return;
+        }
+
+        List<PreparedStatement> evicted = new ArrayList<>();
+        synchronized (lock) {
+            if (closed) {
+                evicted.add(cached.stmt);
+            } else {
+                CachedStatement previous = idleStatements.put(cached.key, cached);
+                if (previous != null) {
+                    evicted.add(previous.stmt);
+                }
+                Iterator<CachedStatement> iterator = idleStatements.values().iterator();
+                while (idleStatements.size() > maxSize && iterator.hasNext()) {
+                    evicted.add(iterator.next().stmt);
+                    iterator.remove();
+                    evictions++;
+                }
+            }
+        }
+
+        closeAll(evicted);
+    }
+
+    /**
+     * Closes all idle statements. Statements that are still in use are closed when they are returned.
+     */
+    @Override
+    public void close(Connection conn) {
+        List<PreparedStatement> statements;
+        synchronized (lock) {
+            closed = true;
+            statements = new ArrayList<>(idleStatements.size());
+            idleStatements.values().forEach(cached -> statements.add(cached.stmt));
+            idleStatements.clear();
+            usedStatements.clear();
+        }
+
+        try {
+            closeAll(statements);
+        } catch (SQLException e) {
+            throw new CloseException("Unable to close cached statements", e);
+        }
+    }
+
+    /**
+     * Returns the number of statements that were taken from the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHits() {
+        synchronized (lock) {
+            return hits;
+        }
+    }
+
+    /**
+     * Returns the number of statements that had to be prepared because no idle statement was available.
+     *
+     * @return the number of cache misses
+     */
+    public long getMisses() {
+        synchronized (lock) {
+            return misses;
+        }
+    }
+
+    /**
+     * Returns the number of idle statements that were closed because the cache was full.
+     *
+     * @return the number of evicted statements
+     */
+    public long getEvictions() {
+        synchronized (lock) {
+            return evictions;
+        }
+    }
+
+    /**
+     * Returns the number of idle statements that are currently held open by this builder.
+     *
+     * @return the number of cached statements
+     */
+    public int getCachedStatementCount() {
+        synchronized (lock) {
+            return idleStatements.size();
+        }
+    }
+
+    private static void closeAll(List<PreparedStatement> statements) throws SQLException {
+        SQLException failure = null;
+        for (PreparedStatement stmt : statements) {
+            try {
+                stmt.close();
+            } catch (SQLException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static final class CachedStatement {
+        private final StatementKey key;
+        private final PreparedStatement stmt;
+        private final int maxRows;
+        private final int fetchSize;
+        private final int fetchDirection;
+        private final int queryTimeout;
+        private final int maxFieldSize;
+        private final boolean poolable;
+
+        CachedStatement(StatementKey key, PreparedStatement stmt) throws SQLException {
+            this.key = key;
+            this.stmt = stmt;
+            this.maxRows = stmt.getMaxRows();
+            this.fetchSize = stmt.getFetchSize();
+            this.fetchDirection = stmt.getFetchDirection();
+            this.queryTimeout = stmt.getQueryTimeout();
+            this.maxFieldSize = stmt.getMaxFieldSize();
+            this.poolable = stmt.isPoolable();
+        }
+
+        // clears the statement and restores the settings it had when it was prepared
+        boolean reset() {
+            try {
+                stmt.clearParameters();
+                stmt.clearBatch();
+                stmt.clearWarnings();
+
+                if (stmt.getMaxRows() != maxRows) {
+                    stmt.setMaxRows(maxRows);
+                }
+                if (stmt.getFetchSize() != fetchSize) {
+                    stmt.setFetchSize(fetchSize);
+                }
+                if (stmt.getFetchDirection() != fetchDirection) {
+                    stmt.setFetchDirection(fetchDirection);
+                }
+                if (stmt.getQueryTimeout() != queryTimeout) {
+                    stmt.setQueryTimeout(queryTimeout);
+                }
+                if (stmt.getMaxFieldSize() != maxFieldSize) {
+                    stmt.setMaxFieldSize(maxFieldSize);
+                }
+                if (stmt.isPoolable() != poolable) {
+                    stmt.setPoolable(poolable);
+                }
+                return true;
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+    }
+
+    private static final class StatementKey {
+        private final String sql;
+        private final boolean returningGeneratedKeys;
+        private final String[] generatedKeysColumnNames;
+        private final boolean concurrentUpdatable;
+        private final int hashCode;
+
+        StatementKey(String sql, StatementContext ctx) {
+            this.sql = sql;
+            this.returningGeneratedKeys = ctx.isReturningGeneratedKeys();
+            this.generatedKeysColumnNames = returningGeneratedKeys ? ctx.getGeneratedKeysColumnNames() : null;
+            this.concurrentUpdatable = ctx.isConcurrentUpdatable();
+            this.hashCode = Objects.hash(sql, returningGeneratedKeys, Arrays.hashCode(generatedKeysColumnNames), concurrentUpdatable);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof StatementKey)) {
+                return false;
+            }
+            StatementKey that = (StatementKey) o;
+            return returningGeneratedKeys == that.returningGeneratedKeys
+                && concurrentUpdatable == that.concurrentUpdatable
+                && sql.equals(that.sql)
+                && Arrays.equals(generatedKeysColumnNames, that.generatedKeysColumnNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
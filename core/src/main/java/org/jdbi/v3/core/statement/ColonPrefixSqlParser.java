@@ -13,22 +13,9 @@
  */
 package org.jdbi.v3.core.statement;
 
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.Token;
 import org.jdbi.v3.core.cache.JdbiCacheBuilder;
-import org.jdbi.v3.core.internal.lexer.ColonStatementLexer;
-import org.jdbi.v3.core.statement.internal.ErrorListener;
 import org.jdbi.v3.meta.Beta;
 
-import static org.antlr.v4.runtime.Recognizer.EOF;
-import static org.jdbi.v3.core.internal.lexer.ColonStatementLexer.COMMENT;
-import static org.jdbi.v3.core.internal.lexer.ColonStatementLexer.DOUBLE_QUOTED_TEXT;
-import static org.jdbi.v3.core.internal.lexer.ColonStatementLexer.ESCAPED_TEXT;
-import static org.jdbi.v3.core.internal.lexer.ColonStatementLexer.LITERAL;
-import static org.jdbi.v3.core.internal.lexer.ColonStatementLexer.NAMED_PARAM;
-import static org.jdbi.v3.core.internal.lexer.ColonStatementLexer.POSITIONAL_PARAM;
-import static org.jdbi.v3.core.internal.lexer.ColonStatementLexer.QUOTED_TEXT;
-
 /**
  * SQL parser which recognizes named parameter tokens of the form
  * <code>:tokenName</code>
@@ -52,32 +39,6 @@ public class ColonPrefixSqlParser extends CachingSqlParser {
 
     @Override
     ParsedSql internalParse(String sql) {
-        ParsedSql.Builder parsedSql = ParsedSql.builder();
-        ColonStatementLexer lexer = new ColonStatementLexer(CharStreams.fromString(sql));
-        lexer.addErrorListener(new ErrorListener());
-        Token t = lexer.nextToken();
-        while (t.getType() != EOF) {
-            switch (t.getType()) {
-                case COMMENT:
-                case LITERAL:
-                case QUOTED_TEXT:
-                case DOUBLE_QUOTED_TEXT:
-                    parsedSql.append(t.getText());
-                    break;
-                case NAMED_PARAM:
-                    parsedSql.appendNamedParameter(t.getText().substring(1));
-                    break;
-                case POSITIONAL_PARAM:
-                    parsedSql.appendPositionalParameter();
-                    break;
-                case ESCAPED_TEXT:
-                    parsedSql.append(t.getText().substring(1));
-                    break;
-                default:
-                    break;
-            }
-            t = lexer.nextToken();
-        }
-        return parsedSql.build();
+        return SqlParameterScanner.COLON.scan(sql);
     }
 }
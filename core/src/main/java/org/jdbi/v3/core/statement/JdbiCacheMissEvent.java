@@ -0,0 +1,34 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import jdk.jfr.Label;
+import org.jdbi.v3.core.statement.internal.OptionalEvent;
+
+@jdk.jfr.Category("jdbi")
+@jdk.jfr.Name(JdbiCacheMissEvent.NAME)
+@Label("Jdbi Cache Miss")
+@jdk.jfr.Description("A lookup in the sql parser or template cache that had to compute the value. The duration is the time to compute it.")
+public final class JdbiCacheMissEvent extends jdk.jfr.Event implements OptionalEvent {
+    public static final String NAME = "jdbi.cacheMiss";
+
+    @Label("Cache")
+    public String cache;
+
+    static void commit(OptionalEvent cacheEvent, String cache) {
+        final var evt = (JdbiCacheMissEvent) cacheEvent;
+        evt.cache = cache;
+        evt.commit();
+    }
+}
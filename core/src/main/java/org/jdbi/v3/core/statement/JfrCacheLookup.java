@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import org.jdbi.v3.core.cache.JdbiCache;
+import org.jdbi.v3.core.cache.JdbiCacheLoader;
+import org.jdbi.v3.core.statement.internal.JfrSupport;
+import org.jdbi.v3.core.statement.internal.OptionalEvent;
+
+/**
+ * Cache lookup that records {@link JdbiCacheHitEvent} and {@link JdbiCacheMissEvent} events. The loader is wrapped
+ * to tell hits from misses, this is skipped unless a recording has enabled one of the events.
+ */
+final class JfrCacheLookup<K, V> implements JdbiCacheLoader<K, V> {
+
+    static final String SQL_PARSER_CACHE = "sqlParser";
+    static final String TEMPLATE_CACHE = "template";
+
+    private final String cacheName;
+    private final JdbiCacheLoader<K, V> loader;
+    private boolean loaded;
+
+    private JfrCacheLookup(String cacheName, JdbiCacheLoader<K, V> loader) {
+        this.cacheName = cacheName;
+        this.loader = loader;
+    }
+
+    static <K, V> V get(JdbiCache<K, V> cache, String cacheName, K key, JdbiCacheLoader<K, V> loader) {
+        if (!JfrSupport.isCacheEventEnabled()) {
+            return cache.getWithLoader(key, loader);
+        }
+
+        final OptionalEvent hitEvent = JfrSupport.newCacheHitEvent();
+        hitEvent.begin();
+        final JfrCacheLookup<K, V> lookup = new JfrCacheLookup<>(cacheName, loader);
+        final V value = cache.getWithLoader(key, lookup);
+        if (!lookup.loaded && hitEvent.shouldCommit()) {
+            JdbiCacheHitEvent.commit(hitEvent, cacheName);
+        }
+        return value;
+    }
+
+    @Override
+    public V create(K key) {
+        loaded = true;
+        final OptionalEvent missEvent = JfrSupport.newCacheMissEvent();
+        missEvent.begin();
+        final V value = loader.create(key);
+        if (missEvent.shouldCommit()) {
+            JdbiCacheMissEvent.commit(missEvent, cacheName);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.Arrays;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Describes how {@link SqlStatement#bindList} pads a list of values. Padding rounds the number of bound parameters
+ * up to a small set of sizes so that lists of similar length render the same SQL text. This keeps the template,
+ * parser and driver statement caches small when a statement is used with many different list sizes.
+ * <br>
+ * By default, the padding parameters repeat the last value of the list, which does not change the result of
+ * {@code in (...)} or {@code not in (...)} predicates. Padding with {@code null} values is available through
+ * {@link #withNullValues()}; note that a {@code null} in a {@code not in (...)} predicate never matches any row.
+ *
+ * @see SqlStatements#setListPadding(ListPadding)
+ * @since 3.50.0
+ */
+@Beta
+public final class ListPadding {
+
+    /**
+     * Do not pad lists. This is the default.
+     */
+    public static final ListPadding NONE = new ListPadding(new int[0], false, false);
+
+    private static final int MAX_POWER_OF_TWO = 1 << 30;
+
+    private final int[] buckets;
+    private final boolean powerOfTwo;
+    private final boolean nullValues;
+
+    private ListPadding(int[] buckets, boolean powerOfTwo, boolean nullValues) {
+        this.buckets = buckets.clone();
+        this.powerOfTwo = powerOfTwo;
+        this.nullValues = nullValues;
+    }
+
+    /**
+     * Pad lists to the next power of two, e.g. a list with five values binds eight parameters.
+     *
+     * @return a padding that rounds up to the next power of two
+     */
+    public static ListPadding powerOfTwo() {
+        return new ListPadding(new int[0], true, false);
+    }
+
+    /**
+     * Pad lists to the next of the given bucket sizes. Lists that are larger than the largest bucket are not padded.
+     * This allows capping the number of parameters, e.g. for databases that limit the number of values in an
+     * {@code in (...)} predicate.
+     *
+     * @param buckets the bucket sizes. Must be positive.
+     * @return a padding that rounds up to the next bucket size
+     */
+    public static ListPadding buckets(int... buckets) {
+        if (buckets.length == 0) {
+            throw new IllegalArgumentException("at least one bucket size is required");
+        }
+        int[] sorted = buckets.clone();
+        Arrays.sort(sorted);
+        if (sorted[0] <= 0) {
+            throw new IllegalArgumentException("bucket sizes must be > 0");
+        }
+        return new ListPadding(sorted, false, false);
+    }
+
+    /**
+     * Returns a copy of this padding that binds {@code null} instead of repeating the last value of the list.
+     *
+     * @return a padding that pads with {@code null} values
+     */
+    public ListPadding withNullValues() {
+        return new ListPadding(buckets, powerOfTwo, true);
+    }
+
+    /**
+     * Returns true if padding parameters are bound to {@code null}, false if they repeat the last value.
+     *
+     * @return true if padding parameters are bound to {@code null}
+     */
+    public boolean isNullValues() {
+        return nullValues;
+    }
+
+    /**
+     * Returns the number of parameters to bind for a list with the given number of values.
+     *
+     * @param size the number of values in the list
+     * @return the padded number of parameters, never less than size
+     */
+    public int paddedSize(int size) {
+        if (powerOfTwo) {
+            if (size <= 1 || size > MAX_POWER_OF_TWO) {
+                return size;
+            }
+            return Integer.highestOneBit(size - 1) << 1;
+        }
+        for (int bucket : buckets) {
+            if (bucket >= size) {
+                return bucket;
+            }
+        }
+        return size;
+    }
+}
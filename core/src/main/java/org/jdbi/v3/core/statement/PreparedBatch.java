@@ -15,6 +15,7 @@ package org.jdbi.v3.core.statement;
 
 import java.lang.reflect.Type;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
@@ -34,6 +35,8 @@ import org.jdbi.v3.core.argument.Arguments;
 import org.jdbi.v3.core.argument.NamedArgumentFinder;
 import org.jdbi.v3.core.argument.internal.NamedArgumentFinderFactory;
 import org.jdbi.v3.core.argument.internal.NamedArgumentFinderFactory.PrepareKey;
+import org.jdbi.v3.core.argument.internal.TypedValue;
+import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.result.BatchResultBearing;
 import org.jdbi.v3.core.result.ResultBearing;
@@ -43,6 +46,9 @@ import org.jdbi.v3.core.result.ResultProducers;
 import org.jdbi.v3.core.result.ResultSetScanner;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
 import org.jdbi.v3.core.statement.internal.PreparedBinding;
+import org.jdbi.v3.meta.Beta;
+
+import static java.util.Objects.requireNonNull;
 
 import static org.jdbi.v3.core.result.ResultProducers.returningGeneratedKeys;
 
@@ -58,11 +64,23 @@ import static org.jdbi.v3.core.result.ResultProducers.returningGeneratedKeys;
  *
  * An entire batch can be bound and added in one go with {@link PreparedBatch#add(Map)}
  * or {@link PreparedBatch#add(Object...)}.
+ *
+ * By default, all bindings are held in memory until the batch is executed. Setting a flush
+ * threshold with {@link #setFlushRows(int)} or {@link #setFlushBytes(long)} switches the batch into
+ * streaming mode where rows are bound as they are added and sent to the database whenever a
+ * threshold is reached.
  */
 public class PreparedBatch extends SqlStatement<PreparedBatch> implements ResultBearing {
+    private static final long DEFAULT_VALUE_SIZE = 16;
+
     private final List<PreparedBinding> bindings = new ArrayList<>();
     final Map<PrepareKey, Function<String, Optional<Function<Object, Argument>>>> preparedFinders = new HashMap<>();
 
+    private int flushRows = 0;
+    private long flushBytes = 0;
+    private GeneratedKeysConsumer<?> generatedKeysConsumer = null;
+    private StreamingBatch streamingBatch = null;
+
     public PreparedBatch(Handle handle, CharSequence sql) {
         super(handle, sql);
         getContext().setBinding(new PreparedBinding(getContext()));
@@ -94,16 +112,89 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
     }
 
     Function<Object, Argument> buildArgument(QualifiedType<?> type) {
-        return getContext().getConfig(Arguments.class)
+        return getContext().getConfig().lookup(Arguments.class)
                 .prepareFor(type)
                 .orElse(value ->
                     (pos, st, ctx) ->
-                        ctx.getConfig(Arguments.class)
+                        ctx.getConfig().lookup(Arguments.class)
                             .findFor(type, value)
                             .orElseThrow(() -> new UnableToCreateStatementException("no argument factory for type " + type, ctx))
                             .apply(pos, st, ctx));
     }
 
+    /**
+     * Sets the number of rows after which a streaming batch is sent to the database. Setting
+     * this value (or {@link #setFlushBytes(long)}) to a positive number enables streaming mode:
+     * every {@link #add()} binds the row directly to the prepared statement and the batch
+     * is executed whenever the threshold is reached. The statement and the argument binding plan are
+     * reused across all flushes. {@link #execute()} sends any remaining rows and returns the
+     * modification counts of all flushes.
+     * <br>
+     * Streaming mode must be configured before the first row is added.
+     *
+     * @param flushRows the number of rows per flush, 0 to disable the row threshold
+     * @return this
+     * @since 3.50.0
+     */
+    @Beta
+    public PreparedBatch setFlushRows(int flushRows) {
+        if (flushRows < 0) {
+            throw new IllegalArgumentException("flushRows must be >= 0");
+        }
+        checkNotStarted();
+        this.flushRows = flushRows;
+        return this;
+    }
+
+    /**
+     * Sets the estimated argument size in bytes after which a streaming batch is sent to the database.
+     * The size is estimated from the bound values (e.g. character count for strings, length for byte arrays)
+     * and is only meant to keep the memory used by the driver for a single flush bounded.
+     *
+     * @param flushBytes the estimated number of bytes per flush, 0 to disable the size threshold
+     * @return this
+     * @see #setFlushRows(int)
+     * @since 3.50.0
+     */
+    @Beta
+    public PreparedBatch setFlushBytes(long flushBytes) {
+        if (flushBytes < 0) {
+            throw new IllegalArgumentException("flushBytes must be >= 0");
+        }
+        checkNotStarted();
+        this.flushBytes = flushBytes;
+        return this;
+    }
+
+    /**
+     * Collects generated keys from a streaming batch. As the rows of a streaming batch are executed in multiple
+     * flushes, the generated keys can not be returned as a single result set. Instead, the keys of each flush are
+     * mapped with the given row mapper and passed to the consumer right after the flush.
+     *
+     * @param mapper the row mapper for the generated keys
+     * @param consumer receives each mapped key
+     * @param columnNames the column names for generated keys
+     * @param <T> the mapped key type
+     * @return this
+     * @since 3.50.0
+     */
+    @Beta
+    public <T> PreparedBatch setGeneratedKeysConsumer(RowMapper<T> mapper, Consumer<? super T> consumer, String... columnNames) {
+        checkNotStarted();
+        this.generatedKeysConsumer = new GeneratedKeysConsumer<>(mapper, consumer, columnNames);
+        return this;
+    }
+
+    private boolean isStreaming() {
+        return flushRows > 0 || flushBytes > 0;
+    }
+
+    private void checkNotStarted() {
+        if (streamingBatch != null || !bindings.isEmpty()) {
+            throw new IllegalStateException("Streaming must be configured before adding rows to the batch");
+        }
+    }
+
     @Override
     public <R> R scanResultSet(ResultSetScanner<R> resultSetScanner) {
         return execute(ResultProducers.returningResults()).scanResultSet(resultSetScanner);
@@ -215,6 +306,14 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
             add();
         }
 
+        if (streamingBatch != null) {
+            return streamingBatch.finish();
+        }
+
+        if (isStreaming() && getContext().isReturningGeneratedKeys()) {
+            throw new IllegalStateException("A streaming batch can not return generated keys as a result, use setGeneratedKeysConsumer()");
+        }
+
         beforeTemplating();
 
         final StatementContext ctx = getContext();
@@ -223,12 +322,14 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
         String sql = parsedSql.getSql();
         ParsedParameters parsedParameters = parsedSql.getParameters();
 
+        beforeStatementCreation();
+
         try {
             try {
                 stmt = createStatement(sql);
 
                 getContext().addCleanable(() -> cleanupStatement(stmt));
-                getConfig(SqlStatements.class).customize(stmt);
+                getConfig().lookup(SqlStatements.class).customize(stmt);
             } catch (SQLException e) {
                 throw new UnableToCreateStatementException(e, ctx);
             }
@@ -253,7 +354,7 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
             beforeExecution();
 
             try {
-                final int[] modifiedRows = SqlLoggerUtil.wrap(stmt::executeBatch, ctx, getConfig(SqlStatements.class).getSqlLogger());
+                final int[] modifiedRows = SqlLoggerUtil.wrap(stmt::executeBatch, ctx, getConfig().lookup(SqlStatements.class).getSqlLogger());
 
                 afterExecution();
 
@@ -278,7 +379,14 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
             throw new IllegalStateException("Attempt to add() an empty batch, you probably didn't mean to do this "
                     + "- call add() *after* setting batch parameters");
         }
-        bindings.add(currentBinding);
+        if (isStreaming()) {
+            if (streamingBatch == null) {
+                streamingBatch = new StreamingBatch(currentBinding);
+            }
+            streamingBatch.add(currentBinding);
+        } else {
+            bindings.add(currentBinding);
+        }
         getContext().setBinding(new PreparedBinding(getContext()));
         return this;
     }
@@ -311,12 +419,183 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
     }
 
     /**
-     * Returns the number of bindings in this batch.
+     * Returns the number of bindings in this batch. For a streaming batch, this is the number of
+     * bindings that have not yet been sent to the database.
      *
      * @return the number of bindings in this batch.
      */
     public int size() {
-        return bindings.size();
+        return streamingBatch == null ? bindings.size() : streamingBatch.pendingRows;
+    }
+
+    /**
+     * Estimates the size of the arguments in a binding. This does not need to be exact, it only serves to keep
+     * the amount of data sent in a single flush bounded.
+     */
+    static long estimateSize(PreparedBinding binding) {
+        long size = 0;
+        for (Object value : binding.positionals.values()) {
+            size += estimateSize(value);
+        }
+        for (Object value : binding.named.values()) {
+            size += estimateSize(value);
+        }
+        // beans, maps etc. are expanded when binding, count a fixed size for each of them
+        size += (binding.prepareKeys.size() + binding.namedArgumentFinder.size()) * DEFAULT_VALUE_SIZE;
+
+        return size;
+    }
+
+    private static long estimateSize(Object object) {
+        final Object value = object instanceof TypedValue ? ((TypedValue) object).getValue() : object;
+
+        if (value == null) {
+            return 1;
+        } else if (value instanceof Optional) {
+            return estimateSize(((Optional<?>) value).orElse(null));
+        } else if (value instanceof CharSequence) {
+            return 2L * ((CharSequence) value).length();
+        } else if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        } else if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return Long.BYTES;
+        }
+        return DEFAULT_VALUE_SIZE;
+    }
+
+    /**
+     * Holds the state of a batch in streaming mode. The statement and the binder are created
+     * when the first row is added and reused for every flush and execution until the batch is closed.
+     */
+    private final class StreamingBatch {
+        private final PreparedStatement statement;
+        private final ArgumentBinder binder;
+
+        private int[] updateCounts = new int[16];
+        private int executedRows = 0;
+
+        private int pendingRows = 0;
+        private long pendingBytes = 0;
+
+        StreamingBatch(PreparedBinding firstBinding) {
+            final StatementContext ctx = getContext();
+
+            if (generatedKeysConsumer != null) {
+                ctx.setReturningGeneratedKeys(true);
+                ctx.setGeneratedKeysColumnNames(generatedKeysConsumer.columnNames);
+            }
+
+            beforeTemplating();
+
+            ParsedSql parsedSql = parseSql();
+
+            beforeStatementCreation();
+
+            try {
+                stmt = createStatement(parsedSql.getSql());
+                this.statement = stmt;
+
+                ctx.addCleanable(() -> {
+                    streamingBatch = null;
+                    cleanupStatement(statement);
+                });
+                getConfig().lookup(SqlStatements.class).customize(statement);
+            } catch (SQLException e) {
+                throw new UnableToCreateStatementException(e, ctx);
+            }
+
+            beforeBinding();
+
+            this.binder = new ArgumentBinder.Prepared(PreparedBatch.this, parsedSql.getParameters(), firstBinding);
+        }
+
+        void add(PreparedBinding binding) {
+            final StatementContext ctx = getContext();
+            try {
+                ctx.setBinding(binding);
+                binder.bind(binding);
+                statement.addBatch();
+            } catch (SQLException e) {
+                throw new UnableToExecuteStatementException("Exception while binding parameters", e, ctx);
+            }
+
+            pendingRows++;
+            if (flushBytes > 0) {
+                pendingBytes += estimateSize(binding);
+            }
+
+            if ((flushRows > 0 && pendingRows >= flushRows) || (flushBytes > 0 && pendingBytes >= flushBytes)) {
+                flush();
+            }
+        }
+
+        ExecutedBatch finish() {
+            if (getContext().isReturningGeneratedKeys() && generatedKeysConsumer == null) {
+                throw new IllegalStateException("A streaming batch can not return generated keys as a result, use setGeneratedKeysConsumer()");
+            }
+
+            try {
+                if (pendingRows > 0) {
+                    flush();
+                }
+                getContext().setBinding(new PreparedBinding(getContext()));
+                return new ExecutedBatch(statement, Arrays.copyOf(updateCounts, executedRows));
+            } finally {
+                // the statement is kept for the next execution
+                executedRows = 0;
+            }
+        }
+
+        private void flush() {
+            final StatementContext ctx = getContext();
+
+            beforeExecution();
+
+            try {
+                final int[] modifiedRows = SqlLoggerUtil.wrap(statement::executeBatch, ctx, getConfig().lookup(SqlStatements.class).getSqlLogger());
+
+                afterExecution();
+
+                if (executedRows + modifiedRows.length > updateCounts.length) {
+                    updateCounts = Arrays.copyOf(updateCounts, Math.max(updateCounts.length * 2, executedRows + modifiedRows.length));
+                }
+                System.arraycopy(modifiedRows, 0, updateCounts, executedRows, modifiedRows.length);
+                executedRows += modifiedRows.length;
+
+                if (generatedKeysConsumer != null) {
+                    generatedKeysConsumer.consume(statement, ctx);
+                }
+            } catch (SQLException e) {
+                throw new UnableToExecuteStatementException(Batch.mungeBatchException(e), ctx);
+            } finally {
+                pendingRows = 0;
+                pendingBytes = 0;
+            }
+        }
+    }
+
+    private static final class GeneratedKeysConsumer<T> {
+        private final RowMapper<T> mapper;
+        private final Consumer<? super T> consumer;
+        private final String[] columnNames;
+
+        GeneratedKeysConsumer(RowMapper<T> mapper, Consumer<? super T> consumer, String... columnNames) {
+            this.mapper = requireNonNull(mapper, "mapper is null");
+            this.consumer = requireNonNull(consumer, "consumer is null");
+            this.columnNames = Arrays.copyOf(columnNames, columnNames.length);
+        }
+
+        void consume(PreparedStatement statement, StatementContext ctx) throws SQLException {
+            try (ResultSet rs = statement.getGeneratedKeys()) {
+                if (rs == null) {
+                    return;
+                }
+                RowMapper<T> rowMapper = mapper.specialize(rs, ctx);
+                while (rs.next()) {
+                    consumer.accept(rowMapper.map(rs, ctx));
+                }
+            }
+        }
     }
 
     private static class ExecutedBatch {
@@ -28,7 +28,7 @@ public class Script extends SqlStatement<Script> {
 
     public Script(Handle handle, CharSequence sql) {
         super(handle, sql);
-        this.requireSemicolon = handle.getConfig(SqlStatements.class).isScriptStatementsNeedSemicolon();
+        this.requireSemicolon = handle.getConfig().lookup(SqlStatements.class).isScriptStatementsNeedSemicolon();
     }
 
     /**
@@ -38,7 +38,7 @@ public class Script extends SqlStatement<Script> {
      */
     public Script(Handle handle, String sql) {
         super(handle, sql);
-        this.requireSemicolon = handle.getConfig(SqlStatements.class).isScriptStatementsNeedSemicolon();
+        this.requireSemicolon = handle.getConfig().lookup(SqlStatements.class).isScriptStatementsNeedSemicolon();
     }
 
     /**
@@ -68,7 +68,7 @@ public class Script extends SqlStatement<Script> {
      * @return the split statements
      */
     public List<String> getStatements() {
-        var templateEngine = getConfig(SqlStatements.class).getTemplateEngine();
+        var templateEngine = getConfig().lookup(SqlStatements.class).getTemplateEngine();
         return splitToStatements(templateEngine.render(getSql(), getContext()));
     }
 
@@ -0,0 +1,180 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+/**
+ * Single pass scanner that finds named and positional parameters in a SQL statement. This is a hand written
+ * version of the {@code ColonStatementLexer} and {@code HashStatementLexer} grammars and produces the same
+ * {@link ParsedSql}, but does not create a token object for each fragment of the statement. Text between
+ * parameters is copied to the parsed SQL in a single operation.
+ * <br>
+ * The rules (in order of precedence for tokens of the same length, the longest token wins):
+ * <ul>
+ *     <li>comments ({@code /* ... *&#47;}, {@code -- ...} and {@code // ...} up to the end of the line) are copied</li>
+ *     <li>single quoted text, where {@code \'} does not end the text, is copied</li>
+ *     <li>double quoted text with at least one character is copied</li>
+ *     <li>a backslash escapes the next character, the backslash is removed</li>
+ *     <li>the prefix followed by one or more name characters is a named parameter</li>
+ *     <li>a {@code ?} not followed by another {@code ?} is a positional parameter</li>
+ *     <li>{@code ??} (and {@code ::} for the colon prefix) is copied</li>
+ * </ul>
+ */
+final class SqlParameterScanner {
+
+    static final SqlParameterScanner COLON = new SqlParameterScanner(':', true);
+    static final SqlParameterScanner HASH = new SqlParameterScanner('#', false);
+
+    private final char prefix;
+    private final boolean doublePrefixIsLiteral;
+
+    private SqlParameterScanner(char prefix, boolean doublePrefixIsLiteral) {
+        this.prefix = prefix;
+        this.doublePrefixIsLiteral = doublePrefixIsLiteral;
+    }
+
+    ParsedSql scan(String sql) {
+        final ParsedSql.Builder parsedSql = ParsedSql.builder();
+        final int length = sql.length();
+
+        // start of the text that has not yet been copied to the parsed sql.
+        int copyStart = 0;
+        int i = 0;
+
+        while (i < length) {
+            final char c = sql.charAt(i);
+
+            if (c == prefix) {
+                if (doublePrefixIsLiteral && next(sql, i) == prefix) {
+                    i += 2;
+                    continue;
+                }
+                int end = scanName(sql, i + 1);
+                if (end > i + 1) {
+                    parsedSql.append(sql, copyStart, i)
+                        .appendNamedParameter(sql.substring(i + 1, end));
+                    i = end;
+                    copyStart = end;
+                } else {
+                    i++;
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '?':
+                    if (next(sql, i) == '?') {
+                        i += 2;
+                    } else {
+                        parsedSql.append(sql, copyStart, i)
+                            .appendPositionalParameter();
+                        i++;
+                        copyStart = i;
+                    }
+                    break;
+                case '\\':
+                    if (i + 1 < length) {
+                        // drop the backslash, the escaped character is copied with the following text.
+                        parsedSql.append(sql, copyStart, i);
+                        copyStart = i + 1;
+                        i += 2;
+                    } else {
+                        i++;
+                    }
+                    break;
+                case '\'':
+                    i = skipQuotedText(sql, i);
+                    break;
+                case '"':
+                    i = skipDoubleQuotedText(sql, i);
+                    break;
+                case '/':
+                    if (next(sql, i) == '*') {
+                        int end = sql.indexOf("*/", i + 2);
+                        i = end < 0 ? i + 1 : end + 2;
+                    } else if (next(sql, i) == '/') {
+                        i = skipToEndOfLine(sql, i + 2);
+                    } else {
+                        i++;
+                    }
+                    break;
+                case '-':
+                    i = next(sql, i) == '-' ? skipToEndOfLine(sql, i + 2) : i + 1;
+                    break;
+                default:
+                    i++;
+                    break;
+            }
+        }
+
+        return parsedSql.append(sql, copyStart, length).build();
+    }
+
+    private static char next(String sql, int i) {
+        return i + 1 < sql.length() ? sql.charAt(i + 1) : 0;
+    }
+
+    /**
+     * Returns the index after the quoted text that starts at {@code start}, or {@code start + 1} if the
+     * text is not terminated. A quote preceded by a backslash may either end the text or be part of it,
+     * the longest possible match wins.
+     */
+    private static int skipQuotedText(String sql, int start) {
+        int lastEnd = -1;
+        for (int i = start + 1; i < sql.length(); i++) {
+            if (sql.charAt(i) == '\'') {
+                if (i - 1 > start && sql.charAt(i - 1) == '\\') {
+                    lastEnd = i;
+                } else {
+                    return i + 1;
+                }
+            }
+        }
+        return lastEnd < 0 ? start + 1 : lastEnd + 1;
+    }
+
+    /** Double quoted text must not be empty. */
+    private static int skipDoubleQuotedText(String sql, int start) {
+        int end = sql.indexOf('"', start + 1);
+        return end > start + 1 ? end + 1 : start + 1;
+    }
+
+    private static int skipToEndOfLine(String sql, int start) {
+        int i = start;
+        while (i < sql.length() && sql.charAt(i) != '\r' && sql.charAt(i) != '\n') {
+            i++;
+        }
+        return i;
+    }
+
+    /** Returns the index after the parameter name that starts at {@code start}. */
+    private static int scanName(String sql, int start) {
+        final int length = sql.length();
+        int i = start;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '$' || c == '_' || c == '.') {
+                i++;
+            } else if (c == '?' && i + 1 < length && sql.charAt(i + 1) == '.') {
+                i += 2;
+            } else if (c >= 0x80 && !Character.isHighSurrogate(c)) {
+                i++;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(sql.charAt(i + 1))) {
+                i += 2;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+}
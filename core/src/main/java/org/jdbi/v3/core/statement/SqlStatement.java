@@ -48,6 +48,8 @@ import org.jdbi.v3.core.argument.ObjectFieldArguments;
 import org.jdbi.v3.core.argument.ObjectMethodArguments;
 import org.jdbi.v3.core.argument.internal.NamedArgumentFinderFactory;
 import org.jdbi.v3.core.argument.internal.PojoPropertyArguments;
+import org.jdbi.v3.core.array.SqlArrayType;
+import org.jdbi.v3.core.array.SqlArrayTypes;
 import org.jdbi.v3.core.generic.GenericType;
 import org.jdbi.v3.core.internal.IterableLike;
 import org.jdbi.v3.core.mapper.Mappers;
@@ -62,6 +64,7 @@ import org.jdbi.v3.meta.Beta;
 import static java.util.stream.Collectors.joining;
 
 import static org.jdbi.v3.core.generic.GenericTypes.arrayType;
+import static org.jdbi.v3.core.generic.GenericTypes.box;
 import static org.jdbi.v3.core.generic.GenericTypes.parameterizeClass;
 
 /**
@@ -1547,6 +1550,9 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
      * operation as those evaluate the SQL statement only once. When binding lists of different size,
      * the number of placeholders will not match the number of elements in the list which will lead
      * to errors.
+     * <p>
+     * If a {@link ListPadding} is configured with {@link SqlStatements#setListPadding(ListPadding)}, additional parameters
+     * are bound so that lists of similar size render the same SQL statement.
      *
      * @param onEmpty handler for null/empty list
      * @param key     attribute name
@@ -1562,22 +1568,85 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
         }
 
         StringBuilder names = new StringBuilder();
+        SqlStatements sqlStatements = getConfig().lookup(SqlStatements.class);
+        ListPadding padding = sqlStatements.getListPadding();
+        int size = padding.paddedSize(values.size());
+        Object padValue = padding.isNullValues() ? null : values.get(values.size() - 1);
 
-        for (int i = 0; i < values.size(); i++) {
+        for (int i = 0; i < size; i++) {
             String name = "__" + key + "_" + i;
 
             if (i > 0) {
                 names.append(',');
             }
-            String paramName = getConfig().get(SqlStatements.class).getSqlParser().nameParameter(name, getContext());
+            String paramName = sqlStatements.getSqlParser().nameParameter(name, getContext());
             names.append(paramName);
 
-            bind(name, values.get(i));
+            bind(name, i < values.size() ? values.get(i) : padValue);
         }
 
         return define(key, names.toString());
     }
 
+    /**
+     * Bind a list of values as a single SQL array parameter and define an attribute that references it. This avoids
+     * creating one parameter for each value, which makes very large lists much cheaper to parse, bind and plan.
+     * <p>
+     * The attribute is rendered with the {@link org.jdbi.v3.core.array.SqlArrayListExpression} configured in
+     * {@link SqlArrayTypes#setListExpression(org.jdbi.v3.core.array.SqlArrayListExpression)}. The default renders
+     * {@code select * from unnest(cast(:param as <type> array))}, so that the same SQL can be used as with {@link #bindList(String, List)}:
+     * <pre>
+     * handle.createQuery("select name from contacts where id in (&lt;ids&gt;)")
+     *     .bindListAsArray("ids", Integer.class, ids)
+     *     .mapTo(String.class)
+     *     .list();
+     * </pre>
+     * The values are bound with {@link #bindArray(String, Type, Iterable)}, so the element type must be supported
+     * by the registered {@link SqlArrayTypes}.
+     *
+     * @param key         attribute name
+     * @param elementType the element type of the list
+     * @param values      list of values that will be bound as a SQL array
+     * @return this
+     * @throws IllegalArgumentException if the list is null or empty.
+     * @since 3.50.0
+     */
+    @Beta
+    public final This bindListAsArray(String key, Type elementType, List<?> values) {
+        return bindListAsArray(EmptyHandling.THROW, key, elementType, values);
+    }
+
+    /**
+     * Bind a list of values as a single SQL array parameter and define an attribute that references it.
+     *
+     * @param onEmpty     handler for null/empty list
+     * @param key         attribute name
+     * @param elementType the element type of the list
+     * @param values      list of values that will be bound as a SQL array
+     * @return this
+     * @see #bindListAsArray(String, Type, List)
+     * @see EmptyHandling
+     * @since 3.50.0
+     */
+    @Beta
+    public final This bindListAsArray(BiConsumer<SqlStatement, String> onEmpty, String key, Type elementType, List<?> values) {
+        if (values == null || values.isEmpty()) {
+            onEmpty.accept(this, key);
+            return typedThis;
+        }
+
+        String name = "__" + key + "_array";
+        String paramName = getConfig().lookup(SqlStatements.class).getSqlParser().nameParameter(name, getContext());
+
+        Type boxedType = box(elementType);
+        SqlArrayTypes arrayTypes = getConfig().lookup(SqlArrayTypes.class);
+        String typeName = arrayTypes.findFor(boxedType).map(SqlArrayType::getTypeName).orElse(null);
+
+        bindArray(name, boxedType, values);
+
+        return define(key, arrayTypes.getListExpression().render(paramName, typeName));
+    }
+
     /**
      * Bind a parameter for each value in the given list * number of property names,
      * and defines an attribute as the comma-separated list of parameter references (using colon prefix).
@@ -1795,12 +1864,14 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
 
         ParsedSql parsedSql = parseSql();
 
+        beforeStatementCreation();
+
         try {
             stmt = createStatement(parsedSql.getSql());
             // The statement builder might (or might not) clean up the statement when called. E.g. the
             // caching statement builder relies on the statement *not* being closed.
             getContext().addCleanable(() -> cleanupStatement(stmt));
-            getConfig(SqlStatements.class).customize(stmt);
+            getConfig().lookup(SqlStatements.class).customize(stmt);
         } catch (SQLException e) {
             throw new UnableToCreateStatementException(e, ctx);
         }
@@ -1816,7 +1887,7 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
         attachJfrEvent(evt, ctx);
 
         try {
-            SqlLoggerUtil.wrap(stmt::execute, ctx, getConfig(SqlStatements.class).getSqlLogger());
+            SqlLoggerUtil.wrap(stmt::execute, ctx, getConfig().lookup(SqlStatements.class).getSqlLogger());
         } catch (SQLException e) {
             throw new UnableToExecuteStatementException(e, ctx);
         }
@@ -1836,11 +1907,13 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
 
     ParsedSql parseSql() {
         StatementContext ctx = getContext();
-        SqlStatements statements = getConfig(SqlStatements.class);
+        SqlStatements statements = getConfig().lookup(SqlStatements.class);
 
         String renderedSql = statements.preparedRender(sql, ctx);
         ctx.setRenderedSql(renderedSql);
 
+        beforeParsing();
+
         ParsedSql parsedSql = statements.getSqlParser().parse(renderedSql, ctx);
         ctx.setParsedSql(parsedSql);
 
@@ -1858,7 +1931,7 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
     }
 
     RowMapper<?> mapperForType(Type type) {
-        return getConfig(Mappers.class).findFor(type)
+        return getConfig().lookup(Mappers.class).findFor(type)
             .orElseThrow(() -> new UnsupportedOperationException("No mapper registered for " + type));
     }
 
@@ -1866,6 +1939,14 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
         callCustomizers(c -> c.beforeTemplating(stmt, getContext()));
     }
 
+    void beforeParsing() {
+        callCustomizers(c -> c.beforeParsing(stmt, getContext()));
+    }
+
+    void beforeStatementCreation() {
+        callCustomizers(c -> c.beforeStatementCreation(stmt, getContext()));
+    }
+
     void beforeBinding() {
         callCustomizers(c -> c.beforeBinding(stmt, getContext()));
     }
@@ -1885,7 +1966,7 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
                     final var evt = (JdbiStatementEvent) statementEvent;
                     evt.traceId = ctx.getTraceId();
                     evt.type = ctx.describeJdbiStatementType();
-                    final var stmtConfig = getConfig(SqlStatements.class);
+                    final var stmtConfig = getConfig().lookup(SqlStatements.class);
                     final String renderedSql = ctx.getRenderedSql();
                     if (renderedSql != null) {
                         evt.sql = renderedSql.substring(0,
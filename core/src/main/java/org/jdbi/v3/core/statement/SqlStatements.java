@@ -35,20 +35,29 @@ import org.jdbi.v3.core.cache.JdbiCache;
 import org.jdbi.v3.core.cache.JdbiCacheBuilder;
 import org.jdbi.v3.core.cache.JdbiCacheLoader;
 import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheBuilder;
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.meta.Beta;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Configuration holder for {@link SqlStatement}s.
  */
 public final class SqlStatements implements JdbiConfig<SqlStatements> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(SqlStatements.class);
+
     /** The default size of the SQL template cache. */
     public static final int SQL_TEMPLATE_CACHE_SIZE = 1_000;
 
+    /** The default size of the argument binding plan cache. */
+    public static final int BINDING_PLAN_CACHE_SIZE = 1_000;
+
     private final Map<String, Object> attributes;
     private TemplateEngine templateEngine;
     private JdbiCache<StatementCacheKey, Function<StatementContext, String>> templateCache;
+    private final JdbiCache<ArgumentBinder.BindingPlanKey, ArgumentBinder.BindingPlan> bindingPlanCache;
     private SqlParser sqlParser;
     private SqlLogger sqlLogger;
     private Integer queryTimeout;
@@ -56,6 +65,8 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
     private volatile boolean attachAllStatementsForCleanup;
     private volatile boolean attachCallbackStatementsForCleanup = true;
     private volatile boolean scriptStatementsNeedSemicolon = true;
+    private volatile boolean bindingPlanCacheEnabled;
+    private volatile ListPadding listPadding = ListPadding.NONE;
     private final Collection<StatementCustomizer> customizers;
 
     private final Collection<StatementContextListener> contextListeners;
@@ -64,6 +75,8 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
     private volatile int jfrSqlMaxLength = 512;
     private volatile int jfrParamMaxLength = 512;
 
+    private ConfigRegistry registry;
+
     public SqlStatements() {
         attributes = Collections.synchronizedMap(new HashMap<>());
         templateEngine = new DefinedAttributeTemplateEngine();
@@ -73,6 +86,7 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         customizers = new CopyOnWriteArrayList<>();
         contextListeners = new CopyOnWriteArraySet<>();
         templateCache = DefaultJdbiCacheBuilder.builder().maxSize(SQL_TEMPLATE_CACHE_SIZE).build();
+        bindingPlanCache = DefaultJdbiCacheBuilder.builder().maxSize(BINDING_PLAN_CACHE_SIZE).build();
     }
 
     private SqlStatements(SqlStatements that) {
@@ -88,10 +102,18 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         this.customizers = new CopyOnWriteArrayList<>(that.customizers);
         this.contextListeners = new CopyOnWriteArraySet<>(that.contextListeners);
         this.templateCache = that.templateCache;
+        this.bindingPlanCache = that.bindingPlanCache;
+        this.bindingPlanCacheEnabled = that.bindingPlanCacheEnabled;
+        this.listPadding = that.listPadding;
         this.jfrSqlMaxLength = that.jfrSqlMaxLength;
         this.jfrParamMaxLength = that.jfrParamMaxLength;
     }
 
+    @Override
+    public void setRegistry(ConfigRegistry registry) {
+        this.registry = registry;
+    }
+
     /**
      * Define an attribute for {@link StatementContext} for statements executed by Jdbi.
      *
@@ -373,6 +395,69 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         this.attachCallbackStatementsForCleanup = attachCallbackStatementsForCleanup;
     }
 
+    /**
+     * If true, the argument factories used to bind a statement are resolved once per statement and value types and
+     * then reused by every statement that shares this configuration.
+     *
+     * @return True if argument binding plans are cached
+     *
+     * @since 3.50.0
+     */
+    @Beta
+    public boolean isBindingPlanCacheEnabled() {
+        return bindingPlanCacheEnabled;
+    }
+
+    /**
+     * Sets whether argument binding plans are cached. When enabled, the first execution of a statement resolves
+     * an argument factory for each parameter and subsequent executions of the same statement with the same value
+     * types bind their values directly through these factories without consulting the {@link org.jdbi.v3.core.argument.Arguments}
+     * registry again.
+     * <br>
+     * Binding plans are only shared between statements with the same argument factories (see
+     * {@link org.jdbi.v3.core.argument.Arguments#getVersion()}). Argument factories may read other configuration
+     * (e.g. enum or array type settings) when they are prepared; only enable this setting if this configuration is
+     * not changed on individual handles or statements. The default is false.
+     *
+     * @param bindingPlanCacheEnabled If true, binding plans are cached and reused
+     * @return this
+     *
+     * @since 3.50.0
+     */
+    @Beta
+    public SqlStatements setBindingPlanCacheEnabled(boolean bindingPlanCacheEnabled) {
+        this.bindingPlanCacheEnabled = bindingPlanCacheEnabled;
+        return this;
+    }
+
+    /**
+     * Returns the padding applied to lists bound with {@link SqlStatement#bindList}.
+     *
+     * @return The list padding
+     *
+     * @since 3.50.0
+     */
+    @Beta
+    public ListPadding getListPadding() {
+        return listPadding;
+    }
+
+    /**
+     * Sets the padding applied to lists bound with {@link SqlStatement#bindList}. Padding binds additional parameters
+     * so that lists of different sizes render the same SQL text, which keeps the statement caches effective when
+     * a statement is executed with many different list sizes. The default is {@link ListPadding#NONE}.
+     *
+     * @param listPadding The list padding
+     * @return this
+     *
+     * @since 3.50.0
+     */
+    @Beta
+    public SqlStatements setListPadding(ListPadding listPadding) {
+        this.listPadding = Objects.requireNonNull(listPadding, "listPadding is null");
+        return this;
+    }
+
     /**
      * When recording JFR events, the maximum length of rendered SQL to store in the event record.
      */
@@ -419,6 +504,27 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
     }
 
 
+    /**
+     * Parses a SQL template ahead of its first use and adds it to the template cache. The template is rendered with
+     * the attributes defined in this configuration and the rendered SQL is parsed by the {@link SqlParser}, which adds
+     * it to the cache of a {@link CachingSqlParser}. Templates that need statement specific attributes are only
+     * rendered when a statement is executed.
+     *
+     * @param template the SQL template
+     * @since 3.50.0
+     */
+    @Beta
+    public void warmTemplate(String template) {
+        final StatementContext ctx = StatementContext.createForWarmUp(registry);
+        try {
+            sqlParser.parse(preparedRender(template, ctx), ctx);
+        } catch (UnableToCreateStatementException e) {
+            // the template can not be rendered without statement attributes. It is rendered and parsed when
+            // a statement is executed, which also reports any error.
+            LOG.debug("Could not warm SQL template '{}'", template, e);
+        }
+    }
+
     void customize(Statement statement) throws SQLException {
         if (queryTimeout != null) {
             statement.setQueryTimeout(queryTimeout);
@@ -438,10 +544,14 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         return contextListeners;
     }
 
+    JdbiCache<ArgumentBinder.BindingPlanKey, ArgumentBinder.BindingPlan> getBindingPlanCache() {
+        return bindingPlanCache;
+    }
+
     String preparedRender(String template, StatementContext ctx) {
         try {
             return Optional.ofNullable(
-                            templateCache.getWithLoader(
+                            JfrCacheLookup.get(templateCache, JfrCacheLookup.TEMPLATE_CACHE,
                                     new StatementCacheKey(templateEngine, template),
                                     cacheLoaderFunction(ctx)))
                     .orElse(cx -> templateEngine.render(template, cx)) // fall-back to old behavior
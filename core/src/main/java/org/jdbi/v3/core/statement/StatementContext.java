@@ -21,15 +21,10 @@ import java.sql.ResultSet;
 import java.sql.Statement;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collector;
 
 import jakarta.annotation.Nullable;
@@ -69,11 +64,19 @@ import static java.util.Objects.requireNonNull;
  */
 public class StatementContext implements Closeable {
 
+    private static final Cleanable[] EMPTY_CLEANABLES = new Cleanable[0];
+    private static final int INITIAL_CLEANABLES_SIZE = 4;
+
     private final ConfigRegistry config;
     private final ExtensionMethod extensionMethod;
     private final Type jdbiStatementType;
 
-    private final Set<Cleanable> cleanables = new LinkedHashSet<>();
+    private final Collection<StatementContextListener> listeners;
+
+    // cleanables are kept in registration order and closed in reverse order. Most statements register
+    // only a handful of them, so a small array is cheaper than a set.
+    private Cleanable[] cleanables = EMPTY_CLEANABLES;
+    private int cleanableCount;
 
     private String rawSql;
     private String renderedSql;
@@ -98,10 +101,16 @@ public class StatementContext implements Closeable {
         return context;
     }
 
+    // a context that only renders and parses SQL ahead of time. It never executes a statement, so listeners are not notified.
+    static StatementContext createForWarmUp(final ConfigRegistry config) {
+        return new StatementContext(config, null, SqlStatement.class);
+    }
+
     private StatementContext(final ConfigRegistry config, final ExtensionMethod extensionMethod, final Type jdbiStatementType) {
         this.config = requireNonNull(config);
         this.extensionMethod = extensionMethod;
         this.jdbiStatementType = jdbiStatementType;
+        this.listeners = config.lookup(SqlStatements.class).getContextListeners();
     }
 
     /**
@@ -151,7 +160,7 @@ public class StatementContext implements Closeable {
      * @return the defined attributes.
      */
     public Map<String, Object> getAttributes() {
-        return getConfig(SqlStatements.class).getAttributes();
+        return config.lookup(SqlStatements.class).getAttributes();
     }
 
     /**
@@ -161,7 +170,7 @@ public class StatementContext implements Closeable {
      * @return the value of the attribute
      */
     public Object getAttribute(String key) {
-        return getConfig(SqlStatements.class).getAttribute(key);
+        return config.lookup(SqlStatements.class).getAttribute(key);
     }
 
     /**
@@ -171,7 +180,8 @@ public class StatementContext implements Closeable {
      * @param value the value for the attribute
      */
     public void define(String key, Object value) {
-        getConfig(SqlStatements.class).define(key, value);
+        // modifies the configuration, lookup() would change the attributes of every registry that shares them
+        config.get(SqlStatements.class).define(key, value);
     }
 
     /**
@@ -182,7 +192,7 @@ public class StatementContext implements Closeable {
      * @return an Argument for the given value.
      */
     public Optional<Argument> findArgumentFor(Type type, Object value) {
-        return getConfig(Arguments.class).findFor(type, value);
+        return config.lookup(Arguments.class).findFor(type, value);
     }
 
     /**
@@ -193,7 +203,7 @@ public class StatementContext implements Closeable {
      * @return an Argument for the given value.
      */
     public Optional<Argument> findArgumentFor(QualifiedType<?> type, Object value) {
-        return getConfig(Arguments.class).findFor(type, value);
+        return config.lookup(Arguments.class).findFor(type, value);
     }
 
     /**
@@ -202,7 +212,7 @@ public class StatementContext implements Closeable {
      * @return the strategy used to bind array-type arguments to SQL statements
      */
     public SqlArrayArgumentStrategy getSqlArrayArgumentStrategy() {
-        return getConfig(SqlArrayTypes.class).getArgumentStrategy();
+        return config.lookup(SqlArrayTypes.class).getArgumentStrategy();
     }
 
     /**
@@ -212,7 +222,7 @@ public class StatementContext implements Closeable {
      * @return an {@link SqlArrayType} for the given element type.
      */
     public Optional<SqlArrayType<?>> findSqlArrayTypeFor(Type elementType) {
-        return getConfig(SqlArrayTypes.class).findFor(elementType);
+        return config.lookup(SqlArrayTypes.class).findFor(elementType);
     }
 
     /**
@@ -224,7 +234,7 @@ public class StatementContext implements Closeable {
      * is registered for the given type.
      */
     public <T> Optional<RowMapper<T>> findMapperFor(Class<T> type) {
-        return getConfig(Mappers.class).findFor(type);
+        return config.lookup(Mappers.class).findFor(type);
     }
 
     /**
@@ -236,7 +246,7 @@ public class StatementContext implements Closeable {
      * is registered for the given type.
      */
     public <T> Optional<RowMapper<T>> findMapperFor(GenericType<T> type) {
-        return getConfig(Mappers.class).findFor(type);
+        return config.lookup(Mappers.class).findFor(type);
     }
 
     /**
@@ -247,7 +257,7 @@ public class StatementContext implements Closeable {
      * is registered for the given type.
      */
     public Optional<RowMapper<?>> findMapperFor(Type type) {
-        return getConfig(Mappers.class).findFor(type);
+        return config.lookup(Mappers.class).findFor(type);
     }
 
     /**
@@ -258,7 +268,7 @@ public class StatementContext implements Closeable {
      * is registered for the given type.
      */
     public <T> Optional<RowMapper<T>> findMapperFor(QualifiedType<T> type) {
-        return getConfig(Mappers.class).findFor(type);
+        return config.lookup(Mappers.class).findFor(type);
     }
 
     /**
@@ -269,7 +279,7 @@ public class StatementContext implements Closeable {
      * @return a ColumnMapper for the given type, or empty if no column mapper is registered for the given type.
      */
     public <T> Optional<ColumnMapper<T>> findColumnMapperFor(Class<T> type) {
-        return getConfig(ColumnMappers.class).findFor(type);
+        return config.lookup(ColumnMappers.class).findFor(type);
     }
 
     /**
@@ -280,7 +290,7 @@ public class StatementContext implements Closeable {
      * @return a ColumnMapper for the given type, or empty if no column mapper is registered for the given type.
      */
     public <T> Optional<ColumnMapper<T>> findColumnMapperFor(GenericType<T> type) {
-        return getConfig(ColumnMappers.class).findFor(type);
+        return config.lookup(ColumnMappers.class).findFor(type);
     }
 
     /**
@@ -290,7 +300,7 @@ public class StatementContext implements Closeable {
      * @return a ColumnMapper for the given type, or empty if no column mapper is registered for the given type.
      */
     public Optional<ColumnMapper<?>> findColumnMapperFor(Type type) {
-        return getConfig(ColumnMappers.class).findFor(type);
+        return config.lookup(ColumnMappers.class).findFor(type);
     }
 
     /**
@@ -300,7 +310,7 @@ public class StatementContext implements Closeable {
      * @return a ColumnMapper for the given type, or empty if no column mapper is registered for the given type.
      */
     public <T> Optional<ColumnMapper<T>> findColumnMapperFor(QualifiedType<T> type) {
-        return getConfig(ColumnMappers.class).findFor(type);
+        return config.lookup(ColumnMappers.class).findFor(type);
     }
 
     /**
@@ -310,7 +320,7 @@ public class StatementContext implements Closeable {
      * @return a RowMapper for the given type, or empty if no row mapper is registered for the given type.
      */
     public Optional<RowMapper<?>> findRowMapperFor(Type type) {
-        return getConfig(RowMappers.class).findFor(type);
+        return config.lookup(RowMappers.class).findFor(type);
     }
 
     /**
@@ -321,7 +331,7 @@ public class StatementContext implements Closeable {
      * @return a RowMapper for the given type, or empty if no row mapper is registered for the given type.
      */
     public <T> Optional<RowMapper<T>> findRowMapperFor(Class<T> type) {
-        return getConfig(RowMappers.class).findFor(type);
+        return config.lookup(RowMappers.class).findFor(type);
     }
 
     /**
@@ -332,7 +342,7 @@ public class StatementContext implements Closeable {
      * @return a RowMapper for the given type, or empty if no row mapper is registered for the given type.
      */
     public <T> Optional<RowMapper<T>> findRowMapperFor(GenericType<T> type) {
-        return getConfig(RowMappers.class).findFor(type);
+        return config.lookup(RowMappers.class).findFor(type);
     }
 
     /**
@@ -342,7 +352,7 @@ public class StatementContext implements Closeable {
      * @return a Collector for the given container type, or empty null if no collector is registered for the given type.
      */
     public Optional<Collector<?, ?, ?>> findCollectorFor(Type containerType) {
-        return getConfig(JdbiCollectors.class).findFor(containerType);
+        return config.lookup(JdbiCollectors.class).findFor(containerType);
     }
 
     /**
@@ -352,7 +362,7 @@ public class StatementContext implements Closeable {
      * @return the element type for the given container type, if available.
      */
     public Optional<Type> findElementTypeFor(Type containerType) {
-        return getConfig(JdbiCollectors.class).findElementTypeFor(containerType);
+        return config.lookup(JdbiCollectors.class).findElementTypeFor(containerType);
     }
 
     StatementContext setRawSql(String rawSql) {
@@ -620,45 +630,56 @@ public class StatementContext implements Closeable {
      * <p>
      * Resources cleaned up by Jdbi include {@link ResultSet}, {@link Statement}, {@link Handle},
      * {@link java.sql.Array}, and {@link StatementBuilder}.
+     * <p>
+     * A cleanable that is registered more than once is also invoked more than once.
      *
      * @param cleanable the Cleanable to clean on close
      */
     public void addCleanable(Cleanable cleanable) {
-
-        synchronized (cleanables) {
-            cleanables.add(cleanable);
+        synchronized (this) {
+            pushCleanable(cleanable);
         }
 
-        notifyCleanableAdded(cleanable);
+        if (!listeners.isEmpty()) {
+            notifyCleanableAdded(cleanable);
+        }
     }
 
     @Override
     public void close() {
 
         try {
-            List<Cleanable> cleanablesCopy;
+            Cleanable[] cleanablesToClose;
+            int count;
 
-            synchronized (cleanables) {
-                if (cleanables.isEmpty()) {
+            synchronized (this) {
+                if (cleanableCount == 0) {
                     return; // only notify that the context was cleaned.
                 }
 
-                cleanablesCopy = new ArrayList<>(cleanables);
-                cleanables.clear();
+                cleanablesToClose = cleanables;
+                count = cleanableCount;
+                cleanables = EMPTY_CLEANABLES;
+                cleanableCount = 0;
             }
 
-            Collections.reverse(cleanablesCopy);
-            cleanablesCopy.forEach(this::notifyCleanableRemoved);
+            if (!listeners.isEmpty()) {
+                for (int i = count - 1; i >= 0; i--) {
+                    notifyCleanableRemoved(cleanablesToClose[i]);
+                }
+            }
 
             ThrowableSuppressor throwableSuppressor = new ThrowableSuppressor();
 
-            for (Cleanable cleanable : cleanablesCopy) {
-                throwableSuppressor.suppressAppend(cleanable::close);
+            for (int i = count - 1; i >= 0; i--) {
+                throwableSuppressor.suppressAppend(cleanablesToClose[i]::close);
             }
 
             throwableSuppressor.throwIfNecessary(t -> new CloseException("Exception thrown while cleaning StatementContext", t));
         } finally {
-            notifyContextCleaned();
+            if (!listeners.isEmpty()) {
+                notifyContextCleaned();
+            }
         }
     }
 
@@ -667,32 +688,34 @@ public class StatementContext implements Closeable {
     }
 
     boolean isClean() {
-        synchronized (cleanables) {
-            return cleanables.isEmpty();
+        synchronized (this) {
+            return cleanableCount == 0;
         }
     }
 
-    private Collection<StatementContextListener> getListeners() {
-        return getConfig(SqlStatements.class).getContextListeners();
+    // must be called while holding the lock
+    private void pushCleanable(Cleanable cleanable) {
+        if (cleanableCount == cleanables.length) {
+            cleanables = Arrays.copyOf(cleanables, Math.max(INITIAL_CLEANABLES_SIZE, cleanableCount * 2));
+        }
+        cleanables[cleanableCount++] = cleanable;
     }
 
     private void notifyContextCreated() {
-        Collection<StatementContextListener> listeners = getListeners();
-        listeners.forEach(customizer -> customizer.contextCreated(this));
+        if (!listeners.isEmpty()) {
+            listeners.forEach(customizer -> customizer.contextCreated(this));
+        }
     }
 
     private void notifyContextCleaned() {
-        Collection<StatementContextListener> listeners = getListeners();
         listeners.forEach(customizer -> customizer.contextCleaned(this));
     }
 
     private void notifyCleanableRemoved(Cleanable cleanable) {
-        Collection<StatementContextListener> listeners = getListeners();
         listeners.forEach(customizer -> customizer.cleanableRemoved(this, cleanable));
     }
 
     private void notifyCleanableAdded(Cleanable cleanable) {
-        Collection<StatementContextListener> listeners = getListeners();
         listeners.forEach(customizer -> customizer.cleanableAdded(this, cleanable));
     }
 }
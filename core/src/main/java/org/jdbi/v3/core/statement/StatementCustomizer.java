@@ -28,6 +28,28 @@ public interface StatementCustomizer {
      */
     default void beforeTemplating(PreparedStatement stmt, StatementContext ctx) throws SQLException {}
 
+    /**
+     * Invoked after the TemplateEngine rendered the sql and prior to parsing the named parameters.
+     * The rendered sql is available from {@link StatementContext#getRenderedSql()}.
+     *
+     * @param stmt the statement we are about to parse
+     * @param ctx the context associated with the statement
+     * @throws SQLException go ahead and percolate it for Jdbi to handle
+     * @since 3.50.0
+     */
+    default void beforeParsing(PreparedStatement stmt, StatementContext ctx) throws SQLException {}
+
+    /**
+     * Invoked after the sql was parsed and prior to creating the {@link PreparedStatement} with the
+     * {@link StatementBuilder}. The parsed sql is available from {@link StatementContext#getParsedSql()}.
+     *
+     * @param stmt the statement from a previous execution, may be null
+     * @param ctx the context associated with the statement
+     * @throws SQLException go ahead and percolate it for Jdbi to handle
+     * @since 3.50.0
+     */
+    default void beforeStatementCreation(PreparedStatement stmt, StatementContext ctx) throws SQLException {}
+
     /**
      * Invoked prior to applying bound parameters to the {@link PreparedStatement}.
      *
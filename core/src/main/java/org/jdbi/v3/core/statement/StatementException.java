@@ -67,7 +67,7 @@ public abstract class StatementException extends JdbiException {
     @Override
     public String getMessage() {
         return Optional.ofNullable(getStatementContext())
-            .map(c -> c.getConfig(StatementExceptions.class).getMessageRendering())
+            .map(c -> c.getConfig().lookup(StatementExceptions.class).getMessageRendering())
             .orElse(MessageRendering.NONE)
             .apply(this);
     }
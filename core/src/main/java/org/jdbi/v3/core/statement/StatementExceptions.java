@@ -109,7 +109,7 @@ public class StatementExceptions implements JdbiConfig<StatementExceptions> {
         SHORT_STATEMENT {
             @Override
             public String render(StatementException exc, StatementContext ctx) {
-                final int limit = ctx.getConfig(StatementExceptions.class).getLengthLimit();
+                final int limit = ctx.getConfig().lookup(StatementExceptions.class).getLengthLimit();
                 return String.format("%s [statement:\"%s\", arguments:%s]",
                             exc.getShortMessage(),
                             limit(ctx.getRenderedSql(), limit),
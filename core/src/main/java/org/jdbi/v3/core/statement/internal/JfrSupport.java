@@ -15,12 +15,23 @@ package org.jdbi.v3.core.statement.internal;
 
 import java.lang.reflect.Method;
 
+import jdk.jfr.EventType;
+import org.jdbi.v3.core.JdbiHandleEvent;
+import org.jdbi.v3.core.extension.JdbiExtensionMethodEvent;
+import org.jdbi.v3.core.result.JdbiMappingEvent;
+import org.jdbi.v3.core.statement.JdbiCacheHitEvent;
+import org.jdbi.v3.core.statement.JdbiCacheMissEvent;
 import org.jdbi.v3.core.statement.JdbiStatementEvent;
+import org.jdbi.v3.core.transaction.JdbiTransactionEvent;
+import org.jdbi.v3.core.transaction.JdbiTransactionRetryEvent;
 
 public final class JfrSupport {
     private static final boolean JFR_AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
     private static final boolean FLIGHT_RECORDER_AVAILABLE;
 
+    // stateless, can be shared
+    private static final OptionalEvent NO_EVENT = new NoStatementEvent();
+
     private JfrSupport() {
         throw new AssertionError("JfrSupport can not be instantiated");
     }
@@ -37,6 +48,13 @@ public final class JfrSupport {
                 if (flightRecorderAvailable) {
                     Method register = flightRecorder.getMethod("register", Class.class);
                     register.invoke(null, JdbiStatementEvent.class);
+                    register.invoke(null, JdbiMappingEvent.class);
+                    register.invoke(null, JdbiHandleEvent.class);
+                    register.invoke(null, JdbiTransactionEvent.class);
+                    register.invoke(null, JdbiTransactionRetryEvent.class);
+                    register.invoke(null, JdbiCacheHitEvent.class);
+                    register.invoke(null, JdbiCacheMissEvent.class);
+                    register.invoke(null, JdbiExtensionMethodEvent.class);
                 }
             } catch (ReflectiveOperationException ignored) {}
         }
@@ -53,18 +71,87 @@ public final class JfrSupport {
     }
 
     public static OptionalEvent newStatementEvent() {
-        if (isFlightRecorderAvailable()) {
-            return Holder.newEvent();
-        } else {
-            return new NoStatementEvent();
-        }
+        return isFlightRecorderAvailable() ? Holder.newStatementEvent() : NO_EVENT;
+    }
+
+    public static OptionalEvent newMappingEvent() {
+        return isFlightRecorderAvailable() ? Holder.newMappingEvent() : NO_EVENT;
+    }
+
+    public static OptionalEvent newHandleEvent() {
+        return isFlightRecorderAvailable() ? Holder.newHandleEvent() : NO_EVENT;
+    }
+
+    public static OptionalEvent newTransactionEvent() {
+        return isFlightRecorderAvailable() ? Holder.newTransactionEvent() : NO_EVENT;
+    }
+
+    public static OptionalEvent newTransactionRetryEvent() {
+        return isFlightRecorderAvailable() ? Holder.newTransactionRetryEvent() : NO_EVENT;
+    }
+
+    public static OptionalEvent newCacheHitEvent() {
+        return isFlightRecorderAvailable() ? Holder.newCacheHitEvent() : NO_EVENT;
+    }
+
+    public static OptionalEvent newCacheMissEvent() {
+        return isFlightRecorderAvailable() ? Holder.newCacheMissEvent() : NO_EVENT;
+    }
+
+    public static OptionalEvent newExtensionMethodEvent() {
+        return isFlightRecorderAvailable() ? Holder.newExtensionMethodEvent() : NO_EVENT;
+    }
+
+    /**
+     * Returns true if a recording has enabled the cache hit or the cache miss event.
+     *
+     * @return true if cache lookups should record events
+     */
+    public static boolean isCacheEventEnabled() {
+        return isFlightRecorderAvailable() && Holder.isCacheEventEnabled();
     }
 
+    // keeps the jdk.jfr classes from loading unless the flight recorder is available
     private static final class Holder {
+        private static final EventType CACHE_HIT_EVENT_TYPE = EventType.getEventType(JdbiCacheHitEvent.class);
+        private static final EventType CACHE_MISS_EVENT_TYPE = EventType.getEventType(JdbiCacheMissEvent.class);
+
         private Holder() {}
 
-        public static OptionalEvent newEvent() {
+        static boolean isCacheEventEnabled() {
+            return CACHE_HIT_EVENT_TYPE.isEnabled() || CACHE_MISS_EVENT_TYPE.isEnabled();
+        }
+
+        static OptionalEvent newStatementEvent() {
             return new JdbiStatementEvent();
         }
+
+        static OptionalEvent newMappingEvent() {
+            return new JdbiMappingEvent();
+        }
+
+        static OptionalEvent newHandleEvent() {
+            return new JdbiHandleEvent();
+        }
+
+        static OptionalEvent newTransactionEvent() {
+            return new JdbiTransactionEvent();
+        }
+
+        static OptionalEvent newTransactionRetryEvent() {
+            return new JdbiTransactionRetryEvent();
+        }
+
+        static OptionalEvent newCacheHitEvent() {
+            return new JdbiCacheHitEvent();
+        }
+
+        static OptionalEvent newCacheMissEvent() {
+            return new JdbiCacheMissEvent();
+        }
+
+        static OptionalEvent newExtensionMethodEvent() {
+            return new JdbiExtensionMethodEvent();
+        }
     }
 }
@@ -21,4 +21,9 @@ class NoStatementEvent implements OptionalEvent {
     public boolean shouldCommit() {
         return false;
     }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
 }
@@ -22,4 +22,8 @@ public interface OptionalEvent {
      * @see jdk.jfr.Event#shouldCommit()
      */
     boolean shouldCommit();
+    /**
+     * @see jdk.jfr.Event#isEnabled()
+     */
+    boolean isEnabled();
 }
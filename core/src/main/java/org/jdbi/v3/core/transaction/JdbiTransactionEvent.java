@@ -0,0 +1,38 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.transaction;
+
+import jdk.jfr.Label;
+import org.jdbi.v3.core.statement.internal.OptionalEvent;
+
+@jdk.jfr.Category("jdbi")
+@jdk.jfr.Name(JdbiTransactionEvent.NAME)
+@Label("Jdbi Transaction")
+@jdk.jfr.Description("A local transaction from begin to commit or rollback.")
+public final class JdbiTransactionEvent extends jdk.jfr.Event implements OptionalEvent {
+    public static final String NAME = "jdbi.transaction";
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Isolation level")
+    public String isolationLevel;
+
+    static void commit(OptionalEvent transactionEvent, String outcome, TransactionIsolationLevel isolationLevel) {
+        final var evt = (JdbiTransactionEvent) transactionEvent;
+        evt.outcome = outcome;
+        evt.isolationLevel = isolationLevel.name();
+        evt.commit();
+    }
+}
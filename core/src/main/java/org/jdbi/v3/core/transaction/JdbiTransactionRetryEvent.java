@@ -0,0 +1,43 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.transaction;
+
+import jdk.jfr.Label;
+import org.jdbi.v3.core.statement.internal.OptionalEvent;
+
+@jdk.jfr.Category("jdbi")
+@jdk.jfr.Name(JdbiTransactionRetryEvent.NAME)
+@Label("Jdbi Transaction Retry")
+@jdk.jfr.Description("A transaction attempt that failed with a serialization failure. The duration is the time spent in the failed attempt.")
+public final class JdbiTransactionRetryEvent extends jdk.jfr.Event implements OptionalEvent {
+    public static final String NAME = "jdbi.transactionRetry";
+
+    @Label("Attempt")
+    public int attempt;
+
+    @Label("Retried")
+    @jdk.jfr.Description("False if no attempts are left and the failure is rethrown.")
+    public boolean retried;
+
+    @Label("SQL state")
+    public String sqlState;
+
+    static void commit(OptionalEvent retryEvent, int attempt, boolean retried, String sqlState) {
+        final var evt = (JdbiTransactionRetryEvent) retryEvent;
+        evt.attempt = attempt;
+        evt.retried = retried;
+        evt.sqlState = sqlState;
+        evt.commit();
+    }
+}
@@ -24,6 +24,8 @@ import java.util.WeakHashMap;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.HandleCallback;
 import org.jdbi.v3.core.internal.exceptions.Unchecked;
+import org.jdbi.v3.core.statement.internal.JfrSupport;
+import org.jdbi.v3.core.statement.internal.OptionalEvent;
 
 /**
  * This <code>TransactionHandler</code> uses local JDBC transactions
@@ -110,6 +112,7 @@ public class LocalTransactionHandler implements TransactionHandler {
         private final Map<String, Savepoint> savepoints = new HashMap<>();
         private boolean initialAutocommit;
         private State handlerState;
+        private OptionalEvent transactionEvent;
 
         BoundLocalTransactionHandler(Handle handle) throws SQLException {
             this.initialAutocommit = handle.getConnection().getAutoCommit();
@@ -125,6 +128,8 @@ public class LocalTransactionHandler implements TransactionHandler {
                     savepoints.clear();
                     conn.setAutoCommit(false);
                     handlerState = State.AFTER_BEGIN;
+                    transactionEvent = JfrSupport.newTransactionEvent();
+                    transactionEvent.begin();
                 }
             } catch (SQLException e) {
                 throw new TransactionException("Failed to start transaction", e);
@@ -136,6 +141,7 @@ public class LocalTransactionHandler implements TransactionHandler {
             try {
                 if (handlerState != State.OUTSIDE_TRANSACTION) {
                     handle.getConnection().commit();
+                    commitTransactionEvent(handle, "commit");
                 }
                 handlerState = getInitialHandlerState();
                 restoreAutoCommitState(handle);
@@ -155,6 +161,7 @@ public class LocalTransactionHandler implements TransactionHandler {
             try {
                 if (handlerState != State.OUTSIDE_TRANSACTION) {
                     handle.getConnection().rollback();
+                    commitTransactionEvent(handle, "rollback");
                 }
             } catch (SQLException e) {
                 throw new TransactionException("Failed to rollback transaction", e);
@@ -278,6 +285,20 @@ public class LocalTransactionHandler implements TransactionHandler {
             }
         }
 
+        private void commitTransactionEvent(Handle handle, String outcome) {
+            final OptionalEvent evt = transactionEvent;
+            transactionEvent = null;
+            if (evt != null && evt.shouldCommit()) {
+                TransactionIsolationLevel isolationLevel;
+                try {
+                    isolationLevel = TransactionIsolationLevel.valueOf(handle.getConnection().getTransactionIsolation());
+                } catch (SQLException e) {
+                    isolationLevel = TransactionIsolationLevel.UNKNOWN;
+                }
+                JdbiTransactionEvent.commit(evt, outcome, isolationLevel);
+            }
+        }
+
         private State getInitialHandlerState() {
             return initialAutocommit ? State.OUTSIDE_TRANSACTION : State.AFTER_BEGIN;
         }
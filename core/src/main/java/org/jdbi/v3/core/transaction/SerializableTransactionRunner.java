@@ -25,6 +25,8 @@ import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.HandleCallback;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.core.statement.internal.JfrSupport;
+import org.jdbi.v3.core.statement.internal.OptionalEvent;
 
 /**
  * A TransactionHandler that automatically retries transactions that fail due to
@@ -48,11 +50,13 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
     @SuppressWarnings("PMD.PreserveStackTrace")
     public <R, X extends Exception> R inTransaction(Handle handle,
                                                     HandleCallback<R, X> callback) throws X {
-        final Configuration config = handle.getConfig(Configuration.class);
+        final Configuration config = handle.getConfig().lookup(Configuration.class);
         int attempts = 1 + config.maxRetries;
 
         Deque<Exception> failures = new ArrayDeque<>();
         while (true) {
+            final OptionalEvent retryEvent = JfrSupport.newTransactionRetryEvent();
+            retryEvent.begin();
             try {
                 R result = getDelegate().inTransaction(handle, callback);
                 config.onSuccess.accept(new ArrayList<>(failures));
@@ -68,6 +72,9 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
 
                 // no more attempts left? Throw ALL the exceptions! \o/
                 attempts -= 1;
+                if (retryEvent.shouldCommit()) {
+                    JdbiTransactionRetryEvent.commit(retryEvent, failures.size(), attempts > 0, config.serializationFailureSqlState);
+                }
                 if (attempts <= 0) {
                     Exception toThrow = failures.removeLast();
                     while (!failures.isEmpty()) {
@@ -0,0 +1,160 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.async;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.HandleListener;
+import org.jdbi.v3.core.Handles;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BulkLoaderTest {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(H2DatabaseExtension.SOMETHING_INITIALIZER);
+
+    private Jdbi jdbi;
+
+    @BeforeEach
+    void setup() {
+        jdbi = h2Extension.getJdbi();
+    }
+
+    @Test
+    void testLoadBeans() {
+        BulkLoadResult result = jdbi.bulkLoader("insert into something (id, name) values (:id, :name)")
+            .chunkSize(10)
+            .parallelism(3)
+            .load(IntStream.range(0, 95).mapToObj(i -> new Something(i, "name" + i)));
+
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(result.getChunks()).hasSize(10);
+        assertThat(result.getRowCount()).isEqualTo(95);
+        assertThat(result.getTotalModCount()).isEqualTo(95);
+
+        BulkLoadResult.ChunkResult last = result.getChunks().get(9);
+        assertThat(last.getIndex()).isEqualTo(9);
+        assertThat(last.getRowOffset()).isEqualTo(90);
+        assertThat(last.getRowCount()).isEqualTo(5);
+        assertThat(last.getModCounts()).containsExactly(1, 1, 1, 1, 1);
+
+        assertThat(count()).isEqualTo(95);
+    }
+
+    @Test
+    void testLoadMapsAndArrays() {
+        BulkLoadResult result = jdbi.bulkLoader("insert into something (id, name) values (:id, :name)")
+            .chunkSize(2)
+            .load(List.of(Map.of("id", 1, "name", "one"), Map.of("id", 2, "name", "two"), Map.of("id", 3, "name", "three")).iterator());
+        assertThat(result.isSuccessful()).isTrue();
+
+        result = jdbi.bulkLoader("insert into something (id, name) values (?, ?)")
+            .chunkSize(2)
+            .load(List.of(new Object[] {4, "four"}, new Object[] {5, "five"}).iterator());
+        assertThat(result.isSuccessful()).isTrue();
+
+        List<String> names = jdbi.withHandle(h -> h.createQuery("select name from something order by id").mapTo(String.class).list());
+        assertThat(names).containsExactly("one", "two", "three", "four", "five");
+    }
+
+    @Test
+    void testChunkFailureIsRolledBack() {
+        // row 15 violates the primary key, the chunk with rows 10..19 is rolled back
+        BulkLoadResult result = jdbi.bulkLoader("insert into something (id, name) values (:id, :name)")
+            .chunkSize(10)
+            .load(IntStream.range(0, 30).mapToObj(i -> new Something(i == 15 ? 14 : i, "name" + i)));
+
+        assertThat(result.isSuccessful()).isFalse();
+        assertThat(result.getFailures()).hasSize(1)
+            .first()
+            .satisfies(chunk -> {
+                assertThat(chunk.getIndex()).isOne();
+                assertThat(chunk.getModCounts()).isEmpty();
+                assertThat(chunk.getFailure()).containsInstanceOf(UnableToExecuteStatementException.class);
+            });
+        assertThat(result.getTotalModCount()).isEqualTo(20);
+
+        assertThat(count()).isEqualTo(20);
+    }
+
+    @Test
+    void testFailFast() {
+        BulkLoadResult result = jdbi.bulkLoader("insert into something (id, name) values (:id, :name)")
+            .chunkSize(10)
+            .parallelism(1)
+            .failFast(true)
+            .load(IntStream.range(0, 100).mapToObj(i -> new Something(i == 5 ? 4 : i, "name" + i)));
+
+        assertThat(result.getChunks()).hasSizeLessThan(10);
+        assertThat(result.getFailures()).hasSize(1);
+    }
+
+    @Test
+    void testBackpressure() {
+        AtomicInteger openHandles = new AtomicInteger();
+        AtomicInteger maxOpenHandles = new AtomicInteger();
+
+        jdbi.getConfig(Handles.class).addListener(new HandleListener() {
+            @Override
+            public void handleCreated(Handle handle) {
+                maxOpenHandles.accumulateAndGet(openHandles.incrementAndGet(), Math::max);
+            }
+
+            @Override
+            public void handleClosed(Handle handle) {
+                openHandles.decrementAndGet();
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            BulkLoadResult result = jdbi.bulkLoader("insert into something (id, name) values (:id, :name)")
+                .chunkSize(5)
+                .parallelism(2)
+                .executor(executor)
+                .load(IntStream.range(0, 100).mapToObj(i -> new Something(i, "name" + i)));
+            assertThat(result.isSuccessful()).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(maxOpenHandles.get()).isBetween(1, 2);
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        BulkLoader loader = jdbi.bulkLoader("insert into something (id, name) values (:id, :name)");
+        assertThatThrownBy(() -> loader.chunkSize(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> loader.parallelism(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private int count() {
+        return jdbi.withHandle(h -> h.createQuery("select count(*) from something").mapTo(int.class).one());
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.async;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.HandleScope;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class VirtualThreadJdbiExecutorTest {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(H2DatabaseExtension.USERS_INITIALIZER);
+
+    private Jdbi jdbi;
+
+    @BeforeEach
+    void setup() {
+        jdbi = h2Extension.getJdbi();
+        jdbi.setHandleScope(HandleScope.threadKeyed());
+    }
+
+    @Test
+    void testConnectionLimit() throws Exception {
+        // platform threads stand in for virtual threads, the gating does not depend on the thread type
+        VirtualThreadJdbiExecutor executor = new VirtualThreadJdbiExecutor(jdbi, Executors.defaultThreadFactory(), 2);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(executor.withHandle(handle -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                    return handle.createQuery("select count(*) from users").mapTo(int.class).one();
+                } finally {
+                    running.decrementAndGet();
+                }
+            }).toCompletableFuture());
+        }
+
+        // wait until all callbacks either hold or wait for a permit
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (executor.getQueueLength() < 8 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(executor.getQueueLength()).isEqualTo(8);
+        assertThat(running).hasValue(2);
+
+        release.countDown();
+
+        for (CompletableFuture<Integer> future : futures) {
+            assertThat(future).succeedsWithin(Duration.ofSeconds(10)).isEqualTo(2);
+        }
+        assertThat(maxRunning).hasValue(2);
+    }
+
+    @Test
+    void testException() {
+        VirtualThreadJdbiExecutor executor = new VirtualThreadJdbiExecutor(jdbi, Executors.defaultThreadFactory(), 1);
+
+        assertThat(executor.useHandle(handle -> {
+            throw new IllegalStateException("boom");
+        }))
+            .failsWithin(Duration.ofSeconds(10))
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(IllegalStateException.class);
+
+        // the permit was released
+        assertThat(executor.withHandle(handle -> 1)).succeedsWithin(Duration.ofSeconds(10)).isEqualTo(1);
+    }
+
+    @Test
+    void testNestedHandleScope() {
+        VirtualThreadJdbiExecutor executor = new VirtualThreadJdbiExecutor(jdbi, Executors.defaultThreadFactory(), 1);
+
+        // a nested call on the same thread reuses the handle of the outer call instead of waiting for a second connection
+        assertThat(executor.withHandle(outer -> jdbi.withHandle(inner -> inner == outer)))
+            .succeedsWithin(Duration.ofSeconds(10))
+            .isEqualTo(true);
+
+        assertThat(jdbi.getHandleScope().get()).isNull();
+    }
+
+    @Test
+    void testThreadKeyedScope() {
+        HandleScope scope = HandleScope.threadKeyed();
+        Handle handle = h2Extension.getSharedHandle();
+
+        scope.set(handle);
+        assertThat(scope.get().getHandle()).isSameAs(handle);
+
+        CompletableFuture<Object> otherThread = CompletableFuture.supplyAsync(scope::get);
+        assertThat(otherThread).succeedsWithin(Duration.ofSeconds(10)).isNull();
+
+        scope.clear();
+        assertThat(scope.get()).isNull();
+    }
+
+    @Test
+    void testInvalidLimit() {
+        assertThatThrownBy(() -> new VirtualThreadJdbiExecutor(jdbi, Executors.defaultThreadFactory(), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testCreateVirtual() {
+        if (Runtime.version().feature() >= 21) {
+            JdbiExecutor executor = JdbiExecutor.createVirtual(jdbi, 4);
+            assertThat(executor.withHandle(handle -> Thread.currentThread().getName()))
+                .succeedsWithin(Duration.ofSeconds(10))
+                .asString()
+                .startsWith("jdbi-virtual-");
+        } else {
+            assertThatThrownBy(() -> JdbiExecutor.createVirtual(jdbi, 4))
+                .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.cache.internal;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.cache.JdbiCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StripedJdbiCacheTest extends JdbiCacheTest {
+
+    @BeforeEach
+    @Override
+    void beforeEach() {
+        this.builder = StripedJdbiCacheBuilder.builder();
+    }
+
+    @Test
+    void testGetWithoutLoader() {
+        JdbiCache<String, String> cache = builder.build();
+
+        String key = UUID.randomUUID().toString();
+        assertThat(cache.get(key)).isNull();
+
+        String value = cache.getWithLoader(key, cacheLoader);
+        assertThat(cache.get(key)).isEqualTo(value);
+        assertThat(cacheLoader.created()).isOne();
+    }
+
+    @Test
+    void testBoundedSize() {
+        int size = 100;
+        JdbiCache<String, String> cache = StripedJdbiCacheBuilder.builder().stripes(8).maxSize(size).buildWithLoader(cacheLoader);
+
+        for (int i = 0; i < size * 10; i++) {
+            cache.get(i + "K_" + UUID.randomUUID());
+        }
+
+        DefaultJdbiCacheStats stats = cache.getStats();
+        assertThat(stats.maxSize()).isEqualTo(size);
+        assertThat(stats.cacheSize()).isLessThanOrEqualTo(size);
+        assertThat(cacheLoader.created()).isEqualTo(size * 10);
+    }
+
+    @Test
+    void testSecondChanceExpunge() {
+        int size = 10;
+        // a single stripe makes the eviction order deterministic
+        JdbiCache<String, String> cache = StripedJdbiCacheBuilder.builder().stripes(1).maxSize(size).buildWithLoader(cacheLoader);
+
+        String[] keys = new String[size + size / 2];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i + "K_" + UUID.randomUUID();
+        }
+
+        // fill the cache, then reference the first half of the keys.
+        for (int i = 0; i < size; i++) {
+            cache.get(keys[i]);
+        }
+        for (int i = 0; i < size / 2; i++) {
+            cache.get(keys[i]);
+        }
+        assertThat(cacheLoader.created()).isEqualTo(size);
+
+        // adding new keys evicts the unreferenced keys 5..9
+        for (int i = size; i < keys.length; i++) {
+            cache.get(keys[i]);
+        }
+        assertThat(cacheLoader.created()).isEqualTo(keys.length);
+
+        DefaultJdbiCacheStats stats = cache.getStats();
+        assertThat(stats.cacheSize()).isEqualTo(size);
+
+        // 0..4 and 10..14 are still cached
+        for (int i = 0; i < size / 2; i++) {
+            cache.get(keys[i]);
+            cache.get(keys[size + i]);
+        }
+        assertThat(cacheLoader.created()).isEqualTo(keys.length);
+
+        // 5..9 were evicted
+        for (int i = size / 2; i < size; i++) {
+            int creations = cacheLoader.created();
+            cache.get(keys[i]);
+            assertThat(cacheLoader.created()).isEqualTo(creations + 1);
+        }
+    }
+
+    @Test
+    void testConcurrentLoad() throws Exception {
+        int threads = 8;
+        int size = 64;
+        JdbiCache<Integer, Integer> cache = StripedJdbiCacheBuilder.builder().maxSize(size).buildWithLoader(key -> key);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Future<?>[] futures = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                futures[t] = executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 10_000; i++) {
+                        int key = i % (size * 2);
+                        assertThat(cache.get(key)).isEqualTo(key);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        DefaultJdbiCacheStats stats = cache.getStats();
+        assertThat(stats.cacheSize()).isLessThanOrEqualTo(size);
+    }
+
+    @Test
+    void testInvalidStripes() {
+        assertThatThrownBy(() -> StripedJdbiCacheBuilder.builder().stripes(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
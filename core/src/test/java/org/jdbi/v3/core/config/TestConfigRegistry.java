@@ -16,11 +16,15 @@ package org.jdbi.v3.core.config;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
 
+import org.jdbi.v3.core.mapper.Mappers;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.mapper.RowMappers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -145,8 +149,8 @@ public class TestConfigRegistry {
         TestConfig child1Config = child1.get(TestConfig.class);
         validateSingleConfig(child1Config);
 
-        parentConfig.addList("list2");
-        parentConfig.addSet("set2");
+        parent.get(TestConfig.class).addList("list2");
+        parent.get(TestConfig.class).addSet("set2");
 
         child2 = parent.createCopy();
         TestConfig child2Config = child2.get(TestConfig.class);
@@ -163,6 +167,76 @@ public class TestConfigRegistry {
         validateDoubleConfig(child2Config);
     }
 
+    @Test
+    public void testLookupSharesConfigWithCopy() {
+        child1 = parent.createCopy();
+        child2 = parent.createCopy();
+
+        assertThat(child1.lookup(TestConfig.class)).isNotSameAs(parent.lookup(TestConfig.class));
+        assertThat(child1.lookup(TestConfig.class)).isSameAs(child2.lookup(TestConfig.class));
+        assertThat(child1.lookup(RowMappers.class)).isSameAs(child2.lookup(RowMappers.class));
+
+        grandchild1 = child1.createCopy();
+        assertThat(grandchild1.lookup(TestConfig.class)).isSameAs(child1.lookup(TestConfig.class));
+    }
+
+    @Test
+    public void testKeptConfigIsNotSharedWithCopy() {
+        child1 = parent.createCopy();
+
+        parentConfig.addList("list2");
+        parentConfig.addSet("set2");
+
+        validateDoubleConfig(parent.lookup(TestConfig.class));
+        validateSingleConfig(child1.lookup(TestConfig.class));
+
+        parent.get(TestConfig.class);
+        child2 = parent.createCopy();
+
+        validateSingleConfig(child1.lookup(TestConfig.class));
+        validateDoubleConfig(child2.lookup(TestConfig.class));
+    }
+
+    @Test
+    public void testGetCopiesSharedConfig() {
+        child1 = parent.createCopy();
+        child2 = parent.createCopy();
+
+        TestConfig child1Config = child1.get(TestConfig.class);
+        assertThat(child1Config).isNotSameAs(child2.lookup(TestConfig.class));
+        assertThat(child1.lookup(TestConfig.class)).isSameAs(child1Config);
+
+        child1Config.addList("list2");
+        child1Config.addSet("set2");
+
+        validateDoubleConfig(child1Config);
+        validateSingleConfig(parent.lookup(TestConfig.class));
+        validateSingleConfig(child2.lookup(TestConfig.class));
+    }
+
+    @Test
+    public void testModifyParentAfterLazyCopy() {
+        child1 = parent.createCopy();
+
+        parent.get(TestConfig.class).addList("list2");
+        parent.get(TestConfig.class).addSet("set2");
+
+        validateDoubleConfig(parent.lookup(TestConfig.class));
+        validateSingleConfig(child1.lookup(TestConfig.class));
+        validateSingleConfig(child1.get(TestConfig.class));
+    }
+
+    @Test
+    public void testCopiedConfigsUseTheirRegistry() {
+        child1 = parent.createCopy();
+
+        RowMapper<String> mapper = (rs, ctx) -> "child";
+        child1.get(RowMappers.class).register(String.class, mapper);
+
+        assertThat(child1.lookup(Mappers.class).findFor(String.class)).containsSame(mapper);
+        assertThat(parent.lookup(Mappers.class).findFor(String.class)).isNotEqualTo(Optional.of(mapper));
+    }
+
     private static void validateSingleConfig(TestConfig config) {
         assertThat(config.getList())
                 .hasSize(1)
@@ -13,6 +13,8 @@
  */
 package org.jdbi.v3.core.extension;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 
@@ -24,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class TestDefaultExtensionMethods {
 
@@ -79,6 +82,48 @@ public class TestDefaultExtensionMethods {
         assertThat(fm.testFinalize()).isEqualTo("a ok");
     }
 
+    @Test
+    public void testDefaultMethodArguments() {
+        ArgumentsInterface dmo = handle.attach(ArgumentsInterface.class);
+
+        assertThat(dmo.add(1, 2L)).isEqualTo(3L);
+        assertThat(dmo.join("-", "a", "b", "c")).isEqualTo("a-b-c");
+        assertThat(dmo.join("-")).isEmpty();
+        assertThatThrownBy(dmo::fail)
+            .isInstanceOf(UncheckedIOException.class)
+            .hasCauseInstanceOf(IOException.class)
+            .hasRootCauseMessage("fail");
+    }
+
+    @Test
+    public void testRedeclaredObjectMethod() {
+        ToStringInterface dmo = handle.attach(ToStringInterface.class);
+        assertThat(dmo.toString()).isEqualTo("foo");
+    }
+
+    public interface ArgumentsInterface {
+        @ForTest
+        void testMethod();
+
+        default long add(int a, long b) {
+            return a + b;
+        }
+
+        default String join(String separator, String... values) {
+            return String.join(separator, values);
+        }
+
+        default void fail() throws IOException {
+            throw new IOException("fail");
+        }
+    }
+
+    public interface ToStringInterface {
+        @ForTest
+        @Override
+        String toString();
+    }
+
     public interface DefaultMethodInterface {
         @ForTest
         void testMethod();
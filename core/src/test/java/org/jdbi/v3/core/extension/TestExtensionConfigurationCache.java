@@ -0,0 +1,215 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.extension;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.extension.annotation.UseExtensionConfigurer;
+import org.jdbi.v3.core.extension.annotation.UseExtensionHandler;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestExtensionConfigurationCache {
+
+    private static final AtomicInteger CONFIGURE_COUNT = new AtomicInteger();
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance();
+
+    private Jdbi jdbi;
+
+    @BeforeEach
+    public void setUp() {
+        jdbi = h2Extension.getJdbi();
+        jdbi.registerExtension(new ExtensionFrameworkTestFactory());
+        CONFIGURE_COUNT.set(0);
+    }
+
+    @Test
+    public void testAttachReusesMethodConfiguration() {
+        for (int i = 0; i < 3; i++) {
+            try (Handle handle = jdbi.open()) {
+                assertThat(handle.attach(Dao.class).method()).isEqualTo("method");
+            }
+        }
+
+        assertThat(CONFIGURE_COUNT).hasValue(1);
+    }
+
+    @Test
+    public void testWithHandleReusesMethodConfiguration() {
+        for (int i = 0; i < 3; i++) {
+            String value = jdbi.withHandle(handle -> {
+                assertThat(handle.getConfig().isShared()).isTrue();
+                return handle.attach(Dao.class).method();
+            });
+            assertThat(value).isEqualTo("method");
+        }
+
+        assertThat(CONFIGURE_COUNT).hasValue(1);
+    }
+
+    @Test
+    public void testCallbacksReuseMethodConfiguration() {
+        String withHandle = jdbi.withHandle(handle -> handle.attach(Dao.class).method());
+        assertThat(withHandle).isEqualTo("method");
+
+        jdbi.useExtension(Dao.class, dao -> assertThat(dao.method()).isEqualTo("method"));
+
+        String withExtension = jdbi.withExtension(Dao.class, Dao::method);
+        assertThat(withExtension).isEqualTo("method");
+
+        String inTransaction = jdbi.inTransaction(handle -> handle.attach(Dao.class).method());
+        assertThat(inTransaction).isEqualTo("method");
+
+        jdbi.useTransaction(handle -> assertThat(handle.attach(Dao.class).method()).isEqualTo("method"));
+
+        assertThat(CONFIGURE_COUNT).hasValue(1);
+    }
+
+    @Test
+    public void testModifiedHandleIsNotCached() {
+        try (Handle handle = jdbi.open()) {
+            assertThat(handle.attach(Dao.class).method()).isEqualTo("method");
+        }
+
+        try (Handle handle = jdbi.open()) {
+            handle.define("handle", true);
+            assertThat(handle.attach(Dao.class).method()).isEqualTo("method");
+        }
+
+        assertThat(CONFIGURE_COUNT).hasValue(2);
+    }
+
+    @Test
+    public void testModifiedJdbiConfigurationIsApplied() {
+        try (Handle handle = jdbi.open()) {
+            assertThat(handle.attach(Dao.class).method()).isEqualTo("method");
+        }
+
+        jdbi.define("prefix", "changed-");
+
+        try (Handle handle = jdbi.open()) {
+            assertThat(handle.attach(Dao.class).method()).isEqualTo("changed-method");
+        }
+
+        assertThat(CONFIGURE_COUNT).hasValue(2);
+    }
+
+    @Test
+    public void testKeptConfigDoesNotChangeCachedConfiguration() {
+        SqlStatements statements = jdbi.getConfig(SqlStatements.class);
+
+        try (Handle handle = jdbi.open()) {
+            assertThat(handle.attach(Dao.class).method()).isEqualTo("method");
+        }
+
+        // the kept object belongs to the Jdbi, the cached configurations belong to the snapshot that the handles share
+        statements.define("prefix", "kept-");
+
+        try (Handle handle = jdbi.open()) {
+            assertThat(handle.getConfig().isShared()).isTrue();
+            assertThat(handle.getConfig().lookup(SqlStatements.class).getAttribute("prefix")).isNull();
+            assertThat(handle.attach(Dao.class).method()).isEqualTo("method");
+        }
+
+        assertThat(CONFIGURE_COUNT).hasValue(1);
+    }
+
+    @Test
+    public void testMethodConfigurationIsNotShared() {
+        try (Handle handle = jdbi.open()) {
+            Dao dao = handle.attach(Dao.class);
+            dao.defineInMethod();
+            assertThat(dao.defineInMethod()).isEqualTo(2);
+        }
+
+        try (Handle handle = jdbi.open()) {
+            assertThat(handle.attach(Dao.class).defineInMethod()).isEqualTo(1);
+        }
+    }
+
+    public interface Dao {
+
+        @Configured
+        @ReturnAttribute
+        String method();
+
+        @DefineInMethod
+        int defineInMethod();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.METHOD})
+    @UseExtensionConfigurer(Configured.Impl.class)
+    public @interface Configured {
+
+        class Impl implements ExtensionConfigurer {
+
+            @Override
+            public void configureForMethod(ConfigRegistry config, Annotation annotation, Class<?> extensionType, Method method) {
+                CONFIGURE_COUNT.incrementAndGet();
+                config.get(SqlStatements.class).define("method", method.getName());
+            }
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.METHOD})
+    @UseExtensionHandler(id = "test", value = ReturnAttribute.Impl.class)
+    public @interface ReturnAttribute {
+
+        class Impl implements ExtensionHandler {
+
+            @Override
+            public Object invoke(HandleSupplier handleSupplier, Object target, Object... args) {
+                SqlStatements sqlStatements = handleSupplier.getConfig().lookup(SqlStatements.class);
+                return Objects.toString(sqlStatements.getAttribute("prefix"), "") + sqlStatements.getAttribute("method");
+            }
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.METHOD})
+    @UseExtensionHandler(id = "test", value = DefineInMethod.Impl.class)
+    public @interface DefineInMethod {
+
+        class Impl implements ExtensionHandler {
+
+            @Override
+            public Object invoke(HandleSupplier handleSupplier, Object target, Object... args) {
+                SqlStatements sqlStatements = handleSupplier.getConfig().get(SqlStatements.class);
+                Integer count = (Integer) sqlStatements.getAttribute("count");
+                int next = count == null ? 1 : count + 1;
+                sqlStatements.define("count", next);
+                return next;
+            }
+        }
+    }
+}
@@ -66,4 +66,25 @@ public class PrimitiveMapperFactoryTest {
 
         assertThat(value).isNull();
     }
+
+    @Test
+    public void primitiveSpecializedMappers() {
+        ColumnMappers mappers = h2Extension.getJdbi().getConfig(ColumnMappers.class);
+
+        assertThat(mappers.findFor(int.class)).containsInstanceOf(IntColumnMapper.class);
+        assertThat(mappers.findFor(long.class)).containsInstanceOf(LongColumnMapper.class);
+        assertThat(mappers.findFor(double.class)).containsInstanceOf(DoubleColumnMapper.class);
+    }
+
+    @Test
+    public void forbidNullPrimitivesSpecialized() {
+        assertThatThrownBy(() -> h2Extension.getJdbi().withHandle(h ->
+            h.configure(ColumnMappers.class, mappers -> mappers.setCoalesceNullPrimitivesToDefaults(false))
+                .createQuery("select null as foo")
+                .mapTo(long.class)
+                .one()
+        ))
+            .isInstanceOf(UnableToProduceResultException.class)
+            .hasMessageContaining("column 1 (FOO)");
+    }
 }
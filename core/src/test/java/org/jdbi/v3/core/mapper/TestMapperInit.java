@@ -79,8 +79,8 @@ public class TestMapperInit {
                 .mapTo(StringValue.class)
                 .list();
 
-            // has been called once
-            assertThat(mapper.getInitializedCount()).isEqualTo(2);
+            // not called again, the statements share the configuration of the handle
+            assertThat(mapper.getInitializedCount()).isOne();
 
             // has been called for every row (mapper gets reused)
             assertThat(value.size() * 2).isEqualTo(mapper.getMappedCount());
@@ -98,12 +98,22 @@ public class TestMapperInit {
                 .mapTo(StringValue.class)
                 .list();
 
-            // called again for the statement
-            assertThat(mapper.getInitializedCount()).isEqualTo(3);
+            // not called again, the handle shares the configuration of the Jdbi object
+            assertThat(mapper.getInitializedCount()).isOne();
 
             // has been called for every row again (mapper gets reused)
             assertThat(value.size() * 3).isEqualTo(mapper.getMappedCount());
         });
+
+        // a handle with modified mappers initializes the mapper again
+        jdbi.useHandle(h -> {
+            h.registerColumnMapper(StringValue.class, mapper);
+            h.createQuery("SELECT string_value FROM column_mappers")
+                .mapTo(StringValue.class)
+                .list();
+
+            assertThat(mapper.getInitializedCount()).isEqualTo(2);
+        });
     }
 
     @Test
@@ -138,8 +148,8 @@ public class TestMapperInit {
                 .mapTo(resultType)
                 .list();
 
-            // has been called once
-            assertThat(mapper.getInitializedCount()).isEqualTo(2);
+            // not called again, the statements share the configuration of the handle
+            assertThat(mapper.getInitializedCount()).isOne();
 
             // has been called for every row (mapper gets reused)
             assertThat(value.size() * 2).isEqualTo(mapper.getMappedCount());
@@ -155,12 +165,23 @@ public class TestMapperInit {
             List<Map.Entry<StringValue, Integer>> value = h.createQuery("SELECT * FROM column_mappers")
                 .mapTo(resultType)
                 .list();
-            // called again for the statement
-            assertThat(mapper.getInitializedCount()).isEqualTo(3);
+            // not called again, the handle shares the configuration of the Jdbi object
+            assertThat(mapper.getInitializedCount()).isOne();
 
             // has been called for every row again (mapper gets reused)
             assertThat(value).hasSize(mapper.getMappedCount() / 3);
         });
+
+        // a handle with modified mappers initializes the mappers again
+        jdbi.useHandle(h -> {
+            h.registerColumnMapper(StringValue.class, mapper);
+            h.registerRowMapper(resultType, new ResultMapper());
+            h.createQuery("SELECT * FROM column_mappers")
+                .mapTo(resultType)
+                .list();
+
+            assertThat(mapper.getInitializedCount()).isEqualTo(2);
+        });
     }
 
     public static class StringValue {
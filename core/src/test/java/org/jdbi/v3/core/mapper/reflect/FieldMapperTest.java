@@ -13,16 +13,21 @@
  */
 package org.jdbi.v3.core.mapper.reflect;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
 import jakarta.annotation.Nullable;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.SampleBean;
 import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.mapper.IntColumnMapper;
 import org.jdbi.v3.core.mapper.Nested;
 import org.jdbi.v3.core.mapper.PropagateNull;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.mapper.reflect.ConstructorMapperTest.ClassPropagateNullThing;
 import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.core.statement.StatementContext;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
@@ -350,4 +355,65 @@ public class FieldMapperTest {
         public static final String ID = "id";
         int id;
     }
+
+    @Test
+    public void finalFieldSet() {
+        Handle handle = h2Extension.getSharedHandle();
+
+        assertThat(handle.select("select 42 as id, 'foo' as name")
+                .map(FieldMapper.of(FinalFieldThing.class))
+                .one())
+            .extracting(t -> t.id, t -> t.name)
+            .containsExactly(42, "foo");
+    }
+
+    @Test
+    public void nullPrimitiveRejected() {
+        Handle handle = h2Extension.getSharedHandle();
+
+        handle.registerColumnMapper(int.class, (r, columnNumber, ctx) -> null);
+
+        assertThatThrownBy(() -> {
+            try (Query query = handle.select("select 42 as id")) {
+                query.map(FieldMapper.of(NullPrimitiveThing.class)).one();
+            }
+        }).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void primitiveColumnMapper() {
+        Handle handle = h2Extension.getSharedHandle();
+
+        handle.registerColumnMapper(int.class, new IntColumnMapper() {
+            @Override
+            public int mapInt(ResultSet r, int columnNumber, StatementContext ctx) throws SQLException {
+                return r.getInt(columnNumber) * 2;
+            }
+
+            @Override
+            public Integer map(ResultSet r, int columnNumber, StatementContext ctx) {
+                throw new AssertionError("boxed mapping used for a primitive field");
+            }
+        });
+
+        assertThat(handle.select("select 21 as id, 'foo' as name")
+                .map(FieldMapper.of(ColumnNameThing.class))
+                .one())
+            .extracting(t -> t.i, t -> t.s)
+            .containsExactly(42, "foo");
+    }
+
+    static class FinalFieldThing {
+        final int id;
+        final String name;
+
+        FinalFieldThing() {
+            this.id = 0;
+            this.name = null;
+        }
+    }
+
+    static class NullPrimitiveThing {
+        int id;
+    }
 }
@@ -0,0 +1,175 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect;
+
+import java.util.function.Consumer;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.mapper.ColumnMappers;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.mapper.reflect.internal.BeanPropertiesFactory;
+import org.jdbi.v3.core.mapper.reflect.internal.PojoTypes;
+import org.jdbi.v3.core.statement.Query;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SpecializedMapperCacheTest {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(H2DatabaseExtension.SOMETHING_INITIALIZER);
+
+    private Handle handle;
+
+    @BeforeEach
+    public void setUp() {
+        h2Extension.getJdbi().getConfig(ReflectionMappers.class).setSpecializedMapperCacheEnabled(true);
+        handle = h2Extension.openHandle();
+        handle.execute("insert into something (id, name) values (1, 'one'), (2, 'two')");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        handle.close();
+    }
+
+    @Test
+    public void testBeanMapperReusesSpecializedMapper() {
+        RowMapper<?> first = specialize("select id, name from something", BeanMapper.of(Something.class));
+        RowMapper<?> second = specialize("select id, name from something", BeanMapper.of(Something.class));
+        assertThat(second).isSameAs(first);
+
+        // a different column layout is specialized again
+        RowMapper<?> third = specialize("select name, id from something", BeanMapper.of(Something.class));
+        assertThat(third).isNotSameAs(first);
+
+        // prefixed mappers are different mappers
+        RowMapper<?> prefixed = specialize("select id as s_id, name as s_name from something", BeanMapper.of(Something.class, "s"));
+        assertThat(prefixed).isNotSameAs(first);
+    }
+
+    @Test
+    public void testConstructorAndFieldMapper() {
+        assertThat(specialize("select id, name from something", ConstructorMapper.of(Thing.class)))
+            .isSameAs(specialize("select id, name from something", ConstructorMapper.of(Thing.class)));
+
+        assertThat(specialize("select id, name from something", FieldMapper.of(Something.class)))
+            .isSameAs(specialize("select id, name from something", FieldMapper.of(Something.class)));
+
+        assertThat(specialize("select id, name from something", FieldMapper.of(Something.class)))
+            .isNotSameAs(specialize("select id, name from something", BeanMapper.of(Something.class)));
+    }
+
+    @Test
+    public void testMappingResults() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(handle.createQuery("select id, name from something order by id").mapToBean(Something.class).list())
+                .containsExactly(new Something(1, "one"), new Something(2, "two"));
+            assertThat(handle.createQuery("select id, name from something order by id").map(ConstructorMapper.of(Thing.class)).list())
+                .extracting(thing -> thing.name)
+                .containsExactly("one", "two");
+            assertThat(handle.createQuery("select id, name from something order by id").map(FieldMapper.of(Something.class)).list())
+                .containsExactly(new Something(1, "one"), new Something(2, "two"));
+        }
+    }
+
+    @Test
+    public void testReflectionMappersSettingsArePartOfTheKey() {
+        RowMapper<?> first = specialize("select id, name, integerValue from something", BeanMapper.of(Something.class));
+
+        handle.getConfig(ReflectionMappers.class).setStrictMatching(true);
+        RowMapper<?> strict = specialize("select id, name, integerValue from something", BeanMapper.of(Something.class));
+        assertThat(strict).isNotSameAs(first);
+
+        // strict matching errors are not cached
+        for (int i = 0; i < 2; i++) {
+            try (Query query = handle.createQuery("select id, name, 1 as extra from something")) {
+                assertThatThrownBy(() -> query.mapToBean(Something.class).list())
+                    .isInstanceOf(IllegalArgumentException.class);
+            }
+        }
+    }
+
+    @Test
+    public void testColumnMappersArePartOfTheKey() {
+        RowMapper<?> first = specialize("select id, name from something", BeanMapper.of(Something.class));
+
+        handle.registerColumnMapper(String.class, (r, columnNumber, ctx) -> r.getString(columnNumber).toUpperCase());
+        RowMapper<?> custom = specialize("select id, name from something", BeanMapper.of(Something.class));
+        assertThat(custom).isNotSameAs(first);
+
+        assertThat(handle.createQuery("select id, name from something order by id").mapToBean(Something.class).list())
+            .extracting(Something::getName)
+            .containsExactly("ONE", "TWO");
+    }
+
+    @Test
+    public void testCopiedConfigurationSharesSpecializedMappers() {
+        RowMapper<?> first = specialize("select id, name from something", BeanMapper.of(Something.class));
+
+        // statements that copy their configuration without modifying it (e.g. SQL object methods) reuse the mapper
+        RowMapper<?> copied = specialize("select id, name from something", BeanMapper.of(Something.class),
+            query -> query.getConfig(ColumnMappers.class).getCoalesceNullPrimitivesToDefaults());
+        assertThat(copied).isSameAs(first);
+
+        RowMapper<?> modified = specialize("select id, name from something", BeanMapper.of(Something.class),
+            query -> query.getConfig(ColumnMappers.class).setCoalesceNullPrimitivesToDefaults(false));
+        assertThat(modified).isNotSameAs(first);
+    }
+
+    @Test
+    public void testPojoTypesArePartOfTheKey() {
+        RowMapper<?> first = specialize("select id, name from something", BeanMapper.of(Something.class));
+
+        handle.getConfig(PojoTypes.class).register(Something.class, BeanPropertiesFactory::propertiesFor);
+        RowMapper<?> registered = specialize("select id, name from something", BeanMapper.of(Something.class));
+        assertThat(registered).isNotSameAs(first);
+    }
+
+    @Test
+    public void testDisabled() {
+        handle.getConfig(ReflectionMappers.class).setSpecializedMapperCacheEnabled(false);
+
+        assertThat(specialize("select id, name from something", BeanMapper.of(Something.class)))
+            .isNotSameAs(specialize("select id, name from something", BeanMapper.of(Something.class)));
+        assertThat(new ReflectionMappers().isSpecializedMapperCacheEnabled()).isFalse();
+    }
+
+    private RowMapper<?> specialize(String sql, RowMapper<?> mapper) {
+        return specialize(sql, mapper, query -> {});
+    }
+
+    private RowMapper<?> specialize(String sql, RowMapper<?> mapper, Consumer<Query> customizer) {
+        try (Query query = handle.createQuery(sql)) {
+            customizer.accept(query);
+            return query.scanResultSet((supplier, ctx) -> mapper.specialize(supplier.get(), ctx));
+        }
+    }
+
+    public static class Thing {
+        final int id;
+        final String name;
+
+        public Thing(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
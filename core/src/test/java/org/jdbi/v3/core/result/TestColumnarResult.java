@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.math.BigDecimal;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.mapper.IntColumnMapper;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.jdbi.v3.core.statement.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestColumnarResult {
+
+    private static final int ROWS = 2500;
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance();
+
+    private Handle handle;
+
+    @BeforeEach
+    public void setUp() {
+        handle = h2Extension.getSharedHandle();
+        handle.execute("create table measurement (id integer, ts bigint, reading double, sensor varchar(20), amount decimal(10, 2))");
+
+        PreparedBatch batch = handle.prepareBatch("insert into measurement (id, ts, reading, sensor, amount) values (?, ?, ?, ?, ?)");
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(i, 1_000_000_000_000L + i, i % 7 == 0 ? null : i * 0.5d, i % 5 == 0 ? null : "sensor" + i % 3, BigDecimal.valueOf(i, 2));
+        }
+        batch.execute();
+    }
+
+    @Test
+    public void testInferredColumns() {
+        ColumnarResult result = handle.createQuery("select id, ts, reading, sensor, amount from measurement order by id")
+            .mapToColumns();
+
+        assertThat(result.getRowCount()).isEqualTo(ROWS);
+        assertThat(result.getColumnCount()).isEqualTo(5);
+        assertThat(result.getColumnNames()).containsExactly("ID", "TS", "READING", "SENSOR", "AMOUNT");
+        assertThat(result.getColumnType(0)).isEqualTo(int.class);
+        assertThat(result.getColumnType(1)).isEqualTo(long.class);
+        assertThat(result.getColumnType(2)).isEqualTo(double.class);
+        assertThat(result.getColumnType(3)).isEqualTo(String.class);
+        assertThat(result.getColumnType(4)).isEqualTo(Object.class);
+
+        int[] ids = result.getIntColumn(0);
+        long[] timestamps = result.getLongColumn(result.findColumn("ts"));
+        double[] readings = result.getDoubleColumn(2);
+        String[] sensors = result.getStringColumn(3);
+        Object[] amounts = result.getObjectColumn(4);
+
+        assertThat(ids).hasSize(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            assertThat(ids[i]).isEqualTo(i);
+            assertThat(timestamps[i]).isEqualTo(1_000_000_000_000L + i);
+            assertThat(result.isNull(2, i)).isEqualTo(i % 7 == 0);
+            assertThat(readings[i]).isEqualTo(i % 7 == 0 ? 0.0d : i * 0.5d);
+            assertThat(sensors[i]).isEqualTo(i % 5 == 0 ? null : "sensor" + i % 3);
+            assertThat(amounts[i]).isEqualTo(BigDecimal.valueOf(i, 2));
+        }
+    }
+
+    @Test
+    public void testDictionaryEncoding() {
+        ColumnarResult result = handle.createQuery("select sensor from measurement order by id")
+            .mapToColumns(String.class);
+
+        assertThat(result.getDictionary(0)).containsExactly("sensor1", "sensor2", "sensor0");
+
+        int[] codes = result.getDictionaryCodes(0);
+        assertThat(codes[0]).isEqualTo(-1);
+        assertThat(result.isNull(0, 0)).isTrue();
+        assertThat(result.getDictionary(0).get(codes[1])).isEqualTo("sensor1");
+    }
+
+    @Test
+    public void testExplicitColumnTypes() {
+        ColumnarResult result = handle.createQuery("select id, reading from measurement order by id")
+            .mapToColumns(long.class, Double.class);
+
+        assertThat(result.getLongColumn(0)[ROWS - 1]).isEqualTo(ROWS - 1);
+        assertThat(result.getObjectColumn(1)[0]).isNull();
+        assertThat(result.getObjectColumn(1)[1]).isEqualTo(0.5d);
+    }
+
+    @Test
+    public void testRegisteredColumnMapper() {
+        handle.registerColumnMapper(int.class, (IntColumnMapper) (r, i, ctx) -> r.getInt(i) * 2);
+
+        ColumnarResult result = handle.createQuery("select id from measurement order by id")
+            .mapToColumns(int.class);
+
+        assertThat(result.getIntColumn(0)[21]).isEqualTo(42);
+    }
+
+    @Test
+    public void testEmptyResult() {
+        ColumnarResult result = handle.createQuery("select id, sensor from measurement where id < 0")
+            .mapToColumns();
+
+        assertThat(result.getRowCount()).isZero();
+        assertThat(result.getIntColumn(0)).isEmpty();
+        assertThat(result.getStringColumn(1)).isEmpty();
+    }
+
+    @Test
+    public void testWrongColumnAccess() {
+        ColumnarResult result = handle.createQuery("select id from measurement")
+            .mapToColumns();
+
+        assertThatThrownBy(() -> result.getLongColumn(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("stored as int");
+        assertThatThrownBy(() -> result.findColumn("missing"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testColumnTypeCountMismatch() {
+        assertThatThrownBy(() -> {
+            try (Query query = handle.createQuery("select id, ts from measurement")) {
+                query.mapToColumns(int.class);
+            }
+        }).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.HandleListener;
+import org.jdbi.v3.core.Handles;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.mapper.SomethingMapper;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestPartitionedQuery {
+
+    private static final int ROWS = 1000;
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(H2DatabaseExtension.SOMETHING_INITIALIZER);
+
+    private Jdbi jdbi;
+
+    private final AtomicInteger openHandles = new AtomicInteger();
+    private final AtomicInteger maxOpenHandles = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        jdbi = h2Extension.getJdbi();
+
+        try (Handle handle = jdbi.open()) {
+            PreparedBatch batch = handle.prepareBatch("insert into something (id, name) values (?, ?)");
+            for (int i = 0; i < ROWS; i++) {
+                batch.add(i, "name" + i);
+            }
+            batch.execute();
+        }
+
+        jdbi.getConfig(Handles.class).addListener(new HandleListener() {
+            @Override
+            public void handleCreated(Handle handle) {
+                maxOpenHandles.accumulateAndGet(openHandles.incrementAndGet(), Math::max);
+            }
+
+            @Override
+            public void handleClosed(Handle handle) {
+                openHandles.decrementAndGet();
+            }
+        });
+    }
+
+    @Test
+    void testModPartitions() {
+        List<Integer> ids;
+        try (Stream<Integer> stream = jdbi.partitionedQuery("select id from something where mod(id, :partitions) = :partition")
+            .partitions(8)
+            .mapTo(Integer.class)) {
+            assertThat(stream.isParallel()).isTrue();
+            ids = stream.collect(Collectors.toList());
+        }
+
+        assertThat(ids).containsExactlyInAnyOrderElementsOf(IntStream.range(0, ROWS).boxed().collect(Collectors.toList()));
+        assertThat(openHandles).hasValue(0);
+        assertThat(maxOpenHandles.get()).isBetween(1, 8);
+    }
+
+    @Test
+    void testRangePartitions() {
+        List<Something> rows;
+        try (Stream<Something> stream = jdbi.partitionedQuery("select id, name from something where id >= :rangeStart and id < :rangeEnd and name like :pattern")
+            .ranges(0, ROWS, 7)
+            .customize(query -> query.bind("pattern", "name%"))
+            .map(new SomethingMapper())) {
+            rows = stream.collect(Collectors.toList());
+        }
+
+        assertThat(rows).hasSize(ROWS);
+        assertThat(rows).extracting(Something::getId).doesNotHaveDuplicates();
+        assertThat(rows).allSatisfy(s -> assertThat(s.getName()).isEqualTo("name" + s.getId()));
+        assertThat(openHandles).hasValue(0);
+    }
+
+    @Test
+    void testCustomPool() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            long sum = pool.submit(() -> {
+                try (Stream<Integer> stream = jdbi.partitionedQuery("select id from something where mod(id, :partitions) = :partition")
+                    .partitions(16)
+                    .mapTo(Integer.class)) {
+                    return stream.mapToLong(Integer::longValue).sum();
+                }
+            }).get();
+
+            assertThat(sum).isEqualTo((long) ROWS * (ROWS - 1) / 2);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(openHandles).hasValue(0);
+    }
+
+    @Test
+    void testSequentialAndEarlyClose() {
+        try (Stream<Integer> stream = jdbi.partitionedQuery("select id from something where mod(id, :partitions) = :partition")
+            .partitions(4)
+            .mapTo(Integer.class)
+            .sequential()) {
+            assertThat(stream.limit(10).count()).isEqualTo(10);
+        }
+
+        assertThat(maxOpenHandles).hasValue(1);
+        assertThat(openHandles).hasValue(0);
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        PartitionedQuery query = jdbi.partitionedQuery("select id from something");
+
+        assertThatThrownBy(() -> query.partitions(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> query.ranges(0, 3, 4)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -14,6 +14,8 @@
 package org.jdbi.v3.core.statement;
 
 import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
@@ -72,4 +74,70 @@ public class StatementContextTest {
 
         assertThat(context.findColumnMapperFor(Foo.class)).contains(mapper);
     }
+
+    @Test
+    public void testCleanablesAreClosedInReverseOrder() {
+        StatementContext context = StatementContextAccess.createContext();
+        List<Integer> closed = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            int value = i;
+            context.addCleanable(() -> closed.add(value));
+        }
+        assertThat(context.isClean()).isFalse();
+
+        context.close();
+
+        assertThat(closed).containsExactly(9, 8, 7, 6, 5, 4, 3, 2, 1, 0);
+        assertThat(context.isClean()).isTrue();
+
+        context.close();
+        assertThat(closed).hasSize(10);
+    }
+
+    @Test
+    public void testDuplicateCleanableIsClosedTwice() {
+        StatementContext context = StatementContextAccess.createContext();
+        List<String> closed = new ArrayList<>();
+        Cleanable cleanable = () -> closed.add("closed");
+
+        context.addCleanable(cleanable);
+        context.addCleanable(cleanable);
+        context.close();
+
+        assertThat(closed).containsExactly("closed", "closed");
+    }
+
+    @Test
+    public void testListenersAreNotified() {
+        List<String> events = new ArrayList<>();
+        ConfigRegistry config = new ConfigRegistry();
+        config.get(SqlStatements.class).addContextListener(new StatementContextListener() {
+            @Override
+            public void contextCreated(StatementContext statementContext) {
+                events.add("created");
+            }
+
+            @Override
+            public void contextCleaned(StatementContext statementContext) {
+                events.add("cleaned");
+            }
+
+            @Override
+            public void cleanableAdded(StatementContext statementContext, Cleanable cleanable) {
+                events.add("added");
+            }
+
+            @Override
+            public void cleanableRemoved(StatementContext statementContext, Cleanable cleanable) {
+                events.add("removed");
+            }
+        });
+
+        StatementContext context = StatementContextAccess.createContext(config);
+        context.addCleanable(() -> events.add("close"));
+        context.close();
+
+        assertThat(events).containsExactly("created", "added", "removed", "close", "cleaned");
+    }
 }
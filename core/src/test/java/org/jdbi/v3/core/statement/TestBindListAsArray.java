@@ -0,0 +1,113 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.array.SqlArrayListExpression;
+import org.jdbi.v3.core.array.SqlArrayTypes;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static java.util.Collections.emptyList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jdbi.v3.core.statement.EmptyHandling.NULL_KEYWORD;
+
+public class TestBindListAsArray {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance();
+
+    private Handle handle;
+
+    @BeforeEach
+    public void setUp() {
+        handle = h2Extension.getSharedHandle();
+        handle.execute("create table thing (id integer primary key, name varchar(50))");
+        for (int i = 1; i <= 20; i++) {
+            handle.execute("insert into thing (id, name) values (?, ?)", i, "name" + i);
+        }
+    }
+
+    @Test
+    public void testInList() {
+        List<String> names = handle.createQuery("select name from thing where id in (<ids>) order by id")
+            .bindListAsArray("ids", Integer.class, Arrays.asList(3, 1, 7))
+            .mapTo(String.class)
+            .list();
+
+        assertThat(names).containsExactly("name1", "name3", "name7");
+    }
+
+    @Test
+    public void testSingleParameter() {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(i);
+        }
+
+        try (Query query = handle.createQuery("select count(*) from thing where id in (<ids>)")) {
+            int count = query.bindListAsArray("ids", int.class, ids)
+                .mapTo(int.class)
+                .one();
+
+            assertThat(count).isEqualTo(20);
+            assertThat(query.getContext().getParsedSql().getParameters().getParameterCount()).isOne();
+        }
+    }
+
+    @Test
+    public void testStrings() {
+        List<Integer> ids = handle.createQuery("select id from thing where name in (<names>) order by id")
+            .bindListAsArray("names", String.class, Arrays.asList("name2", "name4", "missing"))
+            .mapTo(Integer.class)
+            .list();
+
+        assertThat(ids).containsExactly(2, 4);
+    }
+
+    @Test
+    public void testParameterExpression() {
+        handle.getConfig(SqlArrayTypes.class).setListExpression(SqlArrayListExpression.PARAMETER);
+
+        List<Integer> ids = handle.createQuery("select id from thing where id = any(<ids>) order by id")
+            .bindListAsArray("ids", Integer.class, Arrays.asList(5, 6))
+            .mapTo(Integer.class)
+            .list();
+
+        assertThat(ids).containsExactly(5, 6);
+    }
+
+    @Test
+    public void testEmptyList() {
+        try (Query query = handle.createQuery("select id from thing where id in (<ids>)")) {
+            assertThatThrownBy(() -> query.bindListAsArray("ids", Integer.class, emptyList()))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        List<Integer> ids = handle.createQuery("select id from thing where id in (<ids>)")
+            .bindListAsArray(NULL_KEYWORD, "ids", Integer.class, null)
+            .mapTo(Integer.class)
+            .list();
+
+        assertThat(ids).isEmpty();
+    }
+}
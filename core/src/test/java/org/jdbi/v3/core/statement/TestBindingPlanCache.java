@@ -0,0 +1,142 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.Types;
+import java.util.Optional;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.argument.AbstractArgumentFactory;
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheStats;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestBindingPlanCache {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(H2DatabaseExtension.SOMETHING_INITIALIZER);
+
+    private Handle handle;
+
+    @BeforeEach
+    public void setUp() {
+        h2Extension.getJdbi().getConfig(SqlStatements.class).setBindingPlanCacheEnabled(true);
+        handle = h2Extension.openHandle();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        handle.close();
+    }
+
+    @Test
+    public void testNamedBindingReusesPlan() {
+        for (int i = 0; i < 10; i++) {
+            handle.createUpdate("insert into something (id, name, integerValue) values (:id, :name, :value)")
+                .bind("id", i)
+                .bind("name", "name" + i)
+                .bind("value", i % 2 == 0 ? Integer.valueOf(i) : null)
+                .execute();
+        }
+
+        // null values are bound as typed values, so they use the same plan
+        DefaultJdbiCacheStats stats = handle.getConfig(SqlStatements.class).getBindingPlanCache().getStats();
+        assertThat(stats.cacheSize()).isOne();
+
+        assertThat(handle.createQuery("select * from something order by id").mapToBean(Something.class).list())
+            .hasSize(10)
+            .allSatisfy(s -> {
+                assertThat(s.getName()).isEqualTo("name" + s.getId());
+                assertThat(s.getIntegerValue()).isEqualTo(s.getId() % 2 == 0 ? s.getId() : null);
+            });
+    }
+
+    @Test
+    public void testPositionalBindingReusesPlan() {
+        for (int i = 0; i < 10; i++) {
+            handle.createUpdate("insert into something (id, name) values (?, ?)")
+                .bind(0, i)
+                .bind(1, "name" + i)
+                .execute();
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(handle.createQuery("select name from something where id = ?")
+                .bind(0, i)
+                .mapTo(String.class)
+                .one()).isEqualTo("name" + i);
+        }
+    }
+
+    @Test
+    public void testChangingValueTypes() {
+        String sql = "insert into something (id, name) values (:id, :name)";
+
+        handle.createUpdate(sql).bind("id", 1).bind("name", "one").execute();
+        // different types for the same parameter names fall back to regular binding
+        handle.createUpdate(sql).bind("id", 2L).bind("name", Optional.of("two")).execute();
+        handle.createUpdate(sql).bindByType("id", 3, QualifiedType.of(Integer.class)).bind("name", (CharSequence) "three").execute();
+        handle.createUpdate(sql).bind("id", 4).bindBean(new Something(0, "four")).execute();
+        handle.createUpdate(sql).bind("id", 5).bind("name", (position, statement, ctx) -> statement.setString(position, "five")).execute();
+
+        assertThat(handle.createQuery("select name from something order by id").mapTo(String.class).list())
+            .containsExactly("one", "two", "three", "four", "five");
+    }
+
+    @Test
+    public void testStatementsWithTheSameParameterNames() {
+        handle.createUpdate("insert into something (id, name) values (:id, :name)").bind("id", 1).bind("name", "one").execute();
+        handle.createUpdate("update something set name = :name where id = :id").bind("id", 1).bind("name", "uno").execute();
+
+        DefaultJdbiCacheStats stats = handle.getConfig(SqlStatements.class).getBindingPlanCache().getStats();
+        assertThat(stats.cacheSize()).isEqualTo(2);
+        assertThat(handle.createQuery("select name from something where id = :id").bind("id", 1).mapTo(String.class).one())
+            .isEqualTo("uno");
+    }
+
+    @Test
+    public void testHandleArgumentFactoriesGetTheirOwnPlan() {
+        String sql = "insert into something (id, name) values (:id, :name)";
+        handle.createUpdate(sql).bind("id", 1).bind("name", "one").execute();
+
+        try (Handle other = h2Extension.openHandle()) {
+            other.registerArgument(new AbstractArgumentFactory<String>(Types.VARCHAR) {
+                @Override
+                protected Argument build(String value, ConfigRegistry config) {
+                    return (position, statement, ctx) -> statement.setString(position, value.toUpperCase());
+                }
+            });
+            other.createUpdate(sql).bind("id", 2).bind("name", "two").execute();
+        }
+
+        handle.createUpdate(sql).bind("id", 3).bind("name", "three").execute();
+
+        assertThat(handle.createQuery("select name from something order by id").mapTo(String.class).list())
+            .containsExactly("one", "TWO", "three");
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        assertThat(new SqlStatements().isBindingPlanCacheEnabled()).isFalse();
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.Statement;
+import java.util.List;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestCachingStatementBuilder {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(H2DatabaseExtension.SOMETHING_INITIALIZER);
+
+    @BeforeEach
+    public void setUp() {
+        h2Extension.getJdbi().setStatementBuilderFactory(CachingStatementBuilder.factory(2));
+    }
+
+    @Test
+    public void testReusesStatements() {
+        try (Handle handle = h2Extension.openHandle()) {
+            CachingStatementBuilder builder = (CachingStatementBuilder) handle.getStatementBuilder();
+
+            for (int i = 0; i < 10; i++) {
+                handle.createUpdate("insert into something (id, name) values (:id, :name)")
+                    .bind("id", i)
+                    .bind("name", "name" + i)
+                    .execute();
+            }
+
+            for (int i = 0; i < 10; i++) {
+                String name = handle.createQuery("select name from something where id = :id")
+                    .bind("id", i)
+                    .mapTo(String.class)
+                    .one();
+                assertThat(name).isEqualTo("name" + i);
+            }
+
+            assertThat(builder.getMisses()).isEqualTo(2);
+            assertThat(builder.getHits()).isEqualTo(18);
+            assertThat(builder.getCachedStatementCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void testGeneratedKeysUseSeparateStatements() {
+        try (Handle handle = h2Extension.openHandle()) {
+            CachingStatementBuilder builder = (CachingStatementBuilder) handle.getStatementBuilder();
+            String sql = "insert into something (id, name) values (:id, :name)";
+
+            handle.createUpdate(sql).bind("id", 1).bind("name", "one").execute();
+            int id = handle.createUpdate(sql).bind("id", 2).bind("name", "two")
+                .executeAndReturnGeneratedKeys("id")
+                .mapTo(int.class)
+                .one();
+
+            assertThat(id).isEqualTo(2);
+            assertThat(builder.getMisses()).isEqualTo(2);
+            assertThat(builder.getHits()).isZero();
+        }
+    }
+
+    @Test
+    public void testStatementsInUseAreNotShared() {
+        try (Handle handle = h2Extension.openHandle()) {
+            CachingStatementBuilder builder = (CachingStatementBuilder) handle.getStatementBuilder();
+            handle.execute("insert into something (id, name) values (1, 'one'), (2, 'two')");
+
+            String sql = "select name from something where id = :id";
+            try (ResultIterator<String> outer = handle.createQuery(sql).bind("id", 1).mapTo(String.class).iterator()) {
+                String inner = handle.createQuery(sql).bind("id", 2).mapTo(String.class).one();
+
+                assertThat(inner).isEqualTo("two");
+                assertThat(outer.next()).isEqualTo("one");
+            }
+
+            // the insert and the two queries
+            assertThat(builder.getMisses()).isEqualTo(3);
+            assertThat(builder.getCachedStatementCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        try (Handle handle = h2Extension.openHandle()) {
+            CachingStatementBuilder builder = (CachingStatementBuilder) handle.getStatementBuilder();
+
+            List<Statement> statements = List.of(
+                executedStatement(handle, "select 1"),
+                executedStatement(handle, "select 2"),
+                executedStatement(handle, "select 1"),
+                executedStatement(handle, "select 3"));
+
+            assertThat(statements.get(0)).isSameAs(statements.get(2));
+            assertThat(builder.getEvictions()).isOne();
+            assertThat(builder.getCachedStatementCount()).isEqualTo(2);
+            assertThat(executedStatement(handle, "select 1")).isSameAs(statements.get(0));
+            assertThat(executedStatement(handle, "select 2")).isNotSameAs(statements.get(1));
+        }
+    }
+
+    @Test
+    public void testClosedIdleStatementIsAMiss() throws Exception {
+        try (Handle handle = h2Extension.openHandle()) {
+            CachingStatementBuilder builder = (CachingStatementBuilder) handle.getStatementBuilder();
+
+            Statement statement = executedStatement(handle, "select 1");
+            statement.close();
+
+            assertThat(executedStatement(handle, "select 1")).isNotSameAs(statement);
+            assertThat(builder.getHits()).isZero();
+            assertThat(builder.getMisses()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void testRestoresStatementSettings() throws Exception {
+        try (Handle handle = h2Extension.openHandle()) {
+            handle.execute("insert into something (id, name) values (1, 'one'), (2, 'two'), (3, 'three')");
+            String sql = "select name from something order by id";
+
+            Statement statement;
+            try (Query query = handle.createQuery(sql)) {
+                assertThat(query.setMaxRows(1).setQueryTimeout(5).mapTo(String.class).list()).containsExactly("one");
+                statement = query.getContext().getStatement();
+            }
+
+            try (Query query = handle.createQuery(sql)) {
+                assertThat(query.mapTo(String.class).list()).containsExactly("one", "two", "three");
+                assertThat(query.getContext().getStatement()).isSameAs(statement);
+            }
+
+            assertThat(statement.getMaxRows()).isZero();
+            assertThat(statement.getQueryTimeout()).isZero();
+        }
+    }
+
+    @Test
+    public void testClosesStatementsWithHandle() throws Exception {
+        Statement statement;
+        try (Handle handle = h2Extension.openHandle()) {
+            statement = executedStatement(handle, "select 1");
+            assertThat(statement.isClosed()).isFalse();
+        }
+
+        assertThat(statement.isClosed()).isTrue();
+    }
+
+    @Test
+    public void testInvalidSize() {
+        assertThatThrownBy(() -> CachingStatementBuilder.factory(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Statement executedStatement(Handle handle, String sql) {
+        try (Query query = handle.createQuery(sql)) {
+            int value = query.mapTo(int.class).one();
+            assertThat(value).isPositive();
+            return query.getContext().getStatement();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestListPadding {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance();
+
+    private Handle handle;
+
+    private final Set<String> renderedSql = new CopyOnWriteArraySet<>();
+
+    @BeforeEach
+    public void setUp() {
+        handle = h2Extension.getSharedHandle();
+        handle.execute("create table thing (id integer primary key, name varchar(50))");
+        for (int i = 1; i <= 20; i++) {
+            handle.execute("insert into thing (id, name) values (?, ?)", i, "name" + i);
+        }
+        handle.setSqlLogger(new SqlLogger() {
+            @Override
+            public void logBeforeExecution(StatementContext context) {
+                renderedSql.add(context.getRenderedSql());
+            }
+        });
+    }
+
+    @Test
+    public void testPaddedSizes() {
+        ListPadding powerOfTwo = ListPadding.powerOfTwo();
+        assertThat(powerOfTwo.paddedSize(1)).isOne();
+        assertThat(powerOfTwo.paddedSize(2)).isEqualTo(2);
+        assertThat(powerOfTwo.paddedSize(3)).isEqualTo(4);
+        assertThat(powerOfTwo.paddedSize(5)).isEqualTo(8);
+        assertThat(powerOfTwo.paddedSize(1024)).isEqualTo(1024);
+        assertThat(powerOfTwo.paddedSize(1025)).isEqualTo(2048);
+
+        ListPadding buckets = ListPadding.buckets(100, 10, 1000);
+        assertThat(buckets.paddedSize(1)).isEqualTo(10);
+        assertThat(buckets.paddedSize(10)).isEqualTo(10);
+        assertThat(buckets.paddedSize(11)).isEqualTo(100);
+        assertThat(buckets.paddedSize(999)).isEqualTo(1000);
+        assertThat(buckets.paddedSize(1001)).isEqualTo(1001);
+
+        assertThat(ListPadding.NONE.paddedSize(7)).isEqualTo(7);
+    }
+
+    @Test
+    public void testInvalidBuckets() {
+        assertThatThrownBy(ListPadding::buckets).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ListPadding.buckets(0, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testNoPaddingByDefault() {
+        for (int size = 1; size <= 8; size++) {
+            assertThat(selectIds(size)).hasSize(size);
+        }
+        assertThat(renderedSql).hasSize(8);
+    }
+
+    @Test
+    public void testPowerOfTwoRendersStableSql() {
+        handle.getConfig(SqlStatements.class).setListPadding(ListPadding.powerOfTwo());
+
+        for (int size = 5; size <= 8; size++) {
+            assertThat(selectIds(size)).hasSize(size);
+        }
+        assertThat(renderedSql).hasSize(1);
+    }
+
+    @Test
+    public void testNotInWithRepeatedValues() {
+        handle.getConfig(SqlStatements.class).setListPadding(ListPadding.buckets(8));
+
+        List<Integer> ids = handle.createQuery("select id from thing where id not in (<ids>) order by id")
+            .bindList("ids", 1, 2, 3)
+            .mapTo(Integer.class)
+            .list();
+
+        assertThat(ids).hasSize(17).doesNotContain(1, 2, 3);
+        assertThat(renderedSql).singleElement().asString().contains("__ids_7").doesNotContain("__ids_8");
+    }
+
+    @Test
+    public void testNullValues() {
+        handle.getConfig(SqlStatements.class).setListPadding(ListPadding.powerOfTwo().withNullValues());
+
+        assertThat(selectIds(3)).containsExactly(1, 2, 3);
+
+        List<Integer> notIn = handle.createQuery("select id from thing where id not in (<ids>)")
+            .bindList("ids", 1, 2, 3)
+            .mapTo(Integer.class)
+            .list();
+
+        // a null in a "not in" predicate never matches
+        assertThat(notIn).isEmpty();
+    }
+
+    private List<Integer> selectIds(int size) {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            ids.add(i);
+        }
+        return handle.createQuery("select id from thing where id in (<ids>) order by id")
+            .bindList("ids", ids)
+            .mapTo(Integer.class)
+            .list();
+    }
+}
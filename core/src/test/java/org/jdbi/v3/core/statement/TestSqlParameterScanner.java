@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.Random;
+import java.util.function.Function;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.jdbi.v3.core.internal.lexer.ColonStatementLexer;
+import org.jdbi.v3.core.internal.lexer.HashStatementLexer;
+import org.jdbi.v3.core.statement.internal.ErrorListener;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Compares the hand written scanner with the ANTLR lexer grammars that define the parameter syntax.
+ */
+public class TestSqlParameterScanner {
+
+    private static final String[] FRAGMENTS = {
+        "a", "Z", "0", "_", "$", ".", " ", ",", "(", ")", "=", "\n", "\r", "\t",
+        ":", "::", "#", "##", "?", "??", "?.", "'", "\\", "\\'", "\"", "/", "*", "/*", "*/", "-", "--", "//",
+        "é", "中", "😀", "\ud800", "\udc00", "name", "id", "select ", "where ",
+    };
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "select * from something where id = :id",
+        "select * from something where id = ?",
+        "select :a.b, :c?.d, :e?f, ::g, :::h, :", "select #a, ##b, #, #c.d",
+        "select 'it''s :not', 'a\\'b :no', \"col:x\", \"\" :yes",
+        "select /* :comment */ 1, -- :comment\n :p1 // :comment\r\n, :p2",
+        "select \\:escaped, \\?, \\\\:p, 'unterminated :p",
+        "select ?? , ???, \"unterminated :p",
+        "select :été, :😀x, :a\ud800b",
+        "",
+    })
+    public void testKnownStatements(String sql) {
+        assertSameResult(sql);
+    }
+
+    @Test
+    public void testRandomStatements() {
+        Random random = new Random(2718281828L);
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder sql = new StringBuilder();
+            int fragments = random.nextInt(24);
+            for (int j = 0; j < fragments; j++) {
+                sql.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+            assertSameResult(sql.toString());
+        }
+    }
+
+    @Test
+    public void testMixedParameters() {
+        assertThatThrownBy(() -> SqlParameterScanner.COLON.scan("select :a, ?"))
+            .isInstanceOf(UnableToExecuteStatementException.class);
+        assertThatThrownBy(() -> SqlParameterScanner.HASH.scan("select #a, ?"))
+            .isInstanceOf(UnableToExecuteStatementException.class);
+    }
+
+    private static void assertSameResult(String sql) {
+        assertSameResult(sql, SqlParameterScanner.COLON, s -> new ColonStatementLexer(CharStreams.fromString(s)), ColonStatementLexer.NAMED_PARAM,
+            ColonStatementLexer.POSITIONAL_PARAM, ColonStatementLexer.ESCAPED_TEXT);
+        assertSameResult(sql, SqlParameterScanner.HASH, s -> new HashStatementLexer(CharStreams.fromString(s)), HashStatementLexer.NAMED_PARAM,
+            HashStatementLexer.POSITIONAL_PARAM, HashStatementLexer.ESCAPED_TEXT);
+    }
+
+    private static void assertSameResult(String sql, SqlParameterScanner scanner, Function<String, Lexer> lexerFactory,
+                                         int namedParam, int positionalParam, int escapedText) {
+        String expected;
+        try {
+            expected = lex(sql, lexerFactory, namedParam, positionalParam, escapedText).toString();
+        } catch (UnableToExecuteStatementException e) {
+            expected = e.getMessage();
+        }
+
+        String actual;
+        try {
+            actual = scanner.scan(sql).toString();
+        } catch (UnableToExecuteStatementException e) {
+            actual = e.getMessage();
+        }
+
+        assertThat(actual).as("sql: %s", sql).isEqualTo(expected);
+    }
+
+    /** The ANTLR based implementation that was used before the scanner. */
+    private static ParsedSql lex(String sql, Function<String, Lexer> lexerFactory, int namedParam, int positionalParam, int escapedText) {
+        ParsedSql.Builder parsedSql = ParsedSql.builder();
+        Lexer lexer = lexerFactory.apply(sql);
+        lexer.addErrorListener(new ErrorListener());
+        for (Token t = lexer.nextToken(); t.getType() != Token.EOF; t = lexer.nextToken()) {
+            if (t.getType() == namedParam) {
+                parsedSql.appendNamedParameter(t.getText().substring(1));
+            } else if (t.getType() == positionalParam) {
+                parsedSql.appendPositionalParameter();
+            } else if (t.getType() == escapedText) {
+                parsedSql.append(t.getText().substring(1));
+            } else {
+                parsedSql.append(t.getText());
+            }
+        }
+        return parsedSql.build();
+    }
+}
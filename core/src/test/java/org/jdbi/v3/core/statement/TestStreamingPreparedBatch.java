@@ -0,0 +1,176 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.statement.internal.PreparedBinding;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestStreamingPreparedBatch {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(H2DatabaseExtension.SOMETHING_INITIALIZER);
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private Handle handle;
+
+    @BeforeEach
+    public void setUp() {
+        handle = h2Extension.openHandle();
+        handle.setSqlLogger(new SqlLogger() {
+            @Override
+            public void logAfterExecution(StatementContext context) {
+                executions.incrementAndGet();
+            }
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        handle.close();
+    }
+
+    @Test
+    public void testFlushRows() {
+        PreparedBatch batch = handle.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .setFlushRows(10);
+
+        for (int i = 0; i < 25; i++) {
+            batch.bind("id", i).bind("name", "name" + i).add();
+        }
+
+        assertThat(executions).hasValue(2);
+        assertThat(batch.size()).isEqualTo(5);
+
+        int[] counts = batch.execute();
+
+        assertThat(executions).hasValue(3);
+        assertThat(counts).hasSize(25).containsOnly(1);
+        assertThat(handle.createQuery("select count(*) from something").mapTo(int.class).one()).isEqualTo(25);
+    }
+
+    @Test
+    public void testFlushBytes() {
+        PreparedBatch batch = handle.prepareBatch("insert into something (id, name) values (?, ?)")
+            .setFlushBytes(176);
+
+        for (int i = 0; i < 10; i++) {
+            // 8 bytes for the id and 2 * 40 bytes for the name
+            batch.add(i, "x".repeat(40));
+        }
+
+        // each flush holds two rows
+        assertThat(executions).hasValue(5);
+        assertThat(batch.execute()).hasSize(10);
+        assertThat(executions).hasValue(5);
+    }
+
+    @Test
+    public void testBeanBinding() {
+        PreparedBatch batch = handle.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .setFlushRows(3);
+
+        for (int i = 0; i < 7; i++) {
+            batch.bindBean(new Something(i, "name" + i)).add();
+        }
+        assertThat(batch.execute()).hasSize(7);
+
+        assertThat(handle.createQuery("select * from something order by id").mapToBean(Something.class).list())
+            .hasSize(7)
+            .allSatisfy(s -> assertThat(s.getName()).isEqualTo("name" + s.getId()));
+    }
+
+    @Test
+    public void testGeneratedKeys() {
+        handle.execute("create table keyed (id integer not null generated by default as identity (start with 100), name varchar(50))");
+
+        List<Integer> keys = new ArrayList<>();
+
+        PreparedBatch batch = handle.prepareBatch("insert into keyed (name) values (?)")
+            .setFlushRows(2)
+            .setGeneratedKeysConsumer((rs, ctx) -> rs.getInt("id"), keys::add, "id");
+
+        for (int i = 0; i < 5; i++) {
+            batch.add("name" + i);
+        }
+        assertThat(keys).containsExactly(100, 101, 102, 103);
+
+        assertThat(batch.execute()).hasSize(5);
+        assertThat(keys).containsExactly(100, 101, 102, 103, 104);
+    }
+
+    @Test
+    public void testGeneratedKeysResultRejected() {
+        PreparedBatch batch = handle.prepareBatch("insert into something (id, name) values (?, ?)")
+            .setFlushRows(2)
+            .add(1, "one");
+
+        assertThatThrownBy(() -> batch.executePreparedBatch().mapTo(int.class).list()).isInstanceOf(IllegalStateException.class);
+        batch.close();
+    }
+
+    @Test
+    public void testStatementIsReusedBetweenExecutions() throws Exception {
+        PreparedBatch batch = handle.prepareBatch("insert into something (id, name) values (?, ?)")
+            .setFlushRows(2);
+
+        batch.add(1, "one").add(2, "two").add(3, "three");
+        PreparedStatement first = batch.execute((statement, ctx) -> statement.get());
+
+        batch.add(4, "four");
+        PreparedStatement second = batch.execute((statement, ctx) -> statement.get());
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.isClosed()).isFalse();
+        assertThat(handle.createQuery("select count(*) from something").mapTo(int.class).one()).isEqualTo(4);
+
+        batch.close();
+        assertThat(first.isClosed()).isTrue();
+    }
+
+    @Test
+    public void testConfigureAfterAdd() {
+        PreparedBatch batch = handle.prepareBatch("insert into something (id, name) values (?, ?)")
+            .add(1, "one");
+
+        assertThatThrownBy(() -> batch.setFlushRows(10)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> batch.setFlushRows(-1)).isInstanceOf(IllegalArgumentException.class);
+        batch.close();
+    }
+
+    @Test
+    public void testEstimateSize() {
+        PreparedBinding binding = new PreparedBinding(handle.createQuery("select 1").getContext());
+        binding.addPositional(0, (Object) "abcd");
+        binding.addPositional(1, (Object) new byte[10]);
+        binding.addNamed("n", (Object) 5L);
+        binding.addNamed("empty", (Object) null);
+
+        assertThat(PreparedBatch.estimateSize(binding)).isEqualTo(8 + 10 + 8 + 1);
+    }
+}
@@ -15,11 +15,19 @@ package org.jdbi.v3.generator;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Filer;
@@ -28,6 +36,7 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
@@ -37,24 +46,45 @@ import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic.Kind;
 import javax.tools.JavaFileObject;
 
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.extension.ExtensionMetadata;
 import org.jdbi.v3.core.extension.ExtensionMetadata.ExtensionHandlerInvoker;
 import org.jdbi.v3.core.extension.HandleSupplier;
+import org.jdbi.v3.core.extension.annotation.UseExtensionConfigurer;
+import org.jdbi.v3.core.extension.annotation.UseExtensionHandlerCustomizer;
 import org.jdbi.v3.core.internal.JdbiClassUtils;
+import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.core.result.ResultIterable;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.core.statement.Update;
+import org.jdbi.v3.sqlobject.GenerateSqlObject;
+import org.jdbi.v3.sqlobject.SqlMethodDecoratingAnnotation;
 import org.jdbi.v3.sqlobject.SqlObject;
+import org.jdbi.v3.sqlobject.config.ConfiguringAnnotation;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizingAnnotation;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.sqlobject.statement.internal.SpecializedStatements;
 
 import static java.lang.String.format;
 
@@ -65,6 +95,10 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
 
     private static final Set<ElementKind> ACCEPTABLE_ELEMENT_TYPES = EnumSet.of(ElementKind.CLASS, ElementKind.INTERFACE);
 
+    private static final TypeName WILDCARD_QUALIFIED_TYPE = ParameterizedTypeName.get(ClassName.get(QualifiedType.class),
+            WildcardTypeName.subtypeOf(Object.class));
+    private static final TypeName QUERY_RESULT_MAPPER = ParameterizedTypeName.get(Function.class, Query.class, Object.class);
+
     private Elements elementUtils;
     private Types typeUtils;
     private Filer filer;
@@ -146,12 +180,14 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
         private final TypeSpec.Builder implementationBuilder;
         private final TypeSpec.Builder onDemandBuilder;
         private final CodeBlock.Builder implementationCtorBuilder = CodeBlock.builder();
+        private final boolean specialize;
+        private boolean specialized = false;
         private long counter = 0;
 
-
         private SqlObjectFile(TypeElement typeElement) {
             this.typeElement = typeElement;
             this.typeName = TypeName.get(typeElement.asType());
+            this.specialize = typeElement.getAnnotation(GenerateSqlObject.class).specialize() && !hasCustomizedSupertypes();
 
             // create the implementation type, by convention its name ends with "Impl"
             this.implementationBuilder = TypeSpec.classBuilder(getImplementationClassName(typeElement))
@@ -234,7 +270,29 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
                             : format("return (%s)", method.getReturnType());
             final String paramList = paramList(method);
 
-            if (method.getModifiers().contains(Modifier.ABSTRACT)) {
+            if (isSpecializable(method)) {
+                final String specializedField = "s_" + invokerField.substring(2);
+
+                // the specialized code is only used if the handler was not replaced or decorated at runtime
+                implementationBuilder.addField(boolean.class, specializedField, Modifier.PRIVATE, Modifier.FINAL);
+                implementationCtorBuilder.add("$L = $T.isSpecializable($L);\n",
+                        specializedField,
+                        SpecializedStatements.class,
+                        invokerField);
+
+                body.beginControlFlow("if (!$L)", specializedField)
+                        .add("$L $L.invoke($L);\n", castReturn, invokerField, paramList);
+                if (castReturn.isEmpty()) {
+                    body.add("return;\n");
+                }
+                body.endControlFlow();
+
+                body.add("$L $L.call(() -> {\n", castReturn, invokerField)
+                        .indent()
+                        .add(specializedStatement(method, methodField, invokerField.substring(2)))
+                        .unindent()
+                        .add("});\n");
+            } else if (method.getModifiers().contains(Modifier.ABSTRACT)) {
                 body.add("$L $L.invoke($L);\n", castReturn, invokerField, paramList);
             } else {
                 body.add("$L $L.call(() -> ", castReturn, invokerField);
@@ -250,6 +308,183 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
                     .build());
         }
 
+        private boolean isSpecializable(ExecutableElement method) {
+            if (!specialize || !method.getModifiers().contains(Modifier.ABSTRACT)) {
+                return false;
+            }
+
+            final boolean query = method.getAnnotation(SqlQuery.class) != null;
+            final boolean update = method.getAnnotation(SqlUpdate.class) != null;
+            if (query == update) {
+                return false;
+            }
+
+            // any annotation that changes the statement, the handler or the result requires the runtime handler
+            for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+                if (!isSqlMethodAnnotation(annotation) && !isConfiguringAnnotation(annotation)) {
+                    return false;
+                }
+            }
+
+            for (VariableElement parameter : method.getParameters()) {
+                if (!isSpecializableParameter(parameter)) {
+                    return false;
+                }
+            }
+
+            final TypeMirror returnType = method.getReturnType();
+            if (query) {
+                return returnType.getKind() != TypeKind.VOID
+                        && !isOneOf(returnType, ResultIterable.class, Stream.class, ResultIterator.class, Iterator.class);
+            }
+            return returnType.getKind() == TypeKind.VOID
+                    || returnType.getKind() == TypeKind.INT
+                    || returnType.getKind() == TypeKind.LONG
+                    || returnType.getKind() == TypeKind.BOOLEAN
+                    || isOneOf(returnType, Void.class, Integer.class, Long.class, Boolean.class);
+        }
+
+        private boolean isSpecializableParameter(VariableElement parameter) {
+            if (parameter.getAnnotationMirrors().size() != 1 || isOneOf(parameter.asType(), Consumer.class, Function.class)) {
+                return false;
+            }
+            final Bind bind = parameter.getAnnotation(Bind.class);
+            // a @Bind without a name needs the parameter names at runtime
+            return bind != null ? !bind.value().isEmpty() : parameter.getAnnotation(BindBean.class) != null;
+        }
+
+        private boolean hasCustomizedSupertypes() {
+            final Deque<TypeMirror> types = new ArrayDeque<>();
+            final Set<String> seen = new HashSet<>();
+            types.add(typeElement.asType());
+
+            while (!types.isEmpty()) {
+                final TypeMirror type = types.remove();
+                if (type.getKind() != TypeKind.DECLARED || !seen.add(typeUtils.erasure(type).toString())) {
+                    continue;
+                }
+                for (AnnotationMirror annotation : typeUtils.asElement(type).getAnnotationMirrors()) {
+                    if (isMetaAnnotated(annotation, SqlStatementCustomizingAnnotation.class)
+                            || isMetaAnnotated(annotation, SqlMethodDecoratingAnnotation.class)
+                            || isMetaAnnotated(annotation, UseExtensionHandlerCustomizer.class)) {
+                        return true;
+                    }
+                }
+                types.addAll(typeUtils.directSupertypes(type));
+            }
+            return false;
+        }
+
+        private boolean isSqlMethodAnnotation(AnnotationMirror annotation) {
+            final String name = annotationName(annotation);
+            return name.equals(SqlQuery.class.getName())
+                    || name.equals(SqlUpdate.class.getName())
+                    // source annotations such as @Override
+                    || name.startsWith("java.lang.");
+        }
+
+        @SuppressWarnings("removal")
+        private boolean isConfiguringAnnotation(AnnotationMirror annotation) {
+            return isMetaAnnotated(annotation, UseExtensionConfigurer.class)
+                    || isMetaAnnotated(annotation, ConfiguringAnnotation.class);
+        }
+
+        private boolean isMetaAnnotated(AnnotationMirror annotation, Class<? extends Annotation> metaAnnotation) {
+            return annotation.getAnnotationType().asElement().getAnnotation(metaAnnotation) != null;
+        }
+
+        private String annotationName(AnnotationMirror annotation) {
+            return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+        }
+
+        private boolean isOneOf(TypeMirror type, Class<?>... classes) {
+            if (type.getKind() != TypeKind.DECLARED) {
+                return false;
+            }
+            final String erasedName = typeUtils.erasure(type).toString();
+            return Stream.of(classes).anyMatch(klass -> klass.getName().equals(erasedName));
+        }
+
+        // creates, binds and executes the statement for a method that passed isSpecializable()
+        private CodeBlock specializedStatement(ExecutableElement method, String methodField, String suffix) {
+            specialized = true;
+
+            final TypeMirror sqlObjectType = typeUtils.erasure(typeElement.asType());
+            final boolean query = method.getAnnotation(SqlQuery.class) != null;
+            final Set<String> parameterNames = method.getParameters().stream()
+                    .map(p -> p.getSimpleName().toString())
+                    .collect(Collectors.toSet());
+            final String handle = localName("handle", parameterNames);
+            final String statement = localName("statement", parameterNames);
+
+            final CodeBlock.Builder code = CodeBlock.builder()
+                    .add("final $T $L = this.handleSupplier.getHandle();\n", Handle.class, handle)
+                    .add("final $T $L = $L.$L($T.locateSql($L, $T.class, $L));\n",
+                            query ? Query.class : Update.class,
+                            statement,
+                            handle,
+                            query ? "createQuery" : "createUpdate",
+                            SpecializedStatements.class,
+                            handle,
+                            sqlObjectType,
+                            methodField)
+                    .add("$L.attachToHandleForCleanup();\n", statement);
+
+            final List<? extends VariableElement> parameters = method.getParameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                final VariableElement parameter = parameters.get(i);
+                final Name parameterName = parameter.getSimpleName();
+                final Bind bind = parameter.getAnnotation(Bind.class);
+
+                if (bind != null) {
+                    // same bindings as the @Bind customizer: by position and by name
+                    final String typeField = "p_" + suffix + "_" + i;
+                    implementationBuilder.addField(FieldSpec.builder(WILDCARD_QUALIFIED_TYPE, typeField, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                            .initializer("$T.parameterType($T.class, $L, $L)", SpecializedStatements.class, sqlObjectType, methodField, i)
+                            .build());
+                    code.add("$L.bindByType($L, $L, $L);\n", statement, i, parameterName, typeField)
+                            .add("$L.bindByType($S, $L, $L);\n", statement, bind.value(), parameterName, typeField);
+                } else {
+                    final String prefix = parameter.getAnnotation(BindBean.class).value();
+                    if (prefix.isEmpty()) {
+                        code.add("$L.bindBean($L);\n", statement, parameterName);
+                    } else {
+                        code.add("$L.bindBean($S, $L);\n", statement, prefix, parameterName);
+                    }
+                }
+            }
+
+            if (query) {
+                final String resultField = "r_" + suffix;
+                implementationBuilder.addField(FieldSpec.builder(QUERY_RESULT_MAPPER, resultField, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$T.resultMapper($T.class, $L)", SpecializedStatements.class, sqlObjectType, methodField)
+                        .build());
+                return code.add("return $L.apply($L);\n", resultField, statement).build();
+            }
+
+            final TypeMirror returnType = method.getReturnType();
+            if (returnType.getKind() == TypeKind.VOID || isOneOf(returnType, Void.class)) {
+                code.add("$L.execute();\n", statement)
+                        .add("return null;\n");
+            } else if (returnType.getKind() == TypeKind.LONG || isOneOf(returnType, Long.class)) {
+                code.add("return $L.executeLarge();\n", statement);
+            } else if (returnType.getKind() == TypeKind.BOOLEAN || isOneOf(returnType, Boolean.class)) {
+                code.add("return $L.execute() > 0;\n", statement);
+            } else {
+                code.add("return $L.execute();\n", statement);
+            }
+
+            return code.build();
+        }
+
+        private String localName(String name, Set<String> parameterNames) {
+            String localName = name;
+            while (parameterNames.contains(localName)) {
+                localName = localName + "_";
+            }
+            return localName;
+        }
+
         private void addOnDemandMethod(ExecutableElement method) {
             final String castReturn;
             final String jdbiMethod;
@@ -285,6 +520,12 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
         private void writeFile() {
             implementationBuilder.addType(onDemandBuilder.build());
 
+            if (specialized) {
+                // specialized methods get the handle directly
+                implementationBuilder.addField(HandleSupplier.class, "handleSupplier", Modifier.PRIVATE, Modifier.FINAL);
+                implementationCtorBuilder.add("this.handleSupplier = handleSupplier;\n");
+            }
+
             // add constructor at the end, every method added code to it.
             implementationBuilder.addMethod(MethodSpec.constructorBuilder()
                     .addModifiers(Modifier.PUBLIC)
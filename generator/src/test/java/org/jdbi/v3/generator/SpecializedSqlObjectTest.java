@@ -0,0 +1,170 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.generator;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.extension.Extensions;
+import org.jdbi.v3.core.h2.H2DatabasePlugin;
+import org.jdbi.v3.core.mapper.SomethingMapper;
+import org.jdbi.v3.sqlobject.GenerateSqlObject;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.jdbi.v3.testing.junit5.internal.TestingInitializers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+public class SpecializedSqlObjectTest {
+
+    @RegisterExtension
+    public JdbiExtension h2Extension = JdbiExtension.h2()
+        .withPlugins(new H2DatabasePlugin(), new SqlObjectPlugin())
+        .withInitializer(TestingInitializers.something())
+        .withConfig(Extensions.class, c -> c.setAllowProxy(false));
+
+    @Test
+    public void testSpecializedMethods() {
+        Handle handle = h2Extension.getSharedHandle();
+        SomethingDao dao = handle.attach(SomethingDao.class);
+
+        assertThat(dao.insert(1, "Bella")).isOne();
+        dao.insertBean(new Something(2, "Max"));
+
+        assertThat(dao.list()).extracting("id", "name")
+            .containsExactly(tuple(1, "Bella"), tuple(2, "Max"));
+        assertThat(dao.findName(2)).isEqualTo("Max");
+        assertThat(dao.findById(1)).map(Something::getName).contains("Bella");
+        assertThat(dao.findById(3)).isEmpty();
+        assertThat(dao.count()).isEqualTo(2);
+
+        assertThat(dao.rename(2, "Lucy")).isTrue();
+        assertThat(dao.rename(3, "Lucy")).isFalse();
+        assertThat(dao.delete(1)).isOne();
+
+        try (Stream<Something> stream = dao.stream()) {
+            assertThat(stream).extracting("id", "name")
+                .containsExactly(tuple(2, "Lucy"));
+        }
+    }
+
+    @Test
+    public void testSpecializedClass() throws Exception {
+        // specialized methods get the handle from the handle supplier
+        assertThat(SomethingDaoImpl.class.getDeclaredField("handleSupplier")).isNotNull();
+
+        SomethingDao dao = h2Extension.getSharedHandle().attach(SomethingDao.class);
+        assertThat(dao).isInstanceOf(SomethingDaoImpl.class);
+
+        Map<String, Boolean> specialized = new HashMap<>();
+        for (Field field : SomethingDaoImpl.class.getDeclaredFields()) {
+            if (field.getName().startsWith("s_")) {
+                field.setAccessible(true);
+                specialized.put(field.getName().substring(2, field.getName().lastIndexOf('_')), field.getBoolean(dao));
+            }
+        }
+
+        // every method except stream() executes the statement in the generated code
+        assertThat(specialized)
+            .containsOnlyKeys("insert", "insertBean", "rename", "delete", "list", "findName", "findById", "count")
+            .doesNotContainValue(false);
+    }
+
+    @Test
+    public void testDecoratedHandlerIsNotSpecialized() throws Exception {
+        Jdbi jdbi = h2Extension.getJdbi();
+        jdbi.configure(Extensions.class, c -> c.registerHandlerCustomizer((handler, extensionType, method) ->
+            (handleSupplier, target, args) -> handler.invoke(handleSupplier, target, args)));
+
+        try (Handle handle = jdbi.open()) {
+            SomethingDao dao = handle.attach(SomethingDao.class);
+
+            Field field = SomethingDaoImpl.class.getDeclaredField(Stream.of(SomethingDaoImpl.class.getDeclaredFields())
+                .map(Field::getName)
+                .filter(name -> name.startsWith("s_count_"))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new));
+            field.setAccessible(true);
+            assertThat(field.getBoolean(dao)).isFalse();
+        }
+    }
+
+    @Test
+    public void testCustomizedHandlerIsCalled() {
+        AtomicInteger count = new AtomicInteger();
+
+        Jdbi jdbi = h2Extension.getJdbi();
+        jdbi.configure(Extensions.class, c -> c.registerHandlerCustomizer((handler, extensionType, method) ->
+            (handleSupplier, target, args) -> {
+                count.incrementAndGet();
+                return handler.invoke(handleSupplier, target, args);
+            }));
+
+        jdbi.useExtension(SomethingDao.class, dao -> {
+            dao.insert(1, "Bella");
+            assertThat(dao.count()).isOne();
+        });
+
+        assertThat(count).hasValue(2);
+    }
+
+    @GenerateSqlObject(specialize = true)
+    @RegisterRowMapper(SomethingMapper.class)
+    interface SomethingDao {
+
+        @SqlUpdate("insert into something (id, name) values (:id, :name)")
+        int insert(@Bind("id") int id, @Bind("name") String name);
+
+        @SqlUpdate("insert into something (id, name) values (:id, :name)")
+        void insertBean(@BindBean Something something);
+
+        @SqlUpdate("update something set name = :name where id = :id")
+        boolean rename(@Bind("id") int id, @Bind("name") String name);
+
+        @SqlUpdate("delete from something where id = :id")
+        long delete(@Bind("id") int id);
+
+        @SqlQuery("select id, name from something order by id")
+        List<Something> list();
+
+        @SqlQuery("select name from something where id = ?")
+        String findName(@Bind("id") int id);
+
+        @SqlQuery("select id, name from something where id = :id")
+        Optional<Something> findById(@Bind("id") int id);
+
+        @SqlQuery("select count(*) from something")
+        int count();
+
+        // not specialized, streams are returned by the statement handler
+        @SqlQuery("select id, name from something order by id")
+        Stream<Something> stream();
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.java21.telemetry;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import jdk.jfr.consumer.RecordedEvent;
+import org.jdbi.v3.core.JdbiHandleEvent;
+import org.jdbi.v3.core.extension.JdbiExtensionMethodEvent;
+import org.jdbi.v3.core.result.JdbiMappingEvent;
+import org.jdbi.v3.core.statement.JdbiCacheHitEvent;
+import org.jdbi.v3.core.statement.JdbiCacheMissEvent;
+import org.jdbi.v3.core.transaction.JdbiTransactionEvent;
+import org.jdbi.v3.core.transaction.JdbiTransactionRetryEvent;
+import org.jdbi.v3.core.transaction.SerializableTransactionRunner;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@EnableEvent(JdbiHandleEvent.NAME)
+@EnableEvent(JdbiMappingEvent.NAME)
+@EnableEvent(JdbiTransactionEvent.NAME)
+@EnableEvent(JdbiTransactionRetryEvent.NAME)
+@EnableEvent(JdbiCacheHitEvent.NAME)
+@EnableEvent(JdbiCacheMissEvent.NAME)
+@EnableEvent(JdbiExtensionMethodEvent.NAME)
+@EnabledIf("org.jdbi.v3.core.statement.internal.JfrSupport#isFlightRecorderAvailable")
+public class TestJfrEvents {
+    @RegisterExtension
+    JdbiExtension ext = JdbiExtension.h2().withPlugin(new SqlObjectPlugin());
+
+    public JfrEvents jfrEvents = new JfrEvents();
+
+    @BeforeEach
+    void createTable() {
+        try (var h = ext.openHandle()) {
+            h.execute("create table something(id identity primary key, name varchar(50))");
+            h.execute("insert into something (id, name) values (1, 'Zebra'), (2, 'Bananas')");
+        }
+        jfrEvents.awaitEvents();
+        jfrEvents.reset();
+    }
+
+    @Test
+    void testHandleAndMapping() {
+        try (var h = ext.openHandle()) {
+            assertThat(h.createQuery("select name from something order by id")
+                .mapTo(String.class)
+                .list())
+                .containsExactly("Zebra", "Bananas");
+        }
+
+        jfrEvents.awaitEvents();
+
+        assertThat(events(JdbiHandleEvent.NAME))
+            .singleElement()
+            .satisfies(evt -> assertThat(evt.getDuration()).isGreaterThanOrEqualTo(evt.getDuration("connectionAcquisitionTime")));
+        assertThat(events(JdbiMappingEvent.NAME))
+            .singleElement()
+            .satisfies(evt -> assertThat(evt.getLong("rowsMapped")).isEqualTo(2L));
+    }
+
+    @Test
+    void testTransactions() {
+        try (var h = ext.openHandle()) {
+            h.useTransaction(th -> th.execute("update something set name = 'Giraffe' where id = 1"));
+
+            h.begin();
+            h.execute("update something set name = 'Apples' where id = 2");
+            h.rollback();
+        }
+
+        jfrEvents.awaitEvents();
+
+        assertThat(events(JdbiTransactionEvent.NAME))
+            .extracting(evt -> evt.getString("outcome"))
+            .containsExactly("commit", "rollback");
+        assertThat(events(JdbiTransactionEvent.NAME))
+            .extracting(evt -> evt.getString("isolationLevel"))
+            .doesNotContainNull();
+    }
+
+    @Test
+    void testTransactionRetries() throws Exception {
+        ext.getJdbi().setTransactionHandler(new SerializableTransactionRunner());
+
+        AtomicInteger attempts = new AtomicInteger();
+        int result = ext.getJdbi().inTransaction(h -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new SQLException("serialization failure", "40001");
+            }
+            return attempts.get();
+        });
+        assertThat(result).isEqualTo(3);
+
+        jfrEvents.awaitEvents();
+
+        List<RecordedEvent> retries = events(JdbiTransactionRetryEvent.NAME);
+        assertThat(retries).extracting(evt -> evt.getInt("attempt")).containsExactly(1, 2);
+        assertThat(retries).extracting(evt -> evt.getBoolean("retried")).containsOnly(true);
+        assertThat(retries).extracting(evt -> evt.getString("sqlState")).containsOnly("40001");
+    }
+
+    @Test
+    void testCacheHitsAndMisses() {
+        try (var h = ext.openHandle()) {
+            for (int i = 0; i < 3; i++) {
+                h.createQuery("select count(*) from something /* cache events */").mapTo(int.class).one();
+            }
+        }
+
+        jfrEvents.awaitEvents();
+
+        assertThat(events(JdbiCacheMissEvent.NAME))
+            .extracting(evt -> evt.getString("cache"))
+            .containsExactlyInAnyOrder("template", "sqlParser");
+        assertThat(events(JdbiCacheHitEvent.NAME))
+            .extracting(evt -> evt.getString("cache"))
+            .containsExactlyInAnyOrder("template", "template", "sqlParser", "sqlParser");
+    }
+
+    @Test
+    void testExtensionMethod() {
+        ext.getJdbi().useExtension(SomethingDao.class, dao -> assertThat(dao.count()).isEqualTo(2));
+
+        jfrEvents.awaitEvents();
+
+        assertThat(events(JdbiExtensionMethodEvent.NAME))
+            .singleElement()
+            .satisfies(evt -> {
+                assertThat(evt.getClass("extensionType").getName()).isEqualTo(SomethingDao.class.getName());
+                assertThat(evt.getString("method")).isEqualTo("count");
+            });
+    }
+
+    private List<RecordedEvent> events(String name) {
+        return jfrEvents.events()
+            .filter(evt -> evt.getEventType().getName().equals(name))
+            .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+            .collect(Collectors.toList());
+    }
+
+    public interface SomethingDao {
+        @SqlQuery("select count(*) from something")
+        int count();
+    }
+}
@@ -197,6 +197,7 @@ public class TestTelemetry {
 
         private List<Map<String, Object>> extractEventProperties() {
             return jfrEvents.events()
+                .filter(evt -> evt.getEventType().getName().equals(JdbiStatementEvent.NAME))
                 .sorted(Comparator.comparing(RecordedEvent::getStartTime))
                 .map(evt -> {
                     final var result = new TreeMap<String, Object>();
@@ -0,0 +1,160 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.java21.telemetry;
+
+import java.time.Duration;
+
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.jdbi.v3.opentelemetry.JdbiOpenTelemetryPlugin;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestTelemetrySampling {
+    @RegisterExtension
+    JdbiExtension ext = JdbiExtension.h2();
+
+    InMemorySpanExporter traces = new InMemorySpanExporter();
+
+    OpenTelemetrySdk otelSdk;
+    JdbiOpenTelemetryPlugin plugin;
+
+    @BeforeEach
+    void setupOpenTelemetry() {
+        final var tracerProvider = SdkTracerProvider.builder()
+            .addSpanProcessor(SimpleSpanProcessor.create(traces))
+            .setSampler(Sampler.alwaysOn())
+            .build();
+        otelSdk = OpenTelemetrySdk.builder()
+            .setTracerProvider(tracerProvider)
+            .build();
+
+        plugin = new JdbiOpenTelemetryPlugin(otelSdk);
+        ext.getJdbi().installPlugin(plugin);
+
+        try (var h = ext.openHandle()) {
+            h.execute("create table something(id identity primary key, name varchar(50))");
+        }
+        traces.clearExported();
+    }
+
+    @Test
+    void testNotSampled() {
+        plugin.setSamplingRatio(0.0d);
+
+        try (var h = ext.openHandle()) {
+            insertSomething(h, 1, "Zebra");
+            insertSomething(h, 2, "Bananas");
+        }
+
+        assertThat(traces.getExported()).isEmpty();
+    }
+
+    @Test
+    void testRateLimit() {
+        plugin.setMaxSpansPerSecond(2);
+
+        try (var h = ext.openHandle()) {
+            for (int i = 0; i < 10; i++) {
+                insertSomething(h, i, "name" + i);
+            }
+        }
+
+        // the inserts may span two one second windows
+        assertThat(traces.getExported()).hasSizeBetween(2, 4);
+    }
+
+    @Test
+    void testBindingsOnlyForSlowStatements() {
+        plugin.setSlowStatementThreshold(Duration.ofHours(1));
+
+        try (var h = ext.openHandle()) {
+            insertSomething(h, 1, "Zebra");
+        }
+
+        final var spans = traces.getExported();
+        assertThat(spans).hasSize(1);
+        assertThat(spans.get(0).getAttributes().get(JdbiOpenTelemetryPlugin.SQL)).startsWith("insert into something");
+        assertThat(spans.get(0).getAttributes().get(JdbiOpenTelemetryPlugin.BINDING)).isNull();
+    }
+
+    @Test
+    void testSlowStatementIsTracedWhenNotSampled() throws InterruptedException {
+        plugin.setSamplingRatio(0.0d).setSlowStatementThreshold(Duration.ofMillis(20));
+
+        try (var h = ext.openHandle()) {
+            insertSomething(h, 1, "Zebra");
+            try (ResultIterator<String> names = h.createQuery("select name from something where id = :id")
+                    .bind("id", 1)
+                    .mapTo(String.class)
+                    .iterator()) {
+                assertThat(names.next()).isEqualTo("Zebra");
+                Thread.sleep(50);
+            }
+        }
+
+        // the insert is not slow unless the test machine is very busy
+        final var spans = traces.getExported().stream()
+            .filter(s -> s.getName().equals("jdbi.Query"))
+            .toList();
+        assertThat(spans).hasSize(1);
+        final SpanData span = spans.get(0);
+        assertThat(span.getAttributes().get(JdbiOpenTelemetryPlugin.BINDING)).isEqualTo("{named:{id:1}}");
+        assertThat(span.getEndEpochNanos() - span.getStartEpochNanos()).isGreaterThanOrEqualTo(Duration.ofMillis(20).toNanos());
+    }
+
+    @Test
+    void testLinkedBatches() {
+        plugin.setLinkBatches(true);
+
+        final var parent = otelSdk.getTracer("test").spanBuilder("load").startSpan();
+        try (var scope = parent.makeCurrent(); var h = ext.openHandle()) {
+            PreparedBatch batch = h.prepareBatch("insert into something (id, name) values (:id, :name)");
+            for (int i = 0; i < 3; i++) {
+                batch.bind("id", i).bind("name", "name" + i).add();
+            }
+            batch.execute();
+            insertSomething(h, 10, "single");
+        } finally {
+            parent.end();
+        }
+
+        final var spans = traces.getExported();
+        assertThat(spans).extracting(SpanData::getName).containsExactly("load", "jdbi.PreparedBatch", "jdbi.Update");
+
+        final String traceId = parent.getSpanContext().getTraceId();
+        final SpanData batchSpan = spans.get(1);
+        assertThat(batchSpan.getTraceId()).isNotEqualTo(traceId);
+        assertThat(batchSpan.getLinks()).extracting(LinkData::getSpanContext).containsExactly(parent.getSpanContext());
+        assertThat(spans.get(2).getTraceId()).isEqualTo(traceId);
+    }
+
+    private static void insertSomething(Handle h, int id, String name) {
+        h.createUpdate("insert into something (id, name) values (:id, :name)")
+            .bind("id", id)
+            .bind("name", name)
+            .execute();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.metrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jdbi.v3.core.extension.ExtensionMethod;
+
+/**
+ * Counts the executions per fingerprint on a handle since it was opened or the last transaction ended. The number
+ * of fingerprints is bounded, statements with new fingerprints are not counted once the limit is reached.
+ */
+final class DiagnosticsWindow {
+
+    private final Map<String, Executions> executions = new HashMap<>();
+
+    synchronized void record(String fingerprint, ExtensionMethod extensionMethod, int maxFingerprints) {
+        Executions counter = executions.get(fingerprint);
+        if (counter == null) {
+            if (executions.size() >= maxFingerprints) {
+                return;
+            }
+            counter = new Executions(extensionMethod);
+            executions.put(fingerprint, counter);
+        }
+        counter.count++;
+    }
+
+    synchronized List<RepeatedStatement> drain(int repeatThreshold) {
+        if (executions.isEmpty()) {
+            return List.of();
+        }
+
+        List<RepeatedStatement> repeated = new ArrayList<>();
+        executions.forEach((fingerprint, counter) -> {
+            if (counter.count >= repeatThreshold) {
+                repeated.add(new RepeatedStatement(fingerprint, counter.count, counter.extensionMethod));
+            }
+        });
+        executions.clear();
+        return repeated;
+    }
+
+    private static final class Executions {
+        private final ExtensionMethod extensionMethod;
+        private long count;
+
+        Executions(ExtensionMethod extensionMethod) {
+            this.extensionMethod = extensionMethod;
+        }
+    }
+}
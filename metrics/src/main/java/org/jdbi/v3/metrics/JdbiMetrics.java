@@ -0,0 +1,146 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds the metrics recorded by the {@link JdbiMetricsPlugin}. Exporters pull the current values with
+ * {@link #getStatementMetrics()} and the handle and transaction getters. All values are cumulative since the
+ * metrics were created.
+ * <br>
+ * Statements are grouped by their sql fingerprint. The number of fingerprints is bounded, statements with new
+ * fingerprints are recorded under {@link #OTHER_FINGERPRINT} once the limit is reached.
+ */
+public final class JdbiMetrics {
+
+    /** Fingerprint for all statements that were recorded after the fingerprint limit was reached. */
+    public static final String OTHER_FINGERPRINT = "<other>";
+
+    /** The default maximum number of fingerprints. */
+    public static final int DEFAULT_MAX_FINGERPRINTS = 200;
+
+    private final int maxFingerprints;
+    private final ConcurrentMap<String, StatementMetrics> statements = new ConcurrentHashMap<>();
+    private final StatementMetrics otherStatements = new StatementMetrics(OTHER_FINGERPRINT);
+
+    private final FingerprintCache fingerprints;
+
+    private final Histogram connectionAcquisitionTime = new Histogram();
+    private final Histogram handleOpenTime = new Histogram();
+    private final Histogram transactionTime = new Histogram();
+
+    /**
+     * Creates metrics with up to {@link #DEFAULT_MAX_FINGERPRINTS} fingerprints.
+     */
+    public JdbiMetrics() {
+        this(DEFAULT_MAX_FINGERPRINTS);
+    }
+
+    /**
+     * Creates metrics with a limit on the number of fingerprints.
+     *
+     * @param maxFingerprints the maximum number of fingerprints. Must be positive.
+     */
+    public JdbiMetrics(int maxFingerprints) {
+        if (maxFingerprints <= 0) {
+            throw new IllegalArgumentException("maxFingerprints must be > 0");
+        }
+        this.maxFingerprints = maxFingerprints;
+        this.fingerprints = new FingerprintCache(maxFingerprints * 4);
+    }
+
+    /**
+     * Returns the metrics of all statement fingerprints, including {@link #OTHER_FINGERPRINT} if any statement was
+     * recorded under it.
+     *
+     * @return a list of {@link StatementMetrics}
+     */
+    public List<StatementMetrics> getStatementMetrics() {
+        List<StatementMetrics> result = new ArrayList<>(statements.values());
+        if (otherStatements.getExecutionCount() > 0 || otherStatements.getErrorCount() > 0) {
+            result.add(otherStatements);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the metrics for a fingerprint.
+     *
+     * @param fingerprint a statement fingerprint
+     * @return the {@link StatementMetrics} for the fingerprint if any statement was recorded under it
+     */
+    public Optional<StatementMetrics> getStatementMetrics(String fingerprint) {
+        if (OTHER_FINGERPRINT.equals(fingerprint)) {
+            return Optional.of(otherStatements);
+        }
+        return Optional.ofNullable(statements.get(fingerprint));
+    }
+
+    /**
+     * Returns the time in nanoseconds it took to obtain a connection when opening a handle.
+     *
+     * @return a {@link HistogramSnapshot} of the connection acquisition times
+     */
+    public HistogramSnapshot getConnectionAcquisitionTime() {
+        return connectionAcquisitionTime.snapshot();
+    }
+
+    /**
+     * Returns the time in nanoseconds that handles were open.
+     *
+     * @return a {@link HistogramSnapshot} of the handle open times
+     */
+    public HistogramSnapshot getHandleOpenTime() {
+        return handleOpenTime.snapshot();
+    }
+
+    /**
+     * Returns the time in nanoseconds from the start of a transaction until its commit or rollback.
+     *
+     * @return a {@link HistogramSnapshot} of the transaction times
+     */
+    public HistogramSnapshot getTransactionTime() {
+        return transactionTime.snapshot();
+    }
+
+    StatementMetrics forSql(String sql) {
+        String fingerprint = fingerprints.fingerprint(sql);
+
+        StatementMetrics metrics = statements.get(fingerprint);
+        if (metrics != null) {
+            return metrics;
+        }
+        if (statements.size() >= maxFingerprints) {
+            return otherStatements;
+        }
+        return statements.computeIfAbsent(fingerprint, StatementMetrics::new);
+    }
+
+    void recordConnectionAcquisition(long nanos) {
+        connectionAcquisitionTime.record(nanos);
+    }
+
+    void recordHandleOpen(long nanos) {
+        handleOpenTime.record(nanos);
+    }
+
+    void recordTransaction(long nanos) {
+        transactionTime.record(nanos);
+    }
+}
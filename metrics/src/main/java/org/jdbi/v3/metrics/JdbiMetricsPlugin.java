@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.metrics;
+
+import java.sql.SQLException;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.HandleListener;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.spi.JdbiPlugin;
+import org.jdbi.v3.core.statement.SqlStatements;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Records latency histograms for statements, handles and transactions into {@link JdbiMetrics}.
+ * <br>
+ * Statements are timed per stage (see {@link StatementStage}) and grouped by their sql fingerprint. For handles, the
+ * plugin records the time to acquire the connection and how long the handle was open. Transactions are timed from
+ * begin to commit or rollback.
+ * <br>
+ * The plugin wraps the {@link org.jdbi.v3.core.transaction.TransactionHandler} that is configured when the plugin is
+ * installed. Install the plugin after setting a custom transaction handler.
+ *
+ * <pre>
+ * JdbiMetricsPlugin metricsPlugin = new JdbiMetricsPlugin();
+ * jdbi.installPlugin(metricsPlugin);
+ * ...
+ * for (StatementMetrics statement : metricsPlugin.getMetrics().getStatementMetrics()) {
+ *     export(statement.getFingerprint(), statement.getLatency(StatementStage.TOTAL));
+ * }
+ * </pre>
+ */
+public class JdbiMetricsPlugin extends JdbiPlugin.Singleton {
+
+    private final JdbiMetrics metrics;
+
+    /**
+     * Records metrics into a new {@link JdbiMetrics} instance.
+     */
+    public JdbiMetricsPlugin() {
+        this(new JdbiMetrics());
+    }
+
+    /**
+     * Records metrics into the given {@link JdbiMetrics} instance.
+     *
+     * @param metrics the metrics to record into
+     */
+    public JdbiMetricsPlugin(JdbiMetrics metrics) {
+        this.metrics = requireNonNull(metrics, "metrics is null");
+    }
+
+    /**
+     * Returns the metrics that this plugin records into.
+     *
+     * @return the {@link JdbiMetrics}
+     */
+    public JdbiMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void customizeJdbi(Jdbi jdbi) throws SQLException {
+        jdbi.getConfig(SqlStatements.class).addCustomizer(new MetricsStatementCustomizer(metrics));
+        jdbi.setTransactionHandler(new MetricsTransactionHandler(jdbi.getTransactionHandler(), metrics));
+    }
+
+    @Override
+    public Handle customizeHandle(Handle handle) throws SQLException {
+        metrics.recordConnectionAcquisition(handle.getConnectionAcquisitionTime().toNanos());
+
+        final long opened = System.nanoTime();
+        handle.addHandleListener(new HandleListener() {
+            @Override
+            public void handleClosed(Handle closedHandle) {
+                metrics.recordHandleOpen(System.nanoTime() - opened);
+            }
+        });
+        return handle;
+    }
+}
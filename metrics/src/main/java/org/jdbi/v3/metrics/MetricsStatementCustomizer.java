@@ -0,0 +1,132 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.metrics;
+
+import java.sql.PreparedStatement;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jdbi.v3.core.statement.ParsedSql;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.StatementCustomizer;
+
+/**
+ * Times the stages of every statement execution. Each customizer callback ends the stage that was running
+ * and starts the next one. The last stage (mapping) ends when the statement context is closed.
+ */
+final class MetricsStatementCustomizer implements StatementCustomizer {
+
+    private static final int STAGE_COUNT = StatementStage.values().length;
+
+    private final JdbiMetrics metrics;
+    private final ConcurrentMap<StatementContext, StatementTimer> timers = new ConcurrentHashMap<>();
+
+    MetricsStatementCustomizer(JdbiMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void beforeTemplating(PreparedStatement stmt, StatementContext ctx) {
+        // a prepared batch may run the templating more than once for a context.
+        if (!timers.containsKey(ctx)) {
+            timers.put(ctx, new StatementTimer(System.nanoTime()));
+            ctx.addCleanable(() -> finish(ctx));
+        }
+    }
+
+    @Override
+    public void beforeParsing(PreparedStatement stmt, StatementContext ctx) {
+        mark(ctx, StatementStage.RENDER);
+    }
+
+    @Override
+    public void beforeStatementCreation(PreparedStatement stmt, StatementContext ctx) {
+        mark(ctx, StatementStage.PARSE);
+    }
+
+    @Override
+    public void beforeBinding(PreparedStatement stmt, StatementContext ctx) {
+        mark(ctx, StatementStage.PREPARE);
+    }
+
+    @Override
+    public void beforeExecution(PreparedStatement stmt, StatementContext ctx) {
+        mark(ctx, StatementStage.BIND);
+    }
+
+    @Override
+    public void afterExecution(PreparedStatement stmt, StatementContext ctx) {
+        StatementTimer timer = timers.get(ctx);
+        if (timer != null) {
+            timer.mark(StatementStage.EXECUTE, System.nanoTime());
+            timer.executed = true;
+        }
+    }
+
+    private void mark(StatementContext ctx, StatementStage stage) {
+        StatementTimer timer = timers.get(ctx);
+        if (timer != null) {
+            timer.mark(stage, System.nanoTime());
+        }
+    }
+
+    private void finish(StatementContext ctx) {
+        StatementTimer timer = timers.remove(ctx);
+        if (timer == null) {
+            return;
+        }
+
+        StatementMetrics statementMetrics = metrics.forSql(sqlOf(ctx));
+        if (!timer.executed) {
+            statementMetrics.recordError();
+            return;
+        }
+
+        long now = System.nanoTime();
+        timer.mark(StatementStage.MAP, now);
+        timer.stageNanos[StatementStage.TOTAL.ordinal()] = now - timer.start;
+        statementMetrics.recordExecution(timer.stageNanos, ctx.getMappedRows());
+    }
+
+    static String sqlOf(StatementContext ctx) {
+        ParsedSql parsedSql = ctx.getParsedSql();
+        if (parsedSql != null) {
+            return parsedSql.getSql();
+        }
+        String renderedSql = ctx.getRenderedSql();
+        if (renderedSql != null) {
+            return renderedSql;
+        }
+        String rawSql = ctx.getRawSql();
+        return rawSql == null ? "" : rawSql;
+    }
+
+    private static final class StatementTimer {
+        private final long start;
+        private final long[] stageNanos = new long[STAGE_COUNT];
+        private long last;
+        private volatile boolean executed;
+
+        StatementTimer(long start) {
+            this.start = start;
+            this.last = start;
+        }
+
+        // a prepared batch may run stages more than once, the times add up
+        synchronized void mark(StatementStage stage, long now) {
+            stageNanos[stage.ordinal()] += now - last;
+            last = now;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.metrics;
+
+import java.sql.SQLException;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.HandleCallback;
+import org.jdbi.v3.core.transaction.TransactionHandler;
+import org.jdbi.v3.core.transaction.TransactionIsolationLevel;
+
+/**
+ * Records the time from {@link #begin(Handle)} to {@link #commit(Handle)} or {@link #rollback(Handle)}.
+ * Every handle gets its own instance through {@link #specialize(Handle)}. The transaction callbacks of the delegate
+ * begin, commit and roll back through the handle, so they are timed as well.
+ */
+final class MetricsTransactionHandler implements TransactionHandler {
+
+    private final TransactionHandler delegate;
+    private final JdbiMetrics metrics;
+
+    private long transactionStart;
+
+    MetricsTransactionHandler(TransactionHandler delegate, JdbiMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public TransactionHandler specialize(Handle handle) throws SQLException {
+        return new MetricsTransactionHandler(delegate.specialize(handle), metrics);
+    }
+
+    @Override
+    public void begin(Handle handle) {
+        delegate.begin(handle);
+        if (transactionStart == 0) {
+            transactionStart = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void commit(Handle handle) {
+        try {
+            delegate.commit(handle);
+        } finally {
+            recordTransaction();
+        }
+    }
+
+    @Override
+    public void rollback(Handle handle) {
+        try {
+            delegate.rollback(handle);
+        } finally {
+            recordTransaction();
+        }
+    }
+
+    @Override
+    public boolean isInTransaction(Handle handle) {
+        return delegate.isInTransaction(handle);
+    }
+
+    @Override
+    public void savepoint(Handle handle, String savepointName) {
+        delegate.savepoint(handle, savepointName);
+    }
+
+    @Override
+    public void rollbackToSavepoint(Handle handle, String savepointName) {
+        delegate.rollbackToSavepoint(handle, savepointName);
+    }
+
+    @Override
+    public void releaseSavepoint(Handle handle, String savepointName) {
+        delegate.releaseSavepoint(handle, savepointName);
+    }
+
+    @Override
+    public <R, X extends Exception> R inTransaction(Handle handle, HandleCallback<R, X> callback) throws X {
+        return delegate.inTransaction(handle, callback);
+    }
+
+    @Override
+    public <R, X extends Exception> R inTransaction(Handle handle, TransactionIsolationLevel level, HandleCallback<R, X> callback) throws X {
+        return delegate.inTransaction(handle, level, callback);
+    }
+
+    private void recordTransaction() {
+        if (transactionStart != 0) {
+            metrics.recordTransaction(System.nanoTime() - transactionStart);
+            transactionStart = 0;
+        }
+    }
+}
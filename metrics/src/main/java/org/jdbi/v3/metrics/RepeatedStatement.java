@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.metrics;
+
+import java.util.Optional;
+
+import org.jdbi.v3.core.extension.ExtensionMethod;
+
+/**
+ * A statement fingerprint that was executed at least {@link StatementDiagnosticsPlugin#getRepeatThreshold()} times
+ * on the same handle, either within a transaction or outside of any transaction. This is usually a N+1 query pattern.
+ */
+public final class RepeatedStatement {
+
+    private final String fingerprint;
+    private final long executionCount;
+    private final ExtensionMethod extensionMethod;
+
+    RepeatedStatement(String fingerprint, long executionCount, ExtensionMethod extensionMethod) {
+        this.fingerprint = fingerprint;
+        this.executionCount = executionCount;
+        this.extensionMethod = extensionMethod;
+    }
+
+    /**
+     * Returns the fingerprint of the repeated statement.
+     *
+     * @return the sql fingerprint
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns how often the statement was executed.
+     *
+     * @return the number of executions
+     */
+    public long getExecutionCount() {
+        return executionCount;
+    }
+
+    /**
+     * Returns the extension method (e.g. a SQL Object method) that executed the statement for the first time.
+     *
+     * @return the {@link ExtensionMethod} if the statement was executed by an extension
+     */
+    public Optional<ExtensionMethod> getExtensionMethod() {
+        return Optional.ofNullable(extensionMethod);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RepeatedStatement[fingerprint=%s, executionCount=%d, extensionMethod=%s]",
+            fingerprint, executionCount, extensionMethod);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.metrics;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.jdbi.v3.core.extension.ExtensionMethod;
+
+/**
+ * A statement that took at least {@link StatementDiagnosticsPlugin#getSlowStatementThreshold()} to execute.
+ */
+public final class SlowStatement {
+
+    private final String fingerprint;
+    private final Duration executionTime;
+    private final ExtensionMethod extensionMethod;
+
+    SlowStatement(String fingerprint, Duration executionTime, ExtensionMethod extensionMethod) {
+        this.fingerprint = fingerprint;
+        this.executionTime = executionTime;
+        this.extensionMethod = extensionMethod;
+    }
+
+    /**
+     * Returns the fingerprint of the slow statement.
+     *
+     * @return the sql fingerprint
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the time from the start of the execution until the statement completed or failed. This does not
+     * include mapping the results.
+     *
+     * @return the execution time
+     */
+    public Duration getExecutionTime() {
+        return executionTime;
+    }
+
+    /**
+     * Returns the extension method (e.g. a SQL Object method) that executed the statement.
+     *
+     * @return the {@link ExtensionMethod} if the statement was executed by an extension
+     */
+    public Optional<ExtensionMethod> getExtensionMethod() {
+        return Optional.ofNullable(extensionMethod);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SlowStatement[fingerprint=%s, executionTime=%s, extensionMethod=%s]",
+            fingerprint, executionTime, extensionMethod);
+    }
+}
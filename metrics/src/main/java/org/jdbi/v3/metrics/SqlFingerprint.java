@@ -0,0 +1,133 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.metrics;
+
+import org.jdbi.v3.core.internal.UtilityClassException;
+
+/**
+ * Normalizes sql into a fingerprint. Comments are removed, whitespace is collapsed, string and numeric literals are
+ * replaced with {@code ?} and parenthesized lists that only contain parameters are collapsed into {@code (?)}, so
+ * that e.g. {@code in (?, ?, ?)} from a bindList shares its fingerprint with {@code in (?)}.
+ */
+final class SqlFingerprint {
+
+    private SqlFingerprint() {
+        throw new UtilityClassException();
+    }
+
+    static String of(String sql) {
+        StringBuilder out = new StringBuilder(sql.length());
+        int len = sql.length();
+        int i = 0;
+
+        while (i < len) {
+            char c = sql.charAt(i);
+
+            if (c == '\'') {
+                i = skipQuoted(sql, i, '\'');
+                appendParameter(out);
+            } else if (c == '"' || c == '`') {
+                int end = skipQuoted(sql, i, c);
+                out.append(sql, i, end);
+                i = end;
+            } else if (c == '-' && i + 1 < len && sql.charAt(i + 1) == '-') {
+                while (i < len && sql.charAt(i) != '\n') {
+                    i++;
+                }
+                appendSpace(out);
+            } else if (c == '/' && i + 1 < len && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? len : end + 2;
+                appendSpace(out);
+            } else if (Character.isWhitespace(c)) {
+                appendSpace(out);
+                i++;
+            } else if (Character.isDigit(c) && !isIdentifierEnd(out)) {
+                while (i < len && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                appendParameter(out);
+            } else if (c == ')') {
+                collapseParameterList(out);
+                out.append(c);
+                i++;
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+
+        int end = out.length();
+        if (end > 0 && out.charAt(end - 1) == ' ') {
+            out.setLength(end - 1);
+        }
+        return out.toString();
+    }
+
+    private static int skipQuoted(String sql, int start, char quote) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == quote) {
+                // doubled quotes are an escaped quote
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static void appendSpace(StringBuilder out) {
+        int len = out.length();
+        if (len > 0 && out.charAt(len - 1) != ' ') {
+            out.append(' ');
+        }
+    }
+
+    private static void appendParameter(StringBuilder out) {
+        out.append('?');
+    }
+
+    private static boolean isIdentifierEnd(StringBuilder out) {
+        if (out.length() == 0) {
+            return false;
+        }
+        char last = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_' || last == '$';
+    }
+
+    // replaces "(?, ?, ?" with "(?" right before the closing parenthesis is appended
+    private static void collapseParameterList(StringBuilder out) {
+        int i = out.length() - 1;
+        int parameters = 0;
+        while (i >= 0) {
+            char c = out.charAt(i);
+            if (c == '?') {
+                parameters++;
+            } else if (c == '(') {
+                break;
+            } else if (c != ',' && c != ' ') {
+                return;
+            }
+            i--;
+        }
+        if (i >= 0 && parameters > 0) {
+            out.setLength(i + 1);
+            out.append('?');
+        }
+    }
+}
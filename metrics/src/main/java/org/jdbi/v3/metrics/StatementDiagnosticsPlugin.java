@@ -0,0 +1,309 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.metrics;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.HandleListener;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.spi.JdbiPlugin;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.StatementContextListener;
+import org.jdbi.v3.core.transaction.DelegatingTransactionHandler;
+import org.jdbi.v3.core.transaction.TransactionHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Finds repeated and slow statements.
+ * <br>
+ * Statements are grouped by their sql fingerprint and counted per handle. The counts are checked when a transaction
+ * ends and when the handle is closed, every fingerprint that was executed at least {@link #getRepeatThreshold()}
+ * times is reported as a {@link RepeatedStatement}. Many executions of the same fingerprint in one unit of work
+ * are usually a N+1 query pattern, e.g. a SQL Object method that is called in a loop. Statements that took at least
+ * {@link #getSlowStatementThreshold()} to execute are reported as a {@link SlowStatement}.
+ * <br>
+ * By default, all findings are logged. Set a {@link StatementDiagnosticsReporter} to collect them instead.
+ * <br>
+ * Counting needs to fingerprint every statement. In production, use {@link #setSamplingRatio(double)} to only count
+ * the statements on some of the handles. Slow statements are found on all handles, only the slow ones are fingerprinted.
+ *
+ * <pre>
+ * jdbi.installPlugin(new StatementDiagnosticsPlugin()
+ *     .setRepeatThreshold(50)
+ *     .setSlowStatementThreshold(Duration.ofMillis(500))
+ *     .setSamplingRatio(0.01));
+ * </pre>
+ */
+public class StatementDiagnosticsPlugin extends JdbiPlugin.Singleton {
+
+    /** The default number of executions of a fingerprint that is reported as repeated. */
+    public static final int DEFAULT_REPEAT_THRESHOLD = 20;
+
+    /** The default execution time that is reported as slow. */
+    public static final Duration DEFAULT_SLOW_STATEMENT_THRESHOLD = Duration.ofSeconds(1);
+
+    /** The default maximum number of fingerprints that are counted per handle. */
+    public static final int DEFAULT_MAX_FINGERPRINTS = 100;
+
+    private static final Logger LOG = LoggerFactory.getLogger(StatementDiagnosticsPlugin.class);
+
+    private final ConcurrentMap<Connection, DiagnosticsWindow> windows = new ConcurrentHashMap<>();
+    private final FingerprintCache fingerprints = new FingerprintCache(1_000);
+
+    private volatile StatementDiagnosticsReporter reporter = new LoggingReporter();
+    private volatile int repeatThreshold = DEFAULT_REPEAT_THRESHOLD;
+    private volatile Duration slowStatementThreshold = DEFAULT_SLOW_STATEMENT_THRESHOLD;
+    private volatile int maxFingerprints = DEFAULT_MAX_FINGERPRINTS;
+    private volatile double samplingRatio = 1.0d;
+
+    /**
+     * Sets the reporter for repeated and slow statements. The default reporter logs them.
+     *
+     * @param reporter the reporter
+     * @return this
+     */
+    public StatementDiagnosticsPlugin setReporter(StatementDiagnosticsReporter reporter) {
+        this.reporter = requireNonNull(reporter, "reporter is null");
+        return this;
+    }
+
+    /**
+     * Sets the number of executions of a fingerprint on a handle or in a transaction that is reported as repeated.
+     *
+     * @param repeatThreshold the number of executions. Must be at least 2.
+     * @return this
+     */
+    public StatementDiagnosticsPlugin setRepeatThreshold(int repeatThreshold) {
+        if (repeatThreshold < 2) {
+            throw new IllegalArgumentException("repeatThreshold must be >= 2");
+        }
+        this.repeatThreshold = repeatThreshold;
+        return this;
+    }
+
+    /**
+     * Returns the number of executions of a fingerprint that is reported as repeated.
+     *
+     * @return the repeat threshold
+     */
+    public int getRepeatThreshold() {
+        return repeatThreshold;
+    }
+
+    /**
+     * Sets the execution time of a statement that is reported as slow.
+     *
+     * @param slowStatementThreshold the execution time or {@code null} to not report slow statements
+     * @return this
+     */
+    public StatementDiagnosticsPlugin setSlowStatementThreshold(Duration slowStatementThreshold) {
+        if (slowStatementThreshold != null && slowStatementThreshold.isNegative()) {
+            throw new IllegalArgumentException("slowStatementThreshold must not be negative");
+        }
+        this.slowStatementThreshold = slowStatementThreshold;
+        return this;
+    }
+
+    /**
+     * Returns the execution time of a statement that is reported as slow.
+     *
+     * @return the slow statement threshold or {@code null} if slow statements are not reported
+     */
+    public Duration getSlowStatementThreshold() {
+        return slowStatementThreshold;
+    }
+
+    /**
+     * Sets the maximum number of fingerprints that are counted on a handle. Statements with new fingerprints are
+     * not counted once the limit is reached.
+     *
+     * @param maxFingerprints the maximum number of fingerprints. Must be positive.
+     * @return this
+     */
+    public StatementDiagnosticsPlugin setMaxFingerprints(int maxFingerprints) {
+        if (maxFingerprints <= 0) {
+            throw new IllegalArgumentException("maxFingerprints must be > 0");
+        }
+        this.maxFingerprints = maxFingerprints;
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of fingerprints that are counted on a handle.
+     *
+     * @return the maximum number of fingerprints
+     */
+    public int getMaxFingerprints() {
+        return maxFingerprints;
+    }
+
+    /**
+     * Sets the ratio of handles on which statements are counted to find repeated statements. The decision is made
+     * when the handle is opened.
+     *
+     * @param samplingRatio the ratio between 0 (no handles) and 1 (all handles)
+     * @return this
+     */
+    public StatementDiagnosticsPlugin setSamplingRatio(double samplingRatio) {
+        if (samplingRatio < 0.0d || samplingRatio > 1.0d) {
+            throw new IllegalArgumentException("samplingRatio must be between 0 and 1");
+        }
+        this.samplingRatio = samplingRatio;
+        return this;
+    }
+
+    /**
+     * Returns the ratio of handles on which statements are counted.
+     *
+     * @return the sampling ratio
+     */
+    public double getSamplingRatio() {
+        return samplingRatio;
+    }
+
+    @Override
+    public void customizeJdbi(Jdbi jdbi) throws SQLException {
+        jdbi.getConfig(SqlStatements.class).addContextListener(new StatementContextListener() {
+            @Override
+            public void contextCreated(StatementContext statementContext) {
+                // runs once when the statement is done, contextCleaned may be called more than once
+                statementContext.addCleanable(() -> statementDone(statementContext));
+            }
+        });
+        jdbi.setTransactionHandler(new DiagnosticsTransactionHandler(jdbi.getTransactionHandler()));
+    }
+
+    @Override
+    public Handle customizeHandle(Handle handle) throws SQLException {
+        double ratio = samplingRatio;
+        if (ratio >= 1.0d || ThreadLocalRandom.current().nextDouble() < ratio) {
+            final Connection connection = handle.getConnection();
+            windows.put(connection, new DiagnosticsWindow());
+            handle.addHandleListener(new HandleListener() {
+                @Override
+                public void handleClosed(Handle closedHandle) {
+                    DiagnosticsWindow window = windows.remove(connection);
+                    if (window != null) {
+                        report(window);
+                    }
+                }
+            });
+        }
+        return handle;
+    }
+
+    private void statementDone(StatementContext ctx) {
+        Instant executionMoment = ctx.getExecutionMoment();
+        Instant endMoment = ctx.getCompletionMoment() != null ? ctx.getCompletionMoment() : ctx.getExceptionMoment();
+        if (executionMoment == null || endMoment == null) {
+            return; // never executed
+        }
+
+        Connection connection = ctx.getConnection();
+        DiagnosticsWindow window = connection == null ? null : windows.get(connection);
+
+        Duration threshold = slowStatementThreshold;
+        Duration executionTime = threshold == null ? null : Duration.between(executionMoment, endMoment);
+        boolean slow = executionTime != null && executionTime.compareTo(threshold) >= 0;
+
+        if (window == null && !slow) {
+            return;
+        }
+
+        String fingerprint = fingerprints.fingerprint(MetricsStatementCustomizer.sqlOf(ctx));
+        if (window != null) {
+            window.record(fingerprint, ctx.getExtensionMethod(), maxFingerprints);
+        }
+        if (slow) {
+            reporter.slowStatement(new SlowStatement(fingerprint, executionTime, ctx.getExtensionMethod()));
+        }
+    }
+
+    private void report(DiagnosticsWindow window) {
+        StatementDiagnosticsReporter currentReporter = reporter;
+        for (RepeatedStatement repeatedStatement : window.drain(repeatThreshold)) {
+            currentReporter.repeatedStatement(repeatedStatement);
+        }
+    }
+
+    /**
+     * Checks the counts when a transaction ends, statements in a transaction are counted separately from the
+     * statements before and after it.
+     */
+    private final class DiagnosticsTransactionHandler extends DelegatingTransactionHandler {
+
+        DiagnosticsTransactionHandler(TransactionHandler delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public TransactionHandler specialize(Handle handle) throws SQLException {
+            return new DiagnosticsTransactionHandler(getDelegate().specialize(handle));
+        }
+
+        @Override
+        public void commit(Handle handle) {
+            try {
+                super.commit(handle);
+            } finally {
+                transactionEnded(handle);
+            }
+        }
+
+        @Override
+        public void rollback(Handle handle) {
+            try {
+                super.rollback(handle);
+            } finally {
+                transactionEnded(handle);
+            }
+        }
+
+        private void transactionEnded(Handle handle) {
+            DiagnosticsWindow window = windows.get(handle.getConnection());
+            if (window != null) {
+                report(window);
+            }
+        }
+    }
+
+    private static final class LoggingReporter implements StatementDiagnosticsReporter {
+        @Override
+        public void repeatedStatement(RepeatedStatement repeatedStatement) {
+            LOG.warn("Statement executed {} times in one unit of work (N+1 query?): {}{}",
+                repeatedStatement.getExecutionCount(),
+                repeatedStatement.getFingerprint(),
+                repeatedStatement.getExtensionMethod().map(m -> " from " + m).orElse(""));
+        }
+
+        @Override
+        public void slowStatement(SlowStatement slowStatement) {
+            LOG.warn("Slow statement took {}ms: {}{}",
+                slowStatement.getExecutionTime().toMillis(),
+                slowStatement.getFingerprint(),
+                slowStatement.getExtensionMethod().map(m -> " from " + m).orElse(""));
+        }
+    }
+}
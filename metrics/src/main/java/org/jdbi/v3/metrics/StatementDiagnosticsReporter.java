@@ -0,0 +1,36 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.metrics;
+
+/**
+ * Receives the findings of the {@link StatementDiagnosticsPlugin}. Reporters are called on the thread that executed
+ * the statement, ended the transaction or closed the handle, so they should return quickly.
+ */
+public interface StatementDiagnosticsReporter {
+
+    /**
+     * Called when the statements of a handle or transaction are aggregated, for every fingerprint that was executed
+     * at least as often as the repeat threshold.
+     *
+     * @param repeatedStatement the repeated statement
+     */
+    default void repeatedStatement(RepeatedStatement repeatedStatement) {}
+
+    /**
+     * Called after a statement that took at least the slow statement threshold to execute.
+     *
+     * @param slowStatement the slow statement
+     */
+    default void slowStatement(SlowStatement slowStatement) {}
+}
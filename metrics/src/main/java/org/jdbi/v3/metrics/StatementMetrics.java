@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics for all statements that share a sql fingerprint.
+ */
+public final class StatementMetrics {
+
+    private static final StatementStage[] STAGES = StatementStage.values();
+
+    private final String fingerprint;
+    private final Histogram[] latencies = new Histogram[STAGES.length];
+    private final Histogram rowsMapped = new Histogram();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    StatementMetrics(String fingerprint) {
+        this.fingerprint = fingerprint;
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new Histogram();
+        }
+    }
+
+    /**
+     * Returns the sql fingerprint. Literals are replaced with {@code ?} and lists of parameters are collapsed into a
+     * single parameter, so that statements which only differ in their values share a fingerprint.
+     *
+     * @return the sql fingerprint
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the number of statements that executed successfully.
+     *
+     * @return the number of executions
+     */
+    public long getExecutionCount() {
+        return executions.sum();
+    }
+
+    /**
+     * Returns the number of statements that were closed before they executed successfully.
+     *
+     * @return the number of failed statements
+     */
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * Returns the latencies in nanoseconds for a stage of the statement execution.
+     *
+     * @param stage the statement stage
+     * @return a {@link HistogramSnapshot} of the latencies
+     */
+    public HistogramSnapshot getLatency(StatementStage stage) {
+        return latencies[stage.ordinal()].snapshot();
+    }
+
+    /**
+     * Returns the number of rows mapped per statement.
+     *
+     * @return a {@link HistogramSnapshot} of the mapped rows
+     */
+    public HistogramSnapshot getRowsMapped() {
+        return rowsMapped.snapshot();
+    }
+
+    void recordExecution(long[] stageNanos, long mappedRows) {
+        for (int i = 0; i < stageNanos.length; i++) {
+            latencies[i].record(stageNanos[i]);
+        }
+        rowsMapped.record(mappedRows);
+        executions.increment();
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    @Override
+    public String toString() {
+        return "StatementMetrics[" + fingerprint + "]";
+    }
+}
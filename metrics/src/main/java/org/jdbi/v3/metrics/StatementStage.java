@@ -0,0 +1,34 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.metrics;
+
+/**
+ * The stages of a statement execution that are timed separately.
+ */
+public enum StatementStage {
+    /** Rendering the sql template with the {@link org.jdbi.v3.core.statement.TemplateEngine}. */
+    RENDER,
+    /** Parsing the named parameters with the {@link org.jdbi.v3.core.statement.SqlParser}. */
+    PARSE,
+    /** Creating the JDBC statement with the {@link org.jdbi.v3.core.statement.StatementBuilder}. */
+    PREPARE,
+    /** Binding the arguments to the statement. */
+    BIND,
+    /** Executing the statement. */
+    EXECUTE,
+    /** Mapping the results, from the end of the execution until the statement is closed. */
+    MAP,
+    /** The whole statement, from rendering until the statement is closed. */
+    TOTAL
+}
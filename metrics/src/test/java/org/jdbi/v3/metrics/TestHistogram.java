@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class TestHistogram {
+
+    @Test
+    public void testEmpty() {
+        HistogramSnapshot snapshot = new Histogram().snapshot();
+
+        assertThat(snapshot.getCount()).isZero();
+        assertThat(snapshot.getMean()).isZero();
+        assertThat(snapshot.getValueAtPercentile(99)).isZero();
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 20; i++) {
+            histogram.record(i);
+        }
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.getCount()).isEqualTo(20);
+        assertThat(snapshot.getSum()).isEqualTo(210);
+        assertThat(snapshot.getMin()).isOne();
+        assertThat(snapshot.getMax()).isEqualTo(20);
+        assertThat(snapshot.getValueAtPercentile(50)).isEqualTo(10);
+        assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(20);
+    }
+
+    @Test
+    public void testPercentilesWithinPrecision() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertThat((double) snapshot.getValueAtPercentile(50)).isCloseTo(50_000_000, within(50_000_000 / 16.0));
+        assertThat((double) snapshot.getValueAtPercentile(99)).isCloseTo(99_000_000, within(99_000_000 / 16.0));
+        assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(100_000_000);
+    }
+
+    @Test
+    public void testBucketsAreContiguous() {
+        for (long value = 0; value < 100_000; value++) {
+            int index = Histogram.bucketIndex(value);
+            assertThat(Histogram.bucketUpperBound(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(Histogram.bucketUpperBound(index - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    public void testLargeValues() {
+        Histogram histogram = new Histogram();
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-1);
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.getMin()).isZero();
+        assertThat(snapshot.getMax()).isEqualTo(Long.MAX_VALUE);
+        assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.metrics;
+
+import java.util.List;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.statement.StatementException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestJdbiMetricsPlugin {
+
+    private final JdbiMetricsPlugin plugin = new JdbiMetricsPlugin(new JdbiMetrics(3));
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance()
+        .withInitializer(H2DatabaseExtension.SOMETHING_INITIALIZER)
+        .withPlugin(plugin);
+
+    @Test
+    public void testRecordsStatementStages() {
+        Handle handle = h2Extension.getSharedHandle();
+        handle.createUpdate("insert into something (id, name) values (1, 'one'), (2, 'two'), (3, 'three')").execute();
+
+        for (int i = 0; i < 10; i++) {
+            List<String> names = handle.createQuery("select name from something where id in (<ids>) order by id")
+                .bindList("ids", List.of(1, 2, 3).subList(0, 1 + i % 3))
+                .mapTo(String.class)
+                .list();
+            assertThat(names).isNotEmpty();
+        }
+
+        StatementMetrics query = plugin.getMetrics().getStatementMetrics("select name from something where id in (?) order by id")
+            .orElseThrow(AssertionError::new);
+
+        assertThat(query.getExecutionCount()).isEqualTo(10);
+        assertThat(query.getErrorCount()).isZero();
+        for (StatementStage stage : StatementStage.values()) {
+            assertThat(query.getLatency(stage).getCount()).isEqualTo(10);
+        }
+        assertThat(query.getLatency(StatementStage.TOTAL).getMax()).isGreaterThan(query.getLatency(StatementStage.EXECUTE).getMin());
+        assertThat(query.getRowsMapped().getSum()).isEqualTo(1 + 2 + 3 + 1 + 2 + 3 + 1 + 2 + 3 + 1);
+        assertThat(query.getRowsMapped().getMax()).isEqualTo(3);
+    }
+
+    @Test
+    public void testRecordsErrors() {
+        Handle handle = h2Extension.getSharedHandle();
+        assertThatThrownBy(() -> handle.createUpdate("insert into something (id, name) values (1, 'one'), (1, 'two')").execute())
+            .isInstanceOf(StatementException.class);
+
+        StatementMetrics insert = plugin.getMetrics().getStatementMetrics("insert into something (id, name) values (?), (?)")
+            .orElseThrow(AssertionError::new);
+        assertThat(insert.getErrorCount()).isOne();
+        assertThat(insert.getExecutionCount()).isZero();
+    }
+
+    @Test
+    public void testLimitsFingerprints() {
+        Handle handle = h2Extension.getSharedHandle();
+        for (int i = 0; i < 10; i++) {
+            handle.createQuery("select id as c" + i + " from something").mapTo(Integer.class).list();
+        }
+
+        List<StatementMetrics> statements = plugin.getMetrics().getStatementMetrics();
+        assertThat(statements).hasSize(4);
+        assertThat(plugin.getMetrics().getStatementMetrics(JdbiMetrics.OTHER_FINGERPRINT))
+            .hasValueSatisfying(other -> assertThat(other.getExecutionCount()).isPositive());
+    }
+
+    @Test
+    public void testRecordsHandlesAndTransactions() {
+        h2Extension.getJdbi().useTransaction(handle -> handle.execute("insert into something (id, name) values (1, 'one')"));
+        h2Extension.getJdbi().useHandle(handle -> {
+            handle.begin();
+            handle.execute("insert into something (id, name) values (2, 'two')");
+            handle.rollback();
+        });
+
+        JdbiMetrics metrics = plugin.getMetrics();
+        // the shared handle is still open
+        assertThat(metrics.getConnectionAcquisitionTime().getCount()).isEqualTo(3);
+        assertThat(metrics.getHandleOpenTime().getCount()).isEqualTo(2);
+        assertThat(metrics.getTransactionTime().getCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestSqlFingerprint {
+
+    @Test
+    public void testReplacesLiterals() {
+        assertThat(SqlFingerprint.of("select * from something where id = 42 and name = 'it''s'"))
+            .isEqualTo("select * from something where id = ? and name = ?");
+    }
+
+    @Test
+    public void testKeepsIdentifiers() {
+        assertThat(SqlFingerprint.of("select col1, \"Weird 1\" from table2 where x = 1.5"))
+            .isEqualTo("select col1, \"Weird 1\" from table2 where x = ?");
+    }
+
+    @Test
+    public void testCollapsesWhitespaceAndComments() {
+        assertThat(SqlFingerprint.of("  select id -- the id\n   from /* table */ something  "))
+            .isEqualTo("select id from something");
+    }
+
+    @Test
+    public void testCollapsesParameterLists() {
+        assertThat(SqlFingerprint.of("select * from something where id in (?, ?, ?)"))
+            .isEqualTo(SqlFingerprint.of("select * from something where id in (?)"))
+            .isEqualTo("select * from something where id in (?)");
+        assertThat(SqlFingerprint.of("select * from something where id in (1,2,3)"))
+            .isEqualTo("select * from something where id in (?)");
+    }
+
+    @Test
+    public void testKeepsFunctionCalls() {
+        assertThat(SqlFingerprint.of("select coalesce(name, ?) from something"))
+            .isEqualTo("select coalesce(name, ?) from something");
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.metrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestStatementDiagnosticsPlugin {
+
+    private static final String SELECT_BY_ID = "select name from something where id = :id";
+    private static final String SELECT_BY_ID_FINGERPRINT = "select name from something where id = ?";
+
+    private final List<RepeatedStatement> repeated = new CopyOnWriteArrayList<>();
+    private final List<SlowStatement> slow = new CopyOnWriteArrayList<>();
+
+    private final StatementDiagnosticsPlugin plugin = new StatementDiagnosticsPlugin()
+        .setRepeatThreshold(5)
+        .setReporter(new StatementDiagnosticsReporter() {
+            @Override
+            public void repeatedStatement(RepeatedStatement repeatedStatement) {
+                repeated.add(repeatedStatement);
+            }
+
+            @Override
+            public void slowStatement(SlowStatement slowStatement) {
+                slow.add(slowStatement);
+            }
+        });
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance()
+        .withInitializer(H2DatabaseExtension.SOMETHING_INITIALIZER)
+        .withPlugin(plugin);
+
+    @Test
+    public void testRepeatedStatementOnHandle() {
+        h2Extension.getJdbi().useHandle(handle -> {
+            for (int i = 0; i < 5; i++) {
+                selectById(handle, i);
+            }
+            // reported when the handle is closed
+            assertThat(repeated).isEmpty();
+        });
+
+        assertThat(repeated).singleElement().satisfies(statement -> {
+            assertThat(statement.getFingerprint()).isEqualTo(SELECT_BY_ID_FINGERPRINT);
+            assertThat(statement.getExecutionCount()).isEqualTo(5);
+            assertThat(statement.getExtensionMethod()).isEmpty();
+        });
+    }
+
+    @Test
+    public void testBelowThreshold() {
+        h2Extension.getJdbi().useHandle(handle -> {
+            for (int i = 0; i < 4; i++) {
+                selectById(handle, i);
+            }
+        });
+
+        assertThat(repeated).isEmpty();
+    }
+
+    @Test
+    public void testTransactionsAreCountedSeparately() {
+        plugin.setRepeatThreshold(3);
+
+        h2Extension.getJdbi().useHandle(handle -> {
+            handle.execute("insert into something (id, name) values (1, 'one')");
+            handle.useTransaction(h -> {
+                for (int i = 0; i < 3; i++) {
+                    selectById(h, 1);
+                }
+            });
+            assertThat(repeated).hasSize(1);
+
+            for (int i = 0; i < 2; i++) {
+                selectById(handle, 1);
+            }
+        });
+
+        assertThat(repeated).hasSize(1);
+    }
+
+    @Test
+    public void testSamplingRatio() {
+        plugin.setSamplingRatio(0.0d);
+
+        h2Extension.getJdbi().useHandle(handle -> {
+            for (int i = 0; i < 10; i++) {
+                selectById(handle, i);
+            }
+        });
+
+        assertThat(repeated).isEmpty();
+    }
+
+    @Test
+    public void testMaxFingerprints() {
+        plugin.setMaxFingerprints(1);
+
+        h2Extension.getJdbi().useHandle(handle -> {
+            for (int i = 0; i < 5; i++) {
+                selectById(handle, i);
+                handle.createQuery("select id from something where name = :name").bind("name", "x").mapTo(Integer.class).list();
+            }
+        });
+
+        assertThat(repeated).extracting(RepeatedStatement::getFingerprint).containsExactly(SELECT_BY_ID_FINGERPRINT);
+    }
+
+    @Test
+    public void testSlowStatements() {
+        plugin.setSlowStatementThreshold(Duration.ZERO);
+
+        h2Extension.getJdbi().useHandle(handle -> selectById(handle, 1));
+
+        assertThat(slow).singleElement().satisfies(statement -> {
+            assertThat(statement.getFingerprint()).isEqualTo(SELECT_BY_ID_FINGERPRINT);
+            assertThat(statement.getExecutionTime()).isGreaterThanOrEqualTo(Duration.ZERO);
+        });
+
+        slow.clear();
+        plugin.setSlowStatementThreshold(null);
+        h2Extension.getJdbi().useHandle(handle -> selectById(handle, 1));
+        assertThat(slow).isEmpty();
+    }
+
+    @Test
+    public void testInvalidSettings() {
+        assertThatThrownBy(() -> plugin.setRepeatThreshold(1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> plugin.setSamplingRatio(1.5d)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> plugin.setMaxFingerprints(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> plugin.setSlowStatementThreshold(Duration.ofMillis(-1))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void selectById(Handle handle, int id) {
+        handle.createQuery(SELECT_BY_ID).bind("id", id).mapTo(String.class).findOne();
+    }
+}
@@ -14,20 +14,44 @@
 package org.jdbi.v3.opentelemetry;
 
 import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.spi.JdbiPlugin;
+import org.jdbi.v3.core.statement.Batch;
+import org.jdbi.v3.core.statement.PreparedBatch;
 import org.jdbi.v3.core.statement.SqlStatements;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.core.statement.StatementContextListener;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * Enable OpenTelemetry support.
  * Emits a trace span for every statement executed by Jdbi.
+ * <br>
+ * By default, every statement is traced with its sql, bindings and number of mapped rows. To reduce the overhead at
+ * high statement rates, statements can be sampled before a span is created:
+ * <ul>
+ *     <li>{@link #setSamplingRatio(double)} traces only a fraction of the statements.</li>
+ *     <li>{@link #setMaxSpansPerSecond(long)} limits the number of traced statements per second.</li>
+ *     <li>{@link #setSlowStatementThreshold(Duration)} describes the bindings only for statements that took at least
+ *     the threshold. Statements that were not sampled but are slow are still traced, with a span that is created
+ *     when the statement finishes.</li>
+ * </ul>
+ * Statements that are neither sampled nor timed do not create a span and register no cleanup.
  */
 public class JdbiOpenTelemetryPlugin extends JdbiPlugin.Singleton {
     public static final AttributeKey<String> SQL = AttributeKey.stringKey("sql");
@@ -36,6 +60,11 @@ public class JdbiOpenTelemetryPlugin extends JdbiPlugin.Singleton {
 
     private final Tracer tracer;
 
+    private volatile double samplingRatio = 1.0d;
+    private volatile long slowStatementThresholdNanos;
+    private volatile boolean linkBatches;
+    private final RateLimiter rateLimiter = new RateLimiter();
+
     /**
      * Enable OpenTelemetry support with the global OpenTelemetry instance.
      */
@@ -51,31 +80,170 @@ public class JdbiOpenTelemetryPlugin extends JdbiPlugin.Singleton {
         tracer = telemetry.getTracer("jdbi");
     }
 
+    /**
+     * Sets the fraction of statements that are traced. The decision is made before a span is created.
+     *
+     * @param samplingRatio a value between 0 (no statement is sampled) and 1 (every statement is sampled, the default)
+     * @return this
+     * @since 3.50.0
+     */
+    public JdbiOpenTelemetryPlugin setSamplingRatio(final double samplingRatio) {
+        if (samplingRatio < 0.0d || samplingRatio > 1.0d) {
+            throw new IllegalArgumentException("samplingRatio must be between 0 and 1");
+        }
+        this.samplingRatio = samplingRatio;
+        return this;
+    }
+
+    /**
+     * Limits the number of sampled statements per second. Statements over the limit are treated as not sampled.
+     *
+     * @param maxSpansPerSecond the maximum number of sampled statements per second, 0 for no limit (the default)
+     * @return this
+     * @since 3.50.0
+     */
+    public JdbiOpenTelemetryPlugin setMaxSpansPerSecond(final long maxSpansPerSecond) {
+        if (maxSpansPerSecond < 0) {
+            throw new IllegalArgumentException("maxSpansPerSecond must not be negative");
+        }
+        rateLimiter.maxPerSecond = maxSpansPerSecond;
+        return this;
+    }
+
+    /**
+     * Sets the duration above which a statement is considered slow. Bindings are only described for slow statements,
+     * and slow statements are traced even if they were not sampled.
+     *
+     * @param slowStatementThreshold the threshold, {@link Duration#ZERO} to describe the bindings of every sampled
+     *                               statement and to trace only sampled statements (the default)
+     * @return this
+     * @since 3.50.0
+     */
+    public JdbiOpenTelemetryPlugin setSlowStatementThreshold(final Duration slowStatementThreshold) {
+        requireNonNull(slowStatementThreshold, "slowStatementThreshold is null");
+        if (slowStatementThreshold.isNegative()) {
+            throw new IllegalArgumentException("slowStatementThreshold must not be negative");
+        }
+        this.slowStatementThresholdNanos = slowStatementThreshold.toNanos();
+        return this;
+    }
+
+    /**
+     * Trace batches ({@link Batch} and {@link PreparedBatch}) in a trace of their own, with a link to the span that
+     * was current when the batch was created. This keeps large bulk loads from growing a single trace without limits.
+     *
+     * @param linkBatches true to start a new trace for every batch, false to trace batches as child spans (the default)
+     * @return this
+     * @since 3.50.0
+     */
+    public JdbiOpenTelemetryPlugin setLinkBatches(final boolean linkBatches) {
+        this.linkBatches = linkBatches;
+        return this;
+    }
+
     @Override
     public void customizeJdbi(final Jdbi jdbi) throws SQLException {
         jdbi.getConfig(SqlStatements.class).addContextListener(new TracingListener());
     }
 
+    boolean shouldSample() {
+        final double ratio = samplingRatio;
+        if (ratio < 1.0d && (ratio <= 0.0d || ThreadLocalRandom.current().nextDouble() >= ratio)) {
+            return false;
+        }
+        return rateLimiter.tryAcquire(System.nanoTime());
+    }
+
     class TracingListener implements StatementContextListener {
         @Override
         public void contextCreated(final StatementContext ctx) {
-            final var span = tracer.spanBuilder("jdbi." + ctx.describeJdbiStatementType())
-                    .startSpan();
-            final var spanContext = span.getSpanContext();
-            if (spanContext.isValid()) {
-                ctx.setTraceId(spanContext.getTraceId());
+            final long thresholdNanos = slowStatementThresholdNanos;
+
+            if (shouldSample()) {
+                final var span = spanBuilder(ctx, Context.current()).startSpan();
+                final var spanContext = span.getSpanContext();
+                if (spanContext.isValid()) {
+                    final long start = thresholdNanos > 0 ? System.nanoTime() : 0;
+                    ctx.setTraceId(spanContext.getTraceId());
+                    ctx.addCleanable(() -> {
+                        final boolean describeBinding = thresholdNanos == 0 || System.nanoTime() - start >= thresholdNanos;
+                        addAttributes(span, ctx, describeBinding);
+                        span.end();
+                    });
+                }
+            } else if (thresholdNanos > 0) {
+                // only pay for a span if the statement turns out to be slow
+                final long start = System.nanoTime();
+                final Context parent = Context.current();
                 ctx.addCleanable(() -> {
-                    final var stmtConfig = ctx.getConfig(SqlStatements.class);
-                    final String renderedSql = ctx.getRenderedSql();
-                    if (renderedSql != null) {
-                        span.setAttribute(SQL, renderedSql.substring(0,
-                                Math.min(renderedSql.length(), stmtConfig.getJfrSqlMaxLength())));
+                    final long elapsed = System.nanoTime() - start;
+                    if (elapsed >= thresholdNanos) {
+                        final long end = epochNanos(Instant.now());
+                        final var span = spanBuilder(ctx, parent)
+                                .setStartTimestamp(end - elapsed, TimeUnit.NANOSECONDS)
+                                .startSpan();
+                        addAttributes(span, ctx, true);
+                        span.end(end, TimeUnit.NANOSECONDS);
                     }
-                    span.setAttribute(BINDING, ctx.getBinding().describe(stmtConfig.getJfrParamMaxLength()));
-                    span.setAttribute(NUM_ROWS, ctx.getMappedRows());
-                    span.end();
                 });
             }
         }
+
+        private SpanBuilder spanBuilder(final StatementContext ctx, final Context parent) {
+            final var builder = tracer.spanBuilder("jdbi." + ctx.describeJdbiStatementType());
+            if (linkBatches && isBatch(ctx)) {
+                final SpanContext parentSpanContext = Span.fromContext(parent).getSpanContext();
+                builder.setNoParent();
+                if (parentSpanContext.isValid()) {
+                    builder.addLink(parentSpanContext);
+                }
+            } else {
+                builder.setParent(parent);
+            }
+            return builder;
+        }
+
+        private void addAttributes(final Span span, final StatementContext ctx, final boolean describeBinding) {
+            final var stmtConfig = ctx.getConfig().lookup(SqlStatements.class);
+            final String renderedSql = ctx.getRenderedSql();
+            if (renderedSql != null) {
+                span.setAttribute(SQL, renderedSql.substring(0,
+                        Math.min(renderedSql.length(), stmtConfig.getJfrSqlMaxLength())));
+            }
+            if (describeBinding) {
+                span.setAttribute(BINDING, ctx.getBinding().describe(stmtConfig.getJfrParamMaxLength()));
+            }
+            span.setAttribute(NUM_ROWS, ctx.getMappedRows());
+        }
+    }
+
+    private static boolean isBatch(final StatementContext ctx) {
+        final var type = ctx.getJdbiStatementType();
+        return type instanceof Class<?>
+                && (PreparedBatch.class.isAssignableFrom((Class<?>) type) || Batch.class.isAssignableFrom((Class<?>) type));
+    }
+
+    private static long epochNanos(final Instant instant) {
+        return TimeUnit.SECONDS.toNanos(instant.getEpochSecond()) + instant.getNano();
+    }
+
+    /** Counts sampled statements in one second windows. */
+    static final class RateLimiter {
+        private volatile long maxPerSecond;
+        private final AtomicLong window = new AtomicLong();
+        private final AtomicLong count = new AtomicLong();
+
+        boolean tryAcquire(final long nanoTime) {
+            final long max = maxPerSecond;
+            if (max == 0) {
+                return true;
+            }
+            final long currentWindow = TimeUnit.NANOSECONDS.toSeconds(nanoTime);
+            final long lastWindow = window.get();
+            if (currentWindow != lastWindow && window.compareAndSet(lastWindow, currentWindow)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= max;
+        }
     }
 }
@@ -42,7 +42,7 @@ class BlobInputStreamArgumentFactory extends AbstractArgumentFactory<InputStream
 
         @Override
         public void apply(int pos, PreparedStatement stmt, StatementContext ctx) throws SQLException {
-            PgLobApi lob = ctx.getConfig(PostgresTypes.class).getLobApi();
+            PgLobApi lob = ctx.getConfig().lookup(PostgresTypes.class).getLobApi();
             long oid = lob.createLob();
             lob.writeLob(oid, value);
             stmt.setLong(pos, oid);
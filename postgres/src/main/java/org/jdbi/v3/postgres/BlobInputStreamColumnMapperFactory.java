@@ -35,7 +35,7 @@ class BlobInputStreamColumnMapperFactory implements ColumnMapperFactory {
     static class LobColumnMapper implements ColumnMapper<InputStream> {
         @Override
         public InputStream map(ResultSet r, int columnNumber, StatementContext ctx) throws SQLException {
-            return ctx.getConfig(PostgresTypes.class)
+            return ctx.getConfig().lookup(PostgresTypes.class)
                     .getLobApi()
                     .readLob(r.getLong(columnNumber));
         }
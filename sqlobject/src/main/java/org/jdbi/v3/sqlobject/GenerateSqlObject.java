@@ -24,4 +24,21 @@ import java.lang.annotation.Target;
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
-public @interface GenerateSqlObject {}
+public @interface GenerateSqlObject {
+
+    /**
+     * If true, the annotation processor creates specialized code for simple {@code @SqlQuery} and {@code @SqlUpdate}
+     * methods. A specialized method creates, binds and executes its statement directly instead of calling the
+     * reflective statement handler. Arguments are still bound and results still mapped using the configured argument
+     * factories, mappers and collectors.
+     * <br>
+     * A method is specialized if all of its parameters are annotated with either {@code @Bind} with an explicit name
+     * or {@code @BindBean}, it has no other annotations except configuration annotations (e.g.
+     * {@code @RegisterConstructorMapper}). Queries must not return a stream or an iterator. All other methods, and all
+     * methods whose handler is replaced or decorated at runtime, use the regular statement handlers.
+     *
+     * @return true if simple SQL methods should be specialized
+     * @since 3.50.0
+     */
+    boolean specialize() default false;
+}
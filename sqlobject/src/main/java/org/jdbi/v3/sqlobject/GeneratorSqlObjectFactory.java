@@ -71,7 +71,7 @@ final class GeneratorSqlObjectFactory extends AbstractSqlObjectFactory implement
 
         ConfigRegistry config = handleSupplier.getConfig();
 
-        final ExtensionMetadata extensionMetaData = config.get(Extensions.class).findMetadata(extensionType, this);
+        final ExtensionMetadata extensionMetaData = config.lookup(Extensions.class).findMetadata(extensionType, this);
         final ConfigRegistry instanceConfig = extensionMetaData.createInstanceConfiguration(config);
 
         return (E) attachedTypeCache.computeIfAbsent(extensionType, GeneratorSqlObjectFactory::getGeneratedClass)
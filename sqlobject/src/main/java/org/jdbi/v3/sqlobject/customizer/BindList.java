@@ -19,6 +19,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import org.jdbi.v3.core.statement.SqlStatement;
+import org.jdbi.v3.meta.Beta;
 import org.jdbi.v3.sqlobject.customizer.internal.BindListFactory;
 
 import static org.jdbi.v3.core.statement.EmptyHandling.BLANK;
@@ -37,6 +38,9 @@ import static org.jdbi.v3.core.statement.EmptyHandling.NULL_KEYWORD;
  * </pre>
  * <p>
  * Throws IllegalArgumentException if the argument is not an array or Iterable. How null and empty collections are handled can be configured with onEmpty:EmptyHandling - throws IllegalArgumentException by default.
+ * <p>
+ * With {@code mode = Mode.ARRAY}, the values are bound as a single SQL array parameter, which is much cheaper for large lists
+ * on databases that support arrays.
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ElementType.PARAMETER})
@@ -59,6 +63,17 @@ public @interface BindList {
      */
     EmptyHandling onEmpty() default BindList.EmptyHandling.THROW;
 
+    /**
+     * How the values are bound. {@link Mode#ARRAY} binds a single SQL array parameter instead of one parameter for
+     * each value.
+     *
+     * @return The binding mode. By default, one parameter is bound for each value.
+     *
+     * @since 3.50.0
+     */
+    @Beta
+    Mode mode() default Mode.PARAMETERS;
+
     // TODO jdbi4 remove this duplicate of `core` EmptyHandling
     /**
      * describes what needs to be done if the passed argument is null or empty
@@ -114,4 +129,26 @@ public @interface BindList {
             return coreImpl;
         }
     }
+
+    /**
+     * describes how the values of the argument are bound
+     *
+     * @since 3.50.0
+     */
+    @Beta
+    enum Mode {
+        /**
+         * Bind one parameter for each value and define the attribute as the comma-separated list of parameters.
+         *
+         * @see SqlStatement#bindList(java.util.function.BiConsumer, String, java.util.List)
+         */
+        PARAMETERS,
+        /**
+         * Bind all values as a single SQL array parameter and define the attribute as the expression configured
+         * in {@link org.jdbi.v3.core.array.SqlArrayTypes#setListExpression(org.jdbi.v3.core.array.SqlArrayListExpression)}.
+         *
+         * @see SqlStatement#bindListAsArray(java.util.function.BiConsumer, String, java.lang.reflect.Type, java.util.List)
+         */
+        ARRAY
+    }
 }
@@ -52,12 +52,12 @@ public class BindFactory implements SqlStatementCustomizerFactory {
 
             @Override
             public void warm(ConfigRegistry config) {
-                config.get(Mappers.class).findFor(qualifiedType(config));
+                config.lookup(Mappers.class).findFor(qualifiedType(config));
             }
 
             private QualifiedType<?> qualifiedType(ConfigRegistry config) {
                 return QualifiedType.of(type).withAnnotations(
-                        config.get(Qualifiers.class).findFor(param));
+                        config.lookup(Qualifiers.class).findFor(param));
             }
         };
     }
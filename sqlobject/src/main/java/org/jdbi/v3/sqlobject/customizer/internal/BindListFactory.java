@@ -38,6 +38,14 @@ public final class BindListFactory implements SqlStatementCustomizerFactory {
                         + "and parameter name data is not present in the class file, for: "
                         + param.getDeclaringExecutable() + "::" + param));
 
+        if (bindList.mode() == BindList.Mode.ARRAY) {
+            final Type elementType = IterableLike.elementTypeOf(type)
+                    .orElseThrow(() -> new UnsupportedOperationException("The element type of a @BindList(mode = ARRAY) parameter "
+                            + "could not be determined, for: " + param.getDeclaringExecutable() + "::" + param));
+
+            return (stmt, arg) -> stmt.bindListAsArray(bindList.onEmpty().getCoreImpl(), name, elementType, arg == null ? null : IterableLike.toList(arg));
+        }
+
         return (stmt, arg) -> stmt.bindList(bindList.onEmpty().getCoreImpl(), name, arg == null ? null : IterableLike.toList(arg));
     }
 }
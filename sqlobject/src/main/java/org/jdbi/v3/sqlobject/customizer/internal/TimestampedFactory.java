@@ -34,7 +34,7 @@ public class TimestampedFactory implements SqlStatementCustomizerFactory {
         final String parameterName = ((Timestamped) annotation).value();
 
         return stmt -> {
-            ZoneId zone = stmt.getConfig(TimestampedConfig.class).getTimezone();
+            ZoneId zone = stmt.getConfig().lookup(TimestampedConfig.class).getTimezone();
             stmt.bind(parameterName, OffsetDateTime.now(timeSource.apply(zone)));
         };
     }
@@ -36,9 +36,9 @@ public class CreateSqlObjectHandler implements ExtensionHandler {
         ConfigRegistry config = handleSupplier.getConfig();
 
         if (handleSupplier instanceof OnDemandHandleSupplier) {
-            return config.get(OnDemandExtensions.class).create(handleSupplier.getJdbi(), method.getReturnType(), SqlObject.class);
+            return config.lookup(OnDemandExtensions.class).create(handleSupplier.getJdbi(), method.getReturnType(), SqlObject.class);
         }
-        return config.get(Extensions.class)
+        return config.lookup(Extensions.class)
                 .findFactory(SqlObjectFactory.class)
                 .orElseThrow(() -> new IllegalStateException("Can't locate SqlObject factory"))
                 .attach(method.getReturnType(), handleSupplier);
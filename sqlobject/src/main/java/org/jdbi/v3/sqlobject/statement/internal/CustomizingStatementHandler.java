@@ -35,6 +35,7 @@ import org.jdbi.v3.core.generic.GenericTypes;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.result.RowReducer;
 import org.jdbi.v3.core.statement.SqlStatement;
+import org.jdbi.v3.core.statement.SqlStatements;
 import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
 import org.jdbi.v3.sqlobject.SqlObjects;
 import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizer;
@@ -87,6 +88,15 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
         statementCustomizers.forEach(s -> s.warm(config));
     }
 
+    /**
+     * Locates the SQL for the method and adds the parsed SQL to the caches.
+     */
+    @Override
+    public void warmUp(ConfigRegistry config) {
+        final String locatedSql = config.lookup(SqlObjects.class).getSqlLocator().locate(sqlObjectType, method, config);
+        config.lookup(SqlStatements.class).warmTemplate(locatedSql);
+    }
+
     private static Stream<Annotation> annotationsFor(AnnotatedElement... elements) {
         return Stream.of(elements)
                 .map(AnnotatedElement::getAnnotations)
@@ -171,7 +181,7 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
     }
 
     private static ParameterCustomizerFactory getDefaultParameterCustomizerFactory(ConfigRegistry config) {
-        return config.get(SqlObjects.class).getDefaultParameterCustomizerFactory();
+        return config.lookup(SqlObjects.class).getDefaultParameterCustomizerFactory();
     }
 
     private static SqlStatementCustomizerFactory instantiateFactory(Annotation annotation) {
@@ -211,7 +221,8 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
     abstract StatementType createStatement(Handle handle, String locatedSql);
 
     String locateSql(final Handle h) {
-        return h.getConfig(SqlObjects.class).getSqlLocator().locate(sqlObjectType, method, h.getConfig());
+        final ConfigRegistry config = h.getConfig();
+        return config.lookup(SqlObjects.class).getSqlLocator().locate(sqlObjectType, method, config);
     }
 
     Method getMethod() {
@@ -141,7 +141,7 @@ abstract class ResultReturner {
 
     protected void warm(ConfigRegistry config) {
         Optional.ofNullable(elementType(config))
-            .ifPresent(config.get(Mappers.class)::findFor);
+            .ifPresent(config.lookup(Mappers.class)::findFor);
     }
 
     private static Object checkResult(Object result, QualifiedType<?> type) {
@@ -330,13 +330,13 @@ abstract class ResultReturner {
         @Override
         protected void warm(ConfigRegistry config) {
             super.warm(config);
-            config.get(JdbiCollectors.class).findFor(returnType.getType());
+            config.lookup(JdbiCollectors.class).findFor(returnType.getType());
         }
 
         @Override
         protected QualifiedType<?> elementType(ConfigRegistry config) {
             // if returnType is not supported by a collector factory, assume it to be a single-value return type.
-            return returnType.flatMapType(type -> config.get(JdbiCollectors.class).findElementTypeFor(type))
+            return returnType.flatMapType(type -> config.lookup(JdbiCollectors.class).findElementTypeFor(type))
                 .orElse(returnType);
         }
     }
@@ -378,7 +378,7 @@ abstract class ResultReturner {
 
         @SuppressWarnings("unchecked")
         private Consumer<Object> findConsumer(StatementContext ctx) {
-            return (Consumer<Object>) ctx.getConfig(SqlObjectStatementConfiguration.class)
+            return (Consumer<Object>) ctx.getConfig().lookup(SqlObjectStatementConfiguration.class)
                 .getArgs()[consumerIndex];
         }
 
@@ -474,7 +474,7 @@ abstract class ResultReturner {
 
         @SuppressWarnings("unchecked")
         private Function<Object, R> findFunction(StatementContext ctx) {
-            return (Function<Object, R>) ctx.getConfig(SqlObjectStatementConfiguration.class)
+            return (Function<Object, R>) ctx.getConfig().lookup(SqlObjectStatementConfiguration.class)
                 .getArgs()[functionIndex];
         }
 
@@ -0,0 +1,97 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlobject.statement.internal;
+
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.extension.ExtensionMetadata.ExtensionHandlerInvoker;
+import org.jdbi.v3.core.generic.GenericTypes;
+import org.jdbi.v3.core.internal.UtilityClassException;
+import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.core.qualifier.Qualifiers;
+import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.sqlobject.SqlObjects;
+
+/**
+ * Support code for the specialized SQL methods that the {@code jdbi3-generator} annotation processor creates. The
+ * generated code creates, binds and executes the statement itself and uses these methods for everything that depends
+ * on the runtime configuration.
+ */
+public final class SpecializedStatements {
+
+    private SpecializedStatements() {
+        throw new UtilityClassException();
+    }
+
+    /**
+     * Returns true if the invoker calls the plain {@link SqlQueryHandler} or {@link SqlUpdateHandler} for its method.
+     * If the handler was replaced or decorated, the generated code must call the invoker instead.
+     *
+     * @param invoker the invoker for a SQL method
+     * @return true if the generated code may execute the statement directly
+     */
+    public static boolean isSpecializable(ExtensionHandlerInvoker invoker) {
+        final Class<?> handlerType = invoker.getExtensionHandler().getClass();
+        return handlerType == SqlQueryHandler.class || handlerType == SqlUpdateHandler.class;
+    }
+
+    /**
+     * Locates the SQL for a method with the configured {@link org.jdbi.v3.sqlobject.locator.SqlLocator}.
+     *
+     * @param handle        the handle that executes the statement
+     * @param sqlObjectType the SQL object type
+     * @param method        the SQL method
+     * @return the SQL for the statement
+     */
+    public static String locateSql(Handle handle, Class<?> sqlObjectType, Method method) {
+        final ConfigRegistry config = handle.getConfig();
+        return config.lookup(SqlObjects.class).getSqlLocator().locate(sqlObjectType, method, config);
+    }
+
+    /**
+     * Returns the type that is used to bind a method parameter.
+     *
+     * @param sqlObjectType the SQL object type
+     * @param method        the SQL method
+     * @param index         the index of the parameter
+     * @return the parameter type, resolved against the SQL object type
+     */
+    public static QualifiedType<?> parameterType(Class<?> sqlObjectType, Method method, int index) {
+        return QualifiedType.of(GenericTypes.resolveType(method.getGenericParameterTypes()[index], sqlObjectType));
+    }
+
+    /**
+     * Returns a function that maps the results of a query to the return type of a method. The results are mapped in
+     * the same way as by the {@link SqlQueryHandler}: a collector is used if one is registered for the return type,
+     * otherwise the first row is returned.
+     *
+     * @param sqlObjectType the SQL object type
+     * @param method        the SQL method
+     * @return a function that executes a query and returns the method result
+     */
+    public static Function<Query, Object> resultMapper(Class<?> sqlObjectType, Method method) {
+        final QualifiedType<?> returnType = QualifiedType.of(GenericTypes.resolveType(method.getGenericReturnType(), sqlObjectType))
+                .withAnnotations(new Qualifiers().findFor(method));
+        final ResultReturner resultReturner = new ResultReturner.CollectedResultReturner<>(returnType);
+
+        return query -> {
+            final StatementContext ctx = query.getContext();
+            return resultReturner.mappedResult(query.mapTo(resultReturner.elementType(ctx.getConfig())), ctx);
+        };
+    }
+}
@@ -41,10 +41,10 @@ public class SqlCallHandler extends CustomizingStatementHandler<Call> {
             final int pIdx = idx;
             Parameter p = method.getParameters()[idx];
             if (p.getType().equals(Function.class)) {
-                return (outParameters, call) -> ((Function) call.getConfig(SqlObjectStatementConfiguration.class).getArgs()[pIdx]).apply(outParameters);
+                return (outParameters, call) -> ((Function) call.getConfig().lookup(SqlObjectStatementConfiguration.class).getArgs()[pIdx]).apply(outParameters);
             } else if (p.getType().equals(Consumer.class)) {
                 return (outParameters, call) -> {
-                    ((Consumer) call.getConfig(SqlObjectStatementConfiguration.class).getArgs()[pIdx]).accept(outParameters);
+                    ((Consumer) call.getConfig().lookup(SqlObjectStatementConfiguration.class).getArgs()[pIdx]).accept(outParameters);
                     return null;
                 };
             }
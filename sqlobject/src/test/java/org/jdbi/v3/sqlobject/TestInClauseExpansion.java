@@ -50,9 +50,25 @@ public class TestInClauseExpansion {
         assertThat(dao.findIdsForNames(asList(1, 2))).containsExactly("Brian", "Jeff");
     }
 
+    @Test
+    public void testInClauseArray() {
+        handle.execute("insert into something (name, id) values ('Brian', 1), ('Jeff', 2), ('Tom', 3)");
+
+        DAO dao = handle.attach(DAO.class);
+
+        assertThat(dao.findNamesForIdArray(asList(1, 3))).containsExactly("Brian", "Tom");
+        assertThat(dao.findNamesForIdVarargs(2, 3)).containsExactly("Jeff", "Tom");
+    }
+
     public interface DAO {
         @SqlQuery("select name from something where id in (<names>)")
         ImmutableSet<String> findIdsForNames(@BindList List<Integer> names);
+
+        @SqlQuery("select name from something where id in (<ids>) order by id")
+        List<String> findNamesForIdArray(@BindList(mode = BindList.Mode.ARRAY) List<Integer> ids);
+
+        @SqlQuery("select name from something where id in (<ids>) order by id")
+        List<String> findNamesForIdVarargs(@BindList(mode = BindList.Mode.ARRAY) int... ids);
     }
 
 }
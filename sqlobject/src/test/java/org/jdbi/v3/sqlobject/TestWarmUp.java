@@ -0,0 +1,151 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlobject;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.extension.NoSuchExtensionException;
+import org.jdbi.v3.core.statement.ColonPrefixSqlParser;
+import org.jdbi.v3.core.statement.ParsedSql;
+import org.jdbi.v3.core.statement.SqlParser;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.locator.AnnotationSqlLocator;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestWarmUp {
+
+    @RegisterExtension
+    public JdbiExtension h2Extension = JdbiExtension.h2().withPlugin(new SqlObjectPlugin());
+
+    private final RecordingSqlParser sqlParser = new RecordingSqlParser();
+    private final AtomicInteger locateCount = new AtomicInteger();
+
+    private Jdbi jdbi;
+
+    @BeforeEach
+    public void setUp() {
+        AnnotationSqlLocator annotationSqlLocator = new AnnotationSqlLocator();
+
+        jdbi = h2Extension.getJdbi();
+        jdbi.setSqlParser(sqlParser);
+        jdbi.getConfig(SqlObjects.class).setSqlLocator((sqlObjectType, method, config) -> {
+            locateCount.incrementAndGet();
+            return annotationSqlLocator.locate(sqlObjectType, method, config);
+        });
+        jdbi.useHandle(h -> h.execute("create table something (id integer, name varchar(50))"));
+        sqlParser.parsed.clear();
+    }
+
+    @Test
+    public void testWarmUpParsesSql() {
+        jdbi.warmUp(Dao.class);
+
+        assertThat(sqlParser.parsed).containsExactlyInAnyOrder(
+            "insert into something (id, name) values (:id, :name)",
+            "select name from something where id = :id");
+        assertThat(locateCount).hasValue(3);
+    }
+
+    @Test
+    public void testAttachUsesWarmedConfiguration() {
+        jdbi.warmUp(Dao.class);
+
+        try (Handle handle = jdbi.open()) {
+            Dao dao = handle.attach(Dao.class);
+            assertThat(locateCount).hasValue(3);
+
+            dao.insert(1, "Bella");
+            assertThat(dao.findName(1)).isEqualTo("Bella");
+            assertThat(dao.findNameFrom("something", 1)).isEqualTo("Bella");
+        }
+    }
+
+    @Test
+    public void testWithHandleUsesWarmedConfiguration() {
+        jdbi.warmUp(Dao.class);
+
+        String name = jdbi.withHandle(handle -> {
+            Dao dao = handle.attach(Dao.class);
+            assertThat(locateCount).hasValue(3);
+
+            dao.insert(1, "Bella");
+            return dao.findName(1);
+        });
+
+        assertThat(name).isEqualTo("Bella");
+        assertThat(sqlParser.parsed).containsExactlyInAnyOrder(
+            "insert into something (id, name) values (:id, :name)",
+            "select name from something where id = :id");
+    }
+
+    @Test
+    public void testAttachDoesNotParseSql() {
+        try (Handle handle = jdbi.open()) {
+            handle.attach(Dao.class);
+        }
+
+        assertThat(locateCount).hasValue(0);
+        assertThat(sqlParser.parsed).isEmpty();
+    }
+
+    @Test
+    public void testWarmUpUnknownType() {
+        assertThatThrownBy(() -> jdbi.warmUp(String.class))
+            .isInstanceOf(NoSuchExtensionException.class);
+    }
+
+    public interface Dao {
+
+        @SqlUpdate("insert into something (id, name) values (:id, :name)")
+        void insert(@Bind("id") int id, @Bind("name") String name);
+
+        @SqlQuery("select name from something where id = :id")
+        String findName(@Bind("id") int id);
+
+        // needs the table attribute, so it can not be rendered ahead of time
+        @SqlQuery("select name from <table> where id = :id")
+        String findNameFrom(@Define("table") String table, @Bind("id") int id);
+    }
+
+    private static final class RecordingSqlParser implements SqlParser {
+
+        private final SqlParser delegate = new ColonPrefixSqlParser();
+        private final Set<String> parsed = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public ParsedSql parse(String sql, StatementContext ctx) {
+            parsed.add(sql);
+            return delegate.parse(sql, ctx);
+        }
+
+        @Override
+        public String nameParameter(String rawName, StatementContext ctx) {
+            return delegate.nameParameter(rawName, ctx);
+        }
+    }
+}
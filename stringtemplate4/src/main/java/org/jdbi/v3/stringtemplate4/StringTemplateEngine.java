@@ -56,7 +56,7 @@ public class StringTemplateEngine implements TemplateEngine {
                 case NO_SUCH_PROPERTY:
                     break;
                 case NO_SUCH_ATTRIBUTE:
-                    if (!ctx.getConfig(StringTemplates.class).isFailOnMissingAttribute()) {
+                    if (!ctx.getConfig().lookup(StringTemplates.class).isFailOnMissingAttribute()) {
                         break;
                     }
                 // fallthrough